@@ -0,0 +1,179 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - API analysis in background jobs
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.builder.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IWorkspaceRoot;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.core.runtime.jobs.JobGroup;
+import org.eclipse.pde.api.tools.internal.builder.ApiAnalysisBuilder;
+import org.eclipse.pde.api.tools.internal.builder.ApiAnalysisBuilder.ApiAnalysisMarkersJob;
+import org.eclipse.pde.internal.core.ICoreConstants;
+import org.eclipse.pde.internal.core.PDECore;
+import org.eclipse.pde.internal.core.PDEPreferencesManager;
+import org.junit.Test;
+
+/**
+ * Tests the scheduling of the API analysis jobs and of their marker updates
+ * when API analysis runs in the background
+ */
+public class ApiAnalysisJobsTests {
+
+	/**
+	 * Tests that the failure of the analysis of one project does not cancel the
+	 * analysis of the projects queued in the same group
+	 */
+	@Test
+	public void testFailingJobDoesNotCancelOthers() throws Exception {
+		JobGroup group = ApiAnalysisBuilder.createAnalysisGroup(1);
+		CountDownLatch failingStarted = new CountDownLatch(1);
+		CountDownLatch othersScheduled = new CountDownLatch(1);
+		Job failing = Job.create("failing analysis", monitor -> { //$NON-NLS-1$
+			failingStarted.countDown();
+			await(othersScheduled);
+			return Status.error("analysis failed"); //$NON-NLS-1$
+		});
+		failing.setJobGroup(group);
+		failing.schedule();
+		assertTrue(failingStarted.await(10, TimeUnit.SECONDS));
+
+		AtomicInteger analyzed = new AtomicInteger();
+		List<Job> others = new ArrayList<>();
+		for (int i = 0; i < 3; i++) {
+			Job other = Job.create("analysis " + i, monitor -> { //$NON-NLS-1$
+				analyzed.incrementAndGet();
+				return Status.OK_STATUS;
+			});
+			other.setJobGroup(group);
+			other.schedule();
+			others.add(other);
+		}
+		othersScheduled.countDown();
+		group.join(0, null);
+
+		assertEquals(IStatus.ERROR, failing.getResult().getSeverity());
+		assertEquals(3, analyzed.get());
+		for (Job other : others) {
+			assertEquals(IStatus.OK, other.getResult().getSeverity());
+		}
+	}
+
+	/**
+	 * Tests that a group does not run more analysis jobs at the same time than
+	 * its parallelism
+	 */
+	@Test
+	public void testParallelismIsBounded() throws Exception {
+		JobGroup group = ApiAnalysisBuilder.createAnalysisGroup(2);
+		AtomicInteger running = new AtomicInteger();
+		AtomicInteger maxRunning = new AtomicInteger();
+		AtomicInteger analyzed = new AtomicInteger();
+		for (int i = 0; i < 8; i++) {
+			Job job = Job.create("analysis " + i, monitor -> { //$NON-NLS-1$
+				maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+				// give the other jobs of the group a chance to start
+				Thread.yield();
+				running.decrementAndGet();
+				analyzed.incrementAndGet();
+				return Status.OK_STATUS;
+			});
+			job.setJobGroup(group);
+			job.schedule();
+		}
+		group.join(0, null);
+
+		assertEquals(8, analyzed.get());
+		assertTrue("at most 2 jobs at the same time, was " + maxRunning.get(), maxRunning.get() <= 2); //$NON-NLS-1$
+	}
+
+	/**
+	 * Tests that the parallelism is read from the preference and defaults to
+	 * the number of available processors
+	 */
+	@Test
+	public void testParallelismPreference() {
+		PDEPreferencesManager preferences = PDECore.getDefault().getPreferencesManager();
+		try {
+			preferences.setValue(ICoreConstants.API_ANALYSIS_PARALLELISM, 3);
+			assertEquals(3, ApiAnalysisBuilder.getAnalysisParallelism());
+			preferences.setValue(ICoreConstants.API_ANALYSIS_PARALLELISM, 0);
+			assertEquals(Runtime.getRuntime().availableProcessors(), ApiAnalysisBuilder.getAnalysisParallelism());
+		} finally {
+			preferences.setToDefault(ICoreConstants.API_ANALYSIS_PARALLELISM);
+		}
+	}
+
+	/**
+	 * Tests that marker updates queued while the marker job of a project waits
+	 * for its rule are applied by one run of that job, in their submission
+	 * order
+	 */
+	@Test
+	public void testMarkerUpdatesAreBatched() throws Exception {
+		IWorkspaceRoot root = ResourcesPlugin.getWorkspace().getRoot();
+		IProject[] projects = { root.getProject("batch.first"), root.getProject("batch.second") }; //$NON-NLS-1$ //$NON-NLS-2$
+		ApiAnalysisMarkersJob[] jobs = { new ApiAnalysisMarkersJob(projects[0]), new ApiAnalysisMarkersJob(projects[1]) };
+		List<String> applied = Collections.synchronizedList(new ArrayList<>());
+		Set<Job> batches = Collections.synchronizedSet(new HashSet<>());
+
+		// hold the workspace so the updates queue up
+		Job.getJobManager().beginRule(root, null);
+		try {
+			for (int i = 0; i < 5; i++) {
+				for (int j = 0; j < projects.length; j++) {
+					String update = projects[j].getName() + ' ' + i;
+					jobs[j].submit(() -> {
+						batches.add(Job.getJobManager().currentJob());
+						applied.add(update);
+					});
+				}
+			}
+		} finally {
+			Job.getJobManager().endRule(root);
+		}
+		Job.getJobManager().join(ApiAnalysisMarkersJob.class, null);
+
+		assertEquals(10, applied.size());
+		for (IProject project : projects) {
+			List<String> updates = applied.stream().filter(update -> update.startsWith(project.getName() + ' ')).toList();
+			for (int i = 0; i < 5; i++) {
+				assertEquals(project.getName() + ' ' + i, updates.get(i));
+			}
+		}
+		assertEquals(Set.of(jobs[0], jobs[1]), batches);
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(10, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
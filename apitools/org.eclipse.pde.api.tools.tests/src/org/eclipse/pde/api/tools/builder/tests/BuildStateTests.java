@@ -0,0 +1,142 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - persistent API build state and delta log
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.builder.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.util.Map;
+
+import org.eclipse.pde.api.tools.internal.builder.BuildState;
+import org.eclipse.pde.api.tools.internal.comparator.Delta;
+import org.eclipse.pde.api.tools.internal.provisional.comparator.IDelta;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests the persistence of the {@link BuildState} and its delta log
+ */
+public class BuildStateTests {
+
+	private static final int TYPES = 200;
+
+	@Rule
+	public final TemporaryFolder folder = new TemporaryFolder();
+
+	/**
+	 * Tests that all recorded changes and settings are restored
+	 */
+	@Test
+	public void testStateIsRestored() throws Exception {
+		File file = new File(folder.getRoot(), "state.dat"); //$NON-NLS-1$
+		BuildState state = createState();
+		state.setBuildPathCRC(42L);
+		state.setManifestState(Map.of("Bundle-Version", "1.0.0")); //$NON-NLS-1$ //$NON-NLS-2$
+		BuildState.write(state, file);
+
+		BuildState restored = BuildState.read(file);
+		assertNotNull(restored);
+		assertEquals(42L, restored.getBuildPathCRC());
+		assertEquals("1.0.0", restored.getManifestState().get("Bundle-Version")); //$NON-NLS-1$ //$NON-NLS-2$
+		assertEquals(TYPES, restored.getCompatibleChanges().length);
+		assertEquals(TYPES / 2, restored.getBreakingChanges().length);
+	}
+
+	/**
+	 * Tests that saving an incremental change only appends the entries of the
+	 * changed types
+	 */
+	@Test
+	public void testIncrementalSaveAppends() throws Exception {
+		File file = new File(folder.getRoot(), "state.dat"); //$NON-NLS-1$
+		File log = new File(folder.getRoot(), "deltas.dat"); //$NON-NLS-1$
+		BuildState.write(createState(), file);
+		long fullLength = log.length();
+
+		BuildState state = BuildState.read(file);
+		state.cleanup(typeName(0));
+		state.cleanup(typeName(1));
+		state.addBreakingChange(createDelta(typeName(1), "m2()V")); //$NON-NLS-1$
+		BuildState.write(state, file);
+		long appended = log.length() - fullLength;
+		assertTrue("Appended " + appended + " bytes to a log of " + fullLength, appended > 0 && appended * 20 < fullLength); //$NON-NLS-1$ //$NON-NLS-2$
+
+		state = BuildState.read(file);
+		assertEquals(TYPES - 2, state.getCompatibleChanges().length);
+		assertEquals(TYPES / 2, state.getBreakingChanges().length);
+	}
+
+	/**
+	 * Tests that the log is compacted once it holds mostly superseded entries
+	 */
+	@Test
+	public void testLogIsCompacted() throws Exception {
+		File file = new File(folder.getRoot(), "state.dat"); //$NON-NLS-1$
+		File log = new File(folder.getRoot(), "deltas.dat"); //$NON-NLS-1$
+		BuildState.write(createState(), file);
+		long fullLength = log.length();
+		for (int i = 0; i < 10; i++) {
+			BuildState state = BuildState.read(file);
+			for (int j = 0; j < TYPES; j++) {
+				state.cleanup(typeName(j));
+				state.addCompatibleChange(createDelta(typeName(j), "m()V")); //$NON-NLS-1$
+			}
+			BuildState.write(state, file);
+		}
+		assertTrue("The log was not compacted: " + log.length(), log.length() < 3 * fullLength); //$NON-NLS-1$
+		BuildState state = BuildState.read(file);
+		assertEquals(TYPES, state.getCompatibleChanges().length);
+		assertEquals(0, state.getBreakingChanges().length);
+	}
+
+	/**
+	 * Tests that a state that does not match the delta log is not used
+	 */
+	@Test
+	public void testReplacedLogIsRejected() throws Exception {
+		File file = new File(folder.getRoot(), "state.dat"); //$NON-NLS-1$
+		File other = folder.newFolder("other"); //$NON-NLS-1$
+		BuildState.write(createState(), file);
+		BuildState.write(createState(), new File(other, "state.dat")); //$NON-NLS-1$
+		File log = new File(folder.getRoot(), "deltas.dat"); //$NON-NLS-1$
+		assertTrue(log.delete());
+		assertTrue(new File(other, "deltas.dat").renameTo(log)); //$NON-NLS-1$
+		assertNull(BuildState.read(file));
+	}
+
+	private static BuildState createState() {
+		BuildState state = new BuildState();
+		for (int i = 0; i < TYPES; i++) {
+			String typeName = typeName(i);
+			state.addCompatibleChange(createDelta(typeName, "m()V")); //$NON-NLS-1$
+			if (i % 2 == 0) {
+				state.addBreakingChange(createDelta(typeName, "f")); //$NON-NLS-1$
+			}
+		}
+		return state;
+	}
+
+	private static String typeName(int i) {
+		return "a.b.Type" + i; //$NON-NLS-1$
+	}
+
+	private static IDelta createDelta(String typeName, String key) {
+		return new Delta(null, IDelta.CLASS_ELEMENT_TYPE, IDelta.ADDED, IDelta.METHOD, 0, 0, 0, 0, typeName, key, new String[] { typeName, key });
+	}
+
+}
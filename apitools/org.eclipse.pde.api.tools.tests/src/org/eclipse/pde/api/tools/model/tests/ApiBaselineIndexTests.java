@@ -0,0 +1,140 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - persistent API baseline index
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.model.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.eclipse.pde.api.tools.internal.model.ApiBaselineIndex;
+import org.eclipse.pde.api.tools.tests.util.FileUtils;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests the persistence of the {@link ApiBaselineIndex}
+ */
+public class ApiBaselineIndexTests {
+
+	@Rule
+	public final TemporaryFolder folder = new TemporaryFolder();
+
+	/**
+	 * Tests that indexed information is restored after saving the index
+	 */
+	@Test
+	public void testIndexIsRestored() throws Exception {
+		File archive = createArchive("a.jar", "content"); //$NON-NLS-1$ //$NON-NLS-2$
+		File file = new File(folder.getRoot(), "baseline.index"); //$NON-NLS-1$
+
+		ApiBaselineIndex index = ApiBaselineIndex.load(file);
+		assertNull(index.getManifest(archive));
+		index.putManifest(archive, Map.of("Bundle-SymbolicName", "a", "Bundle-Version", "1.0.0")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+		index.putPackages(archive, createPackages());
+		index.putApiDescription(archive, null);
+		assertTrue(index.isDirty());
+		index.save();
+		assertFalse(index.isDirty());
+
+		index = ApiBaselineIndex.load(file);
+		Map<String, String> manifest = index.getManifest(archive);
+		assertEquals("a", manifest.get("Bundle-SymbolicName")); //$NON-NLS-1$ //$NON-NLS-2$
+		assertEquals("1.0.0", manifest.get("bundle-version")); //$NON-NLS-1$ //$NON-NLS-2$
+		assertEquals(createPackages(), index.getPackages(archive));
+		assertEquals("An archive without API description should be remembered", "", index.getApiDescription(archive)); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	/**
+	 * Tests that information of a changed archive is not used and dropped on
+	 * save
+	 */
+	@Test
+	public void testChangedArchiveIsIgnored() throws Exception {
+		File archive = createArchive("a.jar", "content"); //$NON-NLS-1$ //$NON-NLS-2$
+		File file = new File(folder.getRoot(), "baseline.index"); //$NON-NLS-1$
+
+		ApiBaselineIndex index = ApiBaselineIndex.load(file);
+		index.putApiDescription(archive, "<component/>"); //$NON-NLS-1$
+		index.save();
+
+		createArchive("a.jar", "changed content"); //$NON-NLS-1$ //$NON-NLS-2$
+		archive.setLastModified(archive.lastModified() + 10_000);
+
+		index = ApiBaselineIndex.load(file);
+		assertNull(index.getApiDescription(archive));
+		index.putPackages(archive, createPackages());
+		index.save();
+
+		index = ApiBaselineIndex.load(file);
+		assertEquals(createPackages(), index.getPackages(archive));
+		assertNull("The API description of the old archive should be gone", index.getApiDescription(archive)); //$NON-NLS-1$
+	}
+
+	/**
+	 * Tests that a corrupt index file results in an empty index
+	 */
+	@Test
+	public void testCorruptIndexIsIgnored() throws Exception {
+		File archive = createArchive("a.jar", "content"); //$NON-NLS-1$ //$NON-NLS-2$
+		File file = folder.newFile("baseline.index"); //$NON-NLS-1$
+		try (FileOutputStream out = new FileOutputStream(file)) {
+			out.write(new byte[] { 'A', 'P', 'I', 'X', 0, 0, 0, 1, 0, 0, 0, 5 });
+		}
+		ApiBaselineIndex index = ApiBaselineIndex.load(file);
+		assertNull(index.getPackages(archive));
+		index.putPackages(archive, createPackages());
+		index.save();
+		assertEquals(createPackages(), ApiBaselineIndex.load(file).getPackages(archive));
+	}
+
+	/**
+	 * Tests that an index that could not be written is saved again later
+	 */
+	@Test
+	public void testFailedSaveKeepsIndexDirty() throws Exception {
+		File archive = createArchive("a.jar", "content"); //$NON-NLS-1$ //$NON-NLS-2$
+		File blocker = folder.newFile("blocker"); //$NON-NLS-1$
+		File file = new File(blocker, "baseline.index"); //$NON-NLS-1$
+
+		ApiBaselineIndex index = ApiBaselineIndex.load(file);
+		index.putPackages(archive, createPackages());
+		assertThrows(IOException.class, index::save);
+		assertTrue(index.isDirty());
+
+		assertTrue(blocker.delete());
+		index.save();
+		assertFalse(index.isDirty());
+		assertEquals(createPackages(), ApiBaselineIndex.load(file).getPackages(archive));
+	}
+
+	private static Map<String, Map<String, String>> createPackages() {
+		Map<String, Map<String, String>> packages = new TreeMap<>();
+		packages.put("a.b", Map.of("a.b.C", "a/b/C.class", "a.b.D", "a/b/D.class")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$ //$NON-NLS-5$
+		packages.put("", Map.of("E", "E.class")); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+		return packages;
+	}
+
+	private File createArchive(String name, String content) throws IOException {
+		return FileUtils.zip(new File(folder.getRoot(), name), Map.of("content.txt", content)); //$NON-NLS-1$
+	}
+
+}
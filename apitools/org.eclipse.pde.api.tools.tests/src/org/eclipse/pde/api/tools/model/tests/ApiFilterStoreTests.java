@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2024 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -19,6 +19,7 @@ import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
 import java.io.File;
+import java.util.Arrays;
 
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.IResource;
@@ -232,6 +233,46 @@ public class ApiFilterStoreTests extends AbstractApiTest {
 		assertFalse("src/x/y/z/C4.java should not have a filter", store.isFiltered(problem)); //$NON-NLS-1$
 	}
 
+	/**
+	 * Tests that a filter with simple names as message arguments filters the
+	 * problem with qualified names but not a problem for another type
+	 */
+	@Test
+	public void testQualifiedArgumentsMatchFilter() throws CoreException {
+		IApiComponent component = getProjectApiComponent(TESTING_PLUGIN_PROJECT_NAME);
+		assertNotNull("the testing project api component must exist", component); //$NON-NLS-1$
+		IProject project = getTestingJavaProject(TESTING_PLUGIN_PROJECT_NAME).getProject();
+		IResource resource = project.findMember(IPath.fromOSString("src/x/y/z/C4.java")); //$NON-NLS-1$
+		assertNotNull("the resource src/x/y/z/C4.java must exist", resource); //$NON-NLS-1$
+		String path = resource.getProjectRelativePath().toPortableString();
+		IApiFilterStore store = component.getFilterStore();
+		store.addFiltersFor(new IApiProblem[] { ApiProblemFactory.newApiProblem(path, "x.y.z.C4", new String[] { "C4", "m()" }, null, //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+				null, -1, -1, -1, IApiProblem.CATEGORY_USAGE, IElementDescriptor.METHOD, IApiProblem.ILLEGAL_OVERRIDE, IApiProblem.NO_FLAGS) });
+		IApiProblem problem = ApiProblemFactory.newApiProblem(path, "x.y.z.C4", new String[] { "x.y.z.C4", "m()" }, null, null, -1, -1, //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+				-1, IApiProblem.CATEGORY_USAGE, IElementDescriptor.METHOD, IApiProblem.ILLEGAL_OVERRIDE, IApiProblem.NO_FLAGS);
+		assertTrue("the problem with qualified arguments should be filtered", store.isFiltered(problem)); //$NON-NLS-1$
+		problem = ApiProblemFactory.newApiProblem(path, "x.y.z.C4", new String[] { "x.y.z.C5", "m()" }, null, null, -1, -1, -1, //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+				IApiProblem.CATEGORY_USAGE, IElementDescriptor.METHOD, IApiProblem.ILLEGAL_OVERRIDE, IApiProblem.NO_FLAGS);
+		assertFalse("the problem for another type should not be filtered", store.isFiltered(problem)); //$NON-NLS-1$
+	}
+
+	/**
+	 * Tests that filters used by problems checked in parallel are no longer
+	 * reported as unused
+	 */
+	@Test
+	public void testUnusedFiltersInParallel() throws CoreException {
+		IApiComponent component = getProjectApiComponent(TESTING_PLUGIN_PROJECT_NAME);
+		assertNotNull("the testing project api component must exist", component); //$NON-NLS-1$
+		ApiFilterStore store = (ApiFilterStore) component.getFilterStore();
+		store.recordFilterUsage();
+		IApiProblemFilter[] unused = store.getUnusedFilters(null, null, null);
+		assertEquals("all filters should be unused", 8, unused.length); //$NON-NLS-1$
+		assertTrue("all filters should be used", Arrays.stream(unused).parallel() //$NON-NLS-1$
+				.allMatch(filter -> store.isFiltered(filter.getUnderlyingProblem())));
+		assertEquals("no filter should be unused", 0, store.getUnusedFilters(null, null, null).length); //$NON-NLS-1$
+	}
+
 	/**
 	 * Tests that a filter store will not be annotated from a bundle
 	 */
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2018 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,11 +13,20 @@
  *******************************************************************************/
 package org.eclipse.pde.api.tools.model.tests;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.eclipse.pde.api.tools.internal.ConcurrentLRUCache;
 import org.eclipse.pde.api.tools.internal.model.ApiModelCache;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiElement;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiType;
@@ -160,4 +169,84 @@ public class ApiModelCacheTests {
 		assertTrue("The type 'a.b.c.testee1' should have been removed from the cache", ApiModelCache.getCache().removeElementInfo(element)); //$NON-NLS-1$
 		assertTrue("The cache should be empty", ApiModelCache.getCache().isEmpty()); //$NON-NLS-1$
 	}
+
+	/**
+	 * Tests that types cached and looked up from several threads at the same
+	 * time are all found again and counted in the statistics
+	 */
+	@Test
+	public void testConcurrentLookup() throws Exception {
+		int threads = 8;
+		int types = 50;
+		int lookups = 200;
+		for (int i = 0; i < types; i++) {
+			cacheType("concurrent" + i); //$NON-NLS-1$
+		}
+		ApiModelCache cache = ApiModelCache.getCache();
+		cache.getStatistics().reset();
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		try {
+			List<Callable<Integer>> tasks = new ArrayList<>();
+			for (int t = 0; t < threads; t++) {
+				tasks.add(() -> {
+					int found = 0;
+					for (int l = 0; l < lookups; l++) {
+						String typename = "concurrent" + (l % types); //$NON-NLS-1$
+						if (cache.getElementInfo(TEST_BASELINE_ID, TEST_COMP_ID, typename, IApiElement.TYPE) != null) {
+							found++;
+						}
+					}
+					return found;
+				});
+			}
+			for (Future<Integer> future : executor.invokeAll(tasks)) {
+				assertEquals("Every cached type should have been found", lookups, future.get().intValue()); //$NON-NLS-1$
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+		ConcurrentLRUCache.Statistics statistics = cache.getStatistics();
+		// one hit for each of the baseline, component and type level, the
+		// statistics are shared with anyone else using the cache meanwhile
+		assertTrue("Unexpected number of hits: " + statistics, statistics.getHits() >= 3L * threads * lookups); //$NON-NLS-1$
+	}
+
+	/**
+	 * Tests that entries not accessed recently are evicted once the cache
+	 * overflows
+	 */
+	@Test
+	public void testEviction() throws Exception {
+		ConcurrentLRUCache<String, String> cache = new ConcurrentLRUCache<>(10, 5);
+		for (int i = 0; i < 10; i++) {
+			cache.put("key" + i, "value" + i); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		assertNotNull(cache.get("key0")); //$NON-NLS-1$
+		for (int i = 10; i < 16; i++) {
+			cache.put("key" + i, "value" + i); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		assertEquals(10, cache.size());
+		assertEquals(6, cache.getStatistics().getEvictions());
+		assertNotNull("The recently used entry should have been kept", cache.get("key0")); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	/**
+	 * Tests that every entry read since the last eviction survives the next
+	 * one, as long as enough entries were not read
+	 */
+	@Test
+	public void testReadEntriesAreKept() throws Exception {
+		ConcurrentLRUCache<String, String> cache = new ConcurrentLRUCache<>(4, 1);
+		for (int i = 0; i < 4; i++) {
+			cache.put("key" + i, "value" + i); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		assertNotNull(cache.get("key1")); //$NON-NLS-1$
+		assertNotNull(cache.get("key3")); //$NON-NLS-1$
+		cache.put("key4", "value4"); //$NON-NLS-1$ //$NON-NLS-2$
+		cache.put("key5", "value5"); //$NON-NLS-1$ //$NON-NLS-2$
+		assertEquals(4, cache.size());
+		assertEquals(2, cache.getStatistics().getEvictions());
+		assertNotNull(cache.get("key1")); //$NON-NLS-1$
+		assertNotNull(cache.get("key3")); //$NON-NLS-1$
+	}
 }
@@ -0,0 +1,167 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - shared strings of the API model
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.model.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.pde.api.tools.internal.model.ApiModelStringPool;
+import org.eclipse.pde.api.tools.internal.model.TypeStructureBuilder;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiField;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiMethod;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiType;
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * Tests the compact storage of type structures through the
+ * {@link ApiModelStringPool}
+ */
+public class ApiModelStringPoolTests {
+
+	/**
+	 * Number of baselines simulated by building the same type structure
+	 * repeatedly
+	 */
+	private static final int BASELINES = 20;
+
+	@After
+	public void tearDown() throws Exception {
+		ApiModelStringPool.setEnabled(true);
+		ApiModelStringPool.clear();
+	}
+
+	/**
+	 * Tests that the same member descriptors of a type built for different
+	 * baselines share one string instance
+	 */
+	@Test
+	public void testMembersShareDescriptors() throws Exception {
+		ApiModelStringPool.setEnabled(true);
+		byte[] bytes = getClassBytes(ArrayList.class);
+		IApiType first = TypeStructureBuilder.buildTypeStructure(bytes, null, null);
+		IApiType second = TypeStructureBuilder.buildTypeStructure(bytes, null, null);
+		assertNotNull(first);
+		assertNotNull(second);
+		assertSame(first.getName(), second.getName());
+		assertSame(first.getSuperclassName(), second.getSuperclassName());
+		IApiMethod[] methods1 = first.getMethods();
+		IApiMethod[] methods2 = second.getMethods();
+		assertEquals(methods1.length, methods2.length);
+		for (int i = 0; i < methods1.length; i++) {
+			assertSame(methods1[i].getName(), methods2[i].getName());
+			assertSame(methods1[i].getSignature(), methods2[i].getSignature());
+		}
+	}
+
+	/**
+	 * Tests that without pooling every build holds private copies
+	 */
+	@Test
+	public void testDisabledPoolKeepsCopies() throws Exception {
+		ApiModelStringPool.setEnabled(false);
+		byte[] bytes = getClassBytes(ArrayList.class);
+		IApiType first = TypeStructureBuilder.buildTypeStructure(bytes, null, null);
+		IApiType second = TypeStructureBuilder.buildTypeStructure(bytes, null, null);
+		assertEquals(first.getName(), second.getName());
+		assertNotSame(first.getName(), second.getName());
+	}
+
+	/**
+	 * Compares the retained string data of the old and the compact layout
+	 * when the same types are loaded for several baselines. The compact layout
+	 * must not grow with the number of baselines.
+	 */
+	@Test
+	public void testRetainedStringSize() throws Exception {
+		List<byte[]> classes = List.of(getClassBytes(ArrayList.class), getClassBytes(String.class),
+				getClassBytes(Collections.class));
+
+		ApiModelStringPool.setEnabled(false);
+		long plain = retainedStringChars(buildAll(classes));
+
+		ApiModelStringPool.setEnabled(true);
+		long compact = retainedStringChars(buildAll(classes));
+
+		assertTrue("Compact layout retains " + compact + " chars, old layout " + plain, //$NON-NLS-1$ //$NON-NLS-2$
+				compact * (BASELINES / 2) < plain);
+	}
+
+	private static List<IApiType> buildAll(List<byte[]> classes) {
+		List<IApiType> types = new ArrayList<>();
+		for (int i = 0; i < BASELINES; i++) {
+			for (byte[] bytes : classes) {
+				types.add(TypeStructureBuilder.buildTypeStructure(bytes, null, null));
+			}
+		}
+		return types;
+	}
+
+	/**
+	 * Sums the length of all distinct string instances referenced from the
+	 * given type structures
+	 */
+	private static long retainedStringChars(List<IApiType> types) {
+		Set<String> strings = Collections.newSetFromMap(new IdentityHashMap<>());
+		for (IApiType type : types) {
+			add(strings, type.getName(), type.getSignature(), type.getGenericSignature(), type.getSuperclassName());
+			String[] interfaces = type.getSuperInterfaceNames();
+			if (interfaces != null) {
+				add(strings, interfaces);
+			}
+			for (IApiMethod method : type.getMethods()) {
+				add(strings, method.getName(), method.getSignature(), method.getGenericSignature());
+				String[] exceptions = method.getExceptionNames();
+				if (exceptions != null) {
+					add(strings, exceptions);
+				}
+			}
+			for (IApiField field : type.getFields()) {
+				add(strings, field.getName(), field.getSignature(), field.getGenericSignature());
+			}
+		}
+		long size = 0;
+		for (String s : strings) {
+			size += s.length();
+		}
+		return size;
+	}
+
+	private static void add(Set<String> strings, String... values) {
+		for (String value : values) {
+			if (value != null) {
+				strings.add(value);
+			}
+		}
+	}
+
+	private static byte[] getClassBytes(Class<?> clazz) throws IOException {
+		try (InputStream in = clazz.getResourceAsStream(clazz.getSimpleName() + ".class")) { //$NON-NLS-1$
+			assertNotNull("No class file for " + clazz, in); //$NON-NLS-1$
+			return in.readAllBytes();
+		}
+	}
+
+}
@@ -0,0 +1,164 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - sharing of parsed class files
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.model.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeNotNull;
+import static org.junit.Assume.assumeTrue;
+
+import java.io.File;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.pde.api.tools.internal.model.ApiModelFactory;
+import org.eclipse.pde.api.tools.internal.model.ClassFileModelCache;
+import org.eclipse.pde.api.tools.internal.provisional.builder.IReference;
+import org.eclipse.pde.api.tools.internal.provisional.model.ApiTypeContainerVisitor;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiBaseline;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiComponent;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiType;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiTypeRoot;
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * Tests and measures the sharing of parsed class files through the
+ * {@link ClassFileModelCache}
+ */
+public class ClassFileModelCacheTests {
+
+	private static final String BUNDLE = "org.eclipse.pde.api.tools"; //$NON-NLS-1$
+
+	/**
+	 * Number of timed scans per mode, the fastest one counts
+	 */
+	private static final int RUNS = 3;
+
+	/**
+	 * Outcome of one scan
+	 *
+	 * @param bytes number of class file bytes parsed
+	 * @param cpuTime CPU time of the scanning thread in nanoseconds
+	 */
+	private record Scan(long bytes, long cpuTime) {
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		ClassFileModelCache.setEnabled(true);
+		ClassFileModelCache.clear();
+	}
+
+	/**
+	 * Scans a real bundle the way the reference analyzer does, once parsing
+	 * every class file per consumer and once through the cache, and compares
+	 * the number of class file bytes parsed. The references found must not
+	 * change.
+	 */
+	@Test
+	public void testBytesParsed() throws Exception {
+		File bundle = TestSuiteHelper.getBundle(BUNDLE);
+		assumeNotNull(bundle);
+
+		ClassFileModelCache.setEnabled(false);
+		ClassFileModelCache.clear();
+		Map<String, Integer> plainReferences = new TreeMap<>();
+		long plain = scan(bundle, "plain", plainReferences).bytes(); //$NON-NLS-1$
+
+		ClassFileModelCache.setEnabled(true);
+		ClassFileModelCache.clear();
+		Map<String, Integer> cachedReferences = new TreeMap<>();
+		long cached = scan(bundle, "cached", cachedReferences).bytes(); //$NON-NLS-1$
+
+		assertEquals(plainReferences, cachedReferences);
+		assertTrue("Cached scan parsed no class files", cached > 0); //$NON-NLS-1$
+		assertTrue("Cached scan parsed " + cached + " bytes, plain scan " + plain, cached * 3 < plain * 2); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	/**
+	 * Scans a real bundle with and without the cache and compares the CPU
+	 * time spent. Parsing a complete class file tree and replaying it must not
+	 * cost more than the separate streaming parses it replaces.
+	 */
+	@Test
+	public void testParseTime() throws Exception {
+		File bundle = TestSuiteHelper.getBundle(BUNDLE);
+		assumeNotNull(bundle);
+		ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+		assumeTrue(threads.isCurrentThreadCpuTimeSupported());
+
+		// warm up both code paths before timing them
+		ClassFileModelCache.setEnabled(false);
+		scan(bundle, "warmup", new TreeMap<>()); //$NON-NLS-1$
+		ClassFileModelCache.setEnabled(true);
+		scan(bundle, "warmup", new TreeMap<>()); //$NON-NLS-1$
+
+		long plain = Long.MAX_VALUE;
+		long cached = Long.MAX_VALUE;
+		for (int i = 0; i < RUNS; i++) {
+			ClassFileModelCache.setEnabled(false);
+			ClassFileModelCache.clear();
+			plain = Math.min(plain, scan(bundle, "plain", new TreeMap<>()).cpuTime()); //$NON-NLS-1$
+			ClassFileModelCache.setEnabled(true);
+			ClassFileModelCache.clear();
+			cached = Math.min(cached, scan(bundle, "cached", new TreeMap<>()).cpuTime()); //$NON-NLS-1$
+		}
+		assertTrue("Cached scan took " + cached / 1_000_000 + " ms CPU time, plain scan " + plain / 1_000_000 + " ms", //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+				cached * 4 < plain * 5);
+	}
+
+	/**
+	 * Scans all types of the given bundle in a new baseline
+	 *
+	 * @return the number of class file bytes parsed and the CPU time spent
+	 */
+	private static Scan scan(File bundle, String name, Map<String, Integer> references) throws CoreException {
+		IApiBaseline baseline = ApiModelFactory.newApiBaseline(name, TestSuiteHelper.getEEDescription(), null);
+		try {
+			IApiComponent component = ApiModelFactory.newApiComponent(baseline, bundle.getAbsolutePath());
+			assertNotNull(component);
+			baseline.addApiComponents(new IApiComponent[] { component });
+			ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+			long start = ClassFileModelCache.getBytesParsed();
+			long startTime = threads.isCurrentThreadCpuTimeSupported() ? threads.getCurrentThreadCpuTime() : 0;
+			component.accept(new ApiTypeContainerVisitor() {
+				@Override
+				public void visit(String packageName, IApiTypeRoot typeroot) {
+					try {
+						if (typeroot.getTypeName().indexOf('$') < 0) {
+							ClassFileModelCache.load(typeroot);
+						}
+						IApiType type = typeroot.getStructure();
+						if (type == null || type.isMemberType() || type.isLocal() || type.isAnonymous()) {
+							return;
+						}
+						references.put(type.getName(), type.extractReferences(IReference.MASK_REF_ALL, null).size());
+					} catch (CoreException e) {
+						throw new AssertionError(e);
+					}
+				}
+			});
+			long cpuTime = threads.isCurrentThreadCpuTimeSupported() ? threads.getCurrentThreadCpuTime() - startTime : 0;
+			return new Scan(ClassFileModelCache.getBytesParsed() - start, cpuTime);
+		} finally {
+			baseline.dispose();
+		}
+	}
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2018 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -74,6 +74,24 @@ public class SearchEngineTests extends SearchTest {
 		engine.search(getTestBaseline(), TEST_REQUESTOR, TEST_REPORTER, null);
 	}
 
+	/**
+	 * Tests that the search engine reports the same matches when the scope is
+	 * searched by several threads
+	 */
+	@Test
+	public void testSearchSeparateScopeConcurrently() throws CoreException {
+		ApiSearchEngine engine = new ApiSearchEngine();
+		engine.setThreadCount(4);
+		this.scope = getTestScope(DEFAULT_SCOPE_PROJECTS);
+		TEST_REQUESTOR.setScopeBaseline(this.scope);
+		TEST_REQUESTOR.setSearchMask(IApiSearchRequestor.INCLUDE_API | IApiSearchRequestor.INCLUDE_INTERNAL);
+		TEST_REPORTER.setExpectedReferences(new String[] { P2_NAME, P3_NAME },
+				new int[][] { { IReference.REF_FIELDDECL, IReference.REF_FIELDDECL },
+						{ IReference.REF_FIELDDECL, IReference.REF_FIELDDECL, IReference.REF_FIELDDECL } });
+		TEST_REPORTER.setExpectedNotSearched(null);
+		engine.search(getTestBaseline(), TEST_REQUESTOR, TEST_REPORTER, null);
+	}
+
 	/**
 	 * Tests that an entry in the exclude file is honored
 	 */
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2018 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -83,6 +83,13 @@ public class TestCompositeSearchReporter implements IApiSearchReporter {
 		}
 	}
 
+	@Override
+	public void reportSearchDone(IApiElement element) {
+		for (IApiSearchReporter reporter : this.reporters) {
+			reporter.reportSearchDone(element);
+		}
+	}
+
 	@Override
 	public void reportMetadata(IMetadata data) {
 	}
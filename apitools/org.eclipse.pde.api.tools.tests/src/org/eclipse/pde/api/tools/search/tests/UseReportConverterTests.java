@@ -0,0 +1,98 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - streaming conversion of API use reports
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.search.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.nio.file.Files;
+
+import org.eclipse.pde.api.tools.internal.provisional.Factory;
+import org.eclipse.pde.api.tools.internal.provisional.VisibilityModifiers;
+import org.eclipse.pde.api.tools.internal.provisional.builder.IReference;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IComponentDescriptor;
+import org.eclipse.pde.api.tools.internal.search.IReferenceDescriptor;
+import org.eclipse.pde.api.tools.internal.search.UseReportConverter;
+import org.eclipse.pde.api.tools.internal.search.XmlReferenceDescriptorWriter;
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests that the {@link UseReportConverter} reports the same references
+ * whether the reference records are kept in memory or spilled to temporary
+ * files
+ */
+public class UseReportConverterTests {
+
+	/**
+	 * System property overriding the spill threshold of the converter
+	 */
+	private static final String SPILL_THRESHOLD = "org.eclipse.pde.api.tools.useReportSpillThreshold"; //$NON-NLS-1$
+
+	private static final int ORIGINS = 10;
+	private static final int REFERENCES_PER_ORIGIN = 200;
+	private static final int TYPES = 20;
+
+	@Rule
+	public final TemporaryFolder folder = new TemporaryFolder();
+
+	@After
+	public void tearDown() {
+		System.clearProperty(SPILL_THRESHOLD);
+	}
+
+	/**
+	 * Converts a synthetic scan once in memory and once with a threshold that
+	 * spills the records of every type many times, and checks that every type
+	 * page is the same
+	 */
+	@Test
+	public void testSpilledReferences() throws Exception {
+		File xml = folder.newFolder("xml"); //$NON-NLS-1$
+		IComponentDescriptor referee = Factory.componentDescriptor("referee", "1.0.0"); //$NON-NLS-1$ //$NON-NLS-2$
+		XmlReferenceDescriptorWriter writer = new XmlReferenceDescriptorWriter(xml.getAbsolutePath());
+		for (int o = 0; o < ORIGINS; o++) {
+			IComponentDescriptor origin = Factory.componentDescriptor("origin" + o, "1.0.0"); //$NON-NLS-1$ //$NON-NLS-2$
+			IReferenceDescriptor[] references = new IReferenceDescriptor[REFERENCES_PER_ORIGIN];
+			for (int i = 0; i < REFERENCES_PER_ORIGIN; i++) {
+				references[i] = Factory.referenceDescriptor(origin, Factory.typeDescriptor("a.Origin" + (i % 10)), i, referee, //$NON-NLS-1$
+						Factory.methodDescriptor("x.Type" + (i % TYPES), "m", "()V"), IReference.REF_VIRTUALMETHOD, 0, //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+						VisibilityModifiers.API, null);
+			}
+			writer.writeReferences(references);
+		}
+
+		File inMemory = convert(xml, "memory"); //$NON-NLS-1$
+		// the records of one origin are far larger than this
+		System.setProperty(SPILL_THRESHOLD, "256"); //$NON-NLS-1$
+		File spilled = convert(xml, "spilled"); //$NON-NLS-1$
+
+		for (int t = 0; t < TYPES; t++) {
+			String page = "referee (1.0.0)/x.Type" + t + ".html"; //$NON-NLS-1$ //$NON-NLS-2$
+			File expected = new File(inMemory, page);
+			assertTrue("Missing type page " + expected, expected.isFile()); //$NON-NLS-1$
+			assertEquals(page, Files.readString(expected.toPath()), Files.readString(new File(spilled, page).toPath()));
+		}
+	}
+
+	private File convert(File xml, String name) throws Exception {
+		File html = folder.newFolder(name);
+		new UseReportConverter(html.getAbsolutePath(), xml.getAbsolutePath(), null, null).convert(null, null);
+		return html;
+	}
+
+}
@@ -0,0 +1,104 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - merged writing of API use scans
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.search.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+
+import org.eclipse.pde.api.tools.internal.IApiXmlConstants;
+import org.eclipse.pde.api.tools.internal.provisional.Factory;
+import org.eclipse.pde.api.tools.internal.provisional.VisibilityModifiers;
+import org.eclipse.pde.api.tools.internal.provisional.builder.IReference;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IComponentDescriptor;
+import org.eclipse.pde.api.tools.internal.search.IReferenceDescriptor;
+import org.eclipse.pde.api.tools.internal.search.XmlReferenceDescriptorWriter;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.w3c.dom.Element;
+
+/**
+ * Tests that the {@link XmlReferenceDescriptorWriter} merges batches of
+ * references into one XML file per referenced component, origin, visibility
+ * and reference type
+ */
+public class XmlReferenceDescriptorWriterTests {
+
+	private static final IComponentDescriptor ORIGIN = Factory.componentDescriptor("origin", "1.0.0"); //$NON-NLS-1$ //$NON-NLS-2$
+	private static final IComponentDescriptor REFEREE = Factory.componentDescriptor("referee", "2.0.0"); //$NON-NLS-1$ //$NON-NLS-2$
+
+	@Rule
+	public final TemporaryFolder folder = new TemporaryFolder();
+
+	/**
+	 * Tests that references added in several batches end up in a single file
+	 * that is only written on flush
+	 */
+	@Test
+	public void testBatchesAreMerged() throws Exception {
+		XmlReferenceDescriptorWriter writer = new XmlReferenceDescriptorWriter(folder.getRoot().getAbsolutePath());
+		writer.addReferences(new IReferenceDescriptor[] {
+				reference("a.A", 1, "x.X"), reference("a.A", 2, "x.X") }); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+		writer.addReferences(new IReferenceDescriptor[] {
+				reference("a.B", 3, "x.X"), reference("a.B", 4, "x.Y") }); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+		File file = getReportFile();
+		assertFalse("Nothing should be written before flush", file.exists()); //$NON-NLS-1$
+		writer.flush();
+		assertTrue(file.exists());
+
+		Element root = parse(file);
+		assertEquals("4", root.getAttribute(IApiXmlConstants.ATTR_REFERENCE_COUNT)); //$NON-NLS-1$
+		assertEquals(2, root.getElementsByTagName(IApiXmlConstants.ELEMENT_TARGET).getLength());
+		assertEquals(2, root.getElementsByTagName(IApiXmlConstants.REFERENCE_KIND).getLength());
+		assertEquals(4, root.getElementsByTagName(IApiXmlConstants.ATTR_REFERENCE).getLength());
+	}
+
+	/**
+	 * Tests that references written to an existing file are added to it
+	 */
+	@Test
+	public void testExistingFileIsExtended() throws Exception {
+		XmlReferenceDescriptorWriter writer = new XmlReferenceDescriptorWriter(folder.getRoot().getAbsolutePath());
+		writer.writeReferences(new IReferenceDescriptor[] { reference("a.A", 1, "x.X") }); //$NON-NLS-1$ //$NON-NLS-2$
+		writer = new XmlReferenceDescriptorWriter(folder.getRoot().getAbsolutePath());
+		writer.writeReferences(new IReferenceDescriptor[] { reference("a.B", 2, "x.X") }); //$NON-NLS-1$ //$NON-NLS-2$
+
+		Element root = parse(getReportFile());
+		assertEquals("2", root.getAttribute(IApiXmlConstants.ATTR_REFERENCE_COUNT)); //$NON-NLS-1$
+		assertEquals(1, root.getElementsByTagName(IApiXmlConstants.ELEMENT_TARGET).getLength());
+		assertEquals(1, root.getElementsByTagName(IApiXmlConstants.REFERENCE_KIND).getLength());
+		assertEquals(2, root.getElementsByTagName(IApiXmlConstants.ATTR_REFERENCE).getLength());
+	}
+
+	private static IReferenceDescriptor reference(String origin, int line, String target) {
+		return Factory.referenceDescriptor(ORIGIN, Factory.typeDescriptor(origin), line, REFEREE, Factory.typeDescriptor(target),
+				IReference.REF_EXTENDS, 0, VisibilityModifiers.API, null);
+	}
+
+	private File getReportFile() {
+		File location = new File(new File(new File(folder.getRoot(), "referee (2.0.0)"), "origin (1.0.0)"), //$NON-NLS-1$ //$NON-NLS-2$
+				VisibilityModifiers.getVisibilityName(VisibilityModifiers.API));
+		return new File(location, XmlReferenceDescriptorWriter.TYPE_REFERENCES + ".xml"); //$NON-NLS-1$
+	}
+
+	private static Element parse(File file) throws Exception {
+		return DocumentBuilderFactory.newInstance().newDocumentBuilder().parse(file).getDocumentElement();
+	}
+
+}
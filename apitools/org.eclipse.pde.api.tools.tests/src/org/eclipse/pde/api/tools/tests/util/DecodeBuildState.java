@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2018 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,11 +13,7 @@
  *******************************************************************************/
 package org.eclipse.pde.api.tools.tests.util;
 
-import java.io.BufferedInputStream;
-import java.io.DataInputStream;
 import java.io.File;
-import java.io.FileInputStream;
-import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.PrintWriter;
 import java.io.StringWriter;
@@ -43,10 +39,8 @@ public class DecodeBuildState {
 			return;
 		}
 		BuildState state = null;
-		try (DataInputStream inputStream = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
-			state = BuildState.read(inputStream);
-		} catch (FileNotFoundException e) {
-			ApiPlugin.log(e);
+		try {
+			state = BuildState.read(file);
 		} catch (IOException e) {
 			ApiPlugin.log(e);
 		}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2017 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -24,6 +24,7 @@ import java.io.PrintWriter;
 import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
 
@@ -298,6 +299,24 @@ public class FileUtils {
 		}
 	}
 
+	/**
+	 * Writes a new zip file with the given entries
+	 *
+	 * @param zipFile the zip file, replaced if it exists
+	 * @param entries the content of each entry by entry name
+	 * @return the given zip file
+	 */
+	public static File zip(File zipFile, Map<String, String> entries) throws IOException {
+		try (ZipOutputStream zip = new ZipOutputStream(new FileOutputStream(zipFile))) {
+			for (Map.Entry<String, String> entry : entries.entrySet()) {
+				zip.putNextEntry(new ZipEntry(entry.getKey()));
+				zip.write(entry.getValue().getBytes());
+				zip.closeEntry();
+			}
+		}
+		return zipFile;
+	}
+
 	/**
 	 * Writes all of the zip entries from the given directory to the specified
 	 * zip output stream
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2021 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -55,6 +55,7 @@ import org.eclipse.pde.api.tools.internal.builder.ApiAnalysisBuilder;
 import org.eclipse.pde.api.tools.internal.builder.ApiAnalysisBuilder.ApiAnalysisJob;
 import org.eclipse.pde.api.tools.internal.builder.ApiAnalysisBuilder.ApiAnalysisJobRule;
 import org.eclipse.pde.api.tools.internal.model.ApiBaseline;
+import org.eclipse.pde.api.tools.internal.model.ApiBaselineIndex;
 import org.eclipse.pde.api.tools.internal.model.ApiModelCache;
 import org.eclipse.pde.api.tools.internal.model.ApiModelFactory;
 import org.eclipse.pde.api.tools.internal.model.StubApiComponent;
@@ -103,6 +104,12 @@ public final class ApiBaselineManager implements IApiBaselineManager, ISaveParti
 	 */
 	private static final String BASELINE_FILE_EXTENSION = ".profile"; //$NON-NLS-1$
 
+	/**
+	 * Constant representing the file extension for the index of the archives
+	 * of a baseline. Value is: <code>.index</code>
+	 */
+	private static final String INDEX_FILE_EXTENSION = ".index"; //$NON-NLS-1$
+
 	/**
 	 * The main cache for the manager. The form of the cache is:
 	 *
@@ -186,6 +193,7 @@ public final class ApiBaselineManager implements IApiBaselineManager, ISaveParti
 	public void addApiBaseline(IApiBaseline newbaseline) {
 		if (newbaseline != null) {
 			initializeStateCache();
+			attachIndex(newbaseline);
 			baselinecache.put(newbaseline.getName(), newbaseline);
 			if (((ApiBaseline) newbaseline).peekInfos()) {
 				hasinfos.add(newbaseline.getName());
@@ -219,6 +227,16 @@ public final class ApiBaselineManager implements IApiBaselineManager, ISaveParti
 					ApiPlugin.log(e);
 				}
 			}
+			if (baseline instanceof ApiBaseline apiBaseline && apiBaseline.getIndex() != null) {
+				apiBaseline.getIndex().delete();
+				apiBaseline.setIndex(null);
+			} else {
+				try {
+					Files.deleteIfExists(savelocation.append(name + INDEX_FILE_EXTENSION).toFile().toPath());
+				} catch (IOException e) {
+					ApiPlugin.log(e);
+				}
+			}
 			fNeedsSaving = true;
 
 			// flush the model cache
@@ -243,6 +261,8 @@ public final class ApiBaselineManager implements IApiBaselineManager, ISaveParti
 		if (filename != null) {
 			File file = new File(filename);
 			if (file.exists()) {
+				// the index must be in place before the components get created
+				attachIndex(baseline);
 				try (FileInputStream inputStream = new FileInputStream(file)) {
 					baseline.restoreFrom(inputStream);
 				} catch (IOException e) {
@@ -257,6 +277,48 @@ public final class ApiBaselineManager implements IApiBaselineManager, ISaveParti
 		return hasinfos.contains(baseline.getName());
 	}
 
+	/**
+	 * Loads the persistent index of the archives of the given baseline if it
+	 * does not have one yet. Only baselines persisted by this manager are
+	 * indexed, never the workspace baseline.
+	 *
+	 * @param baseline the given baseline
+	 */
+	private void attachIndex(IApiBaseline baseline) {
+		if (savelocation == null || baseline instanceof WorkspaceBaseline
+				|| !(baseline instanceof ApiBaseline apiBaseline) || apiBaseline.getIndex() != null) {
+			return;
+		}
+		File file = savelocation.append(baseline.getName() + INDEX_FILE_EXTENSION).toFile();
+		long start = System.currentTimeMillis();
+		apiBaseline.setIndex(ApiBaselineIndex.load(file));
+		if (ApiPlugin.DEBUG_BASELINE_MANAGER) {
+			System.out.println("Time to load the index of baseline " + baseline.getName() + " : " //$NON-NLS-1$ //$NON-NLS-2$
+					+ (System.currentTimeMillis() - start) + "ms"); //$NON-NLS-1$
+		}
+	}
+
+	/**
+	 * Writes the indexes of all baselines that indexed new archives
+	 */
+	private void persistIndexes() {
+		if (baselinecache == null) {
+			return;
+		}
+		for (IApiBaseline baseline : baselinecache.values()) {
+			if (baseline instanceof ApiBaseline apiBaseline) {
+				ApiBaselineIndex index = apiBaseline.getIndex();
+				if (index != null && index.isDirty()) {
+					try {
+						index.save();
+					} catch (IOException e) {
+						ApiPlugin.log("Failed to save the index of API baseline " + baseline.getName(), e); //$NON-NLS-1$
+					}
+				}
+			}
+		}
+	}
+
 	/**
 	 * Initializes the baseline cache lazily. Only performs work if the current
 	 * cache has not been created yet
@@ -491,6 +553,7 @@ public final class ApiBaselineManager implements IApiBaselineManager, ISaveParti
 
 	@Override
 	public void saving(ISaveContext context) throws CoreException {
+		persistIndexes();
 		if (!fNeedsSaving) {
 			return;
 		}
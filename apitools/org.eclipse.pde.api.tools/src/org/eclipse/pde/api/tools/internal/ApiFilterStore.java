@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2017 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -17,6 +17,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Files;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
@@ -27,6 +28,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.core.filebuffers.FileBuffers;
 import org.eclipse.core.filebuffers.ITextFileBuffer;
@@ -70,15 +72,51 @@ import org.w3c.dom.Element;
  * {@link org.eclipse.pde.api.tools.internal.provisional.IApiFilterStore} for
  * workspace projects. Filters can be added or removed and the changes persisted
  * to the api_filters XML file.
+ * <p>
+ * Problems are matched against an index of the filters of each resource keyed
+ * by problem id, type name and message arguments. The index is rebuilt after
+ * the filters change and is read without locking, so analyzers running in
+ * parallel do not wait on each other to check their problems.
+ * </p>
  *
  * @since 1.0.0
  */
 public class ApiFilterStore extends FilterStore implements IResourceChangeListener {
 
+	/**
+	 * Key of the filters that can match a problem. Message arguments are
+	 * reduced to their simple names, as a qualified argument matches its
+	 * simple name.
+	 */
+	private record FilterKey(int id, String typeName, List<String> arguments) {
+
+		static FilterKey of(IApiProblem problem) {
+			String[] args = problem.getMessageArguments();
+			String[] names = args == null ? new String[0] : new String[args.length];
+			for (int i = 0; i < names.length; i++) {
+				String arg = args[i];
+				names[i] = arg == null ? null : arg.substring(arg.lastIndexOf('.') + 1);
+			}
+			return new FilterKey(problem.getId(), problem.getTypeName(), Arrays.asList(names));
+		}
+	}
+
+	/**
+	 * The indexed filters of one resource
+	 */
+	private record ResourceFilters(IResource resource, Map<FilterKey, IApiProblemFilter[]> filters) {
+	}
+
 	/**
 	 * Map used to collect unused {@link IApiProblemFilter}s
 	 */
-	private Map<IResource, Set<IApiProblemFilter>> fUnusedFilters = null;
+	private volatile Map<IResource, Set<IApiProblemFilter>> fUnusedFilters = null;
+
+	/**
+	 * Index of the filters by project relative resource path, <code>null</code>
+	 * if it has to be rebuilt
+	 */
+	private volatile Map<IPath, ResourceFilters> fIndex = null;
 
 	/**
 	 * The backing {@link IJavaProject}
@@ -208,6 +246,7 @@ public class ApiFilterStore extends FilterStore implements IResourceChangeListen
 			}
 			fNeedsSaving |= pfilters.add(filter);
 		}
+		fIndex = null;
 		persistApiFilters();
 	}
 
@@ -241,33 +280,35 @@ public class ApiFilterStore extends FilterStore implements IResourceChangeListen
 	}
 
 	@Override
-	public synchronized boolean isFiltered(IApiProblem problem) {
-		initializeApiFilters();
+	public boolean isFiltered(IApiProblem problem) {
 		String resourcePath = problem.getResourcePath();
 		if (resourcePath == null) {
 			return false;
 		}
-		IResource resource = fProject.getProject().findMember(IPath.fromOSString(resourcePath));
-		if (resource == null) {
+		ResourceFilters filters = getIndex().get(IPath.fromOSString(resourcePath).makeRelative());
+		if (filters == null) {
 			if (ApiPlugin.DEBUG_FILTER_STORE) {
-				System.out.println("no resource exists: [" + resourcePath + "]"); //$NON-NLS-1$ //$NON-NLS-2$
+				System.out.println("no filters defined for [" + resourcePath + "] return not filtered"); //$NON-NLS-1$ //$NON-NLS-2$
 			}
 			return false;
 		}
-		IApiProblemFilter[] filters = this.getFilters(resource);
-		if (filters == null) {
+		IResource resource = filters.resource();
+		if (!resource.exists()) {
 			if (ApiPlugin.DEBUG_FILTER_STORE) {
-				System.out.println("no filters defined for [" + resourcePath + "] return not filtered"); //$NON-NLS-1$ //$NON-NLS-2$
+				System.out.println("no resource exists: [" + resourcePath + "]"); //$NON-NLS-1$ //$NON-NLS-2$
 			}
 			return false;
 		}
-		for (IApiProblemFilter filter : filters) {
-			if (problemsMatch(filter.getUnderlyingProblem(), problem)) {
-				if (ApiPlugin.DEBUG_FILTER_STORE) {
-					System.out.println("recording filter used: [" + filter.toString() + "]"); //$NON-NLS-1$ //$NON-NLS-2$
+		IApiProblemFilter[] candidates = filters.filters().get(FilterKey.of(problem));
+		if (candidates != null) {
+			for (IApiProblemFilter filter : candidates) {
+				if (problemsMatch(filter.getUnderlyingProblem(), problem)) {
+					if (ApiPlugin.DEBUG_FILTER_STORE) {
+						System.out.println("recording filter used: [" + filter.toString() + "]"); //$NON-NLS-1$ //$NON-NLS-2$
+					}
+					recordFilterUsed(resource, filter);
+					return true;
 				}
-				recordFilterUsed(resource, filter);
-				return true;
 			}
 		}
 		if (ApiPlugin.DEBUG_FILTER_STORE) {
@@ -276,6 +317,39 @@ public class ApiFilterStore extends FilterStore implements IResourceChangeListen
 		return false;
 	}
 
+	/**
+	 * Returns the index of the filters, building it if the filters changed
+	 * since it was last built.
+	 *
+	 * @return the filters of each resource by project relative path
+	 */
+	private Map<IPath, ResourceFilters> getIndex() {
+		Map<IPath, ResourceFilters> index = fIndex;
+		if (index == null) {
+			synchronized (this) {
+				initializeApiFilters();
+				index = fIndex;
+				if (index == null) {
+					index = new HashMap<>();
+					for (Entry<IResource, Map<String, Set<IApiProblemFilter>>> entry : fFilterMap.entrySet()) {
+						Map<FilterKey, List<IApiProblemFilter>> keyed = new HashMap<>();
+						for (Set<IApiProblemFilter> filters : entry.getValue().values()) {
+							for (IApiProblemFilter filter : filters) {
+								keyed.computeIfAbsent(FilterKey.of(filter.getUnderlyingProblem()), k -> new ArrayList<>(1)).add(filter);
+							}
+						}
+						Map<FilterKey, IApiProblemFilter[]> filters = new HashMap<>();
+						keyed.forEach((key, list) -> filters.put(key, list.toArray(IApiProblemFilter[]::new)));
+						IResource resource = entry.getKey();
+						index.put(resource.getProjectRelativePath(), new ResourceFilters(resource, filters));
+					}
+					fIndex = index;
+				}
+			}
+		}
+		return index;
+	}
+
 	@Override
 	public void dispose() {
 		// if the store is about to be disposed and has pending changes save
@@ -283,10 +357,7 @@ public class ApiFilterStore extends FilterStore implements IResourceChangeListen
 		// https://bugs.eclipse.org/bugs/show_bug.cgi?id=299319
 		persistApiFilters();
 		clearFilters();
-		if (fUnusedFilters != null) {
-			fUnusedFilters.clear();
-			fUnusedFilters = null;
-		}
+		fUnusedFilters = null;
 		ResourcesPlugin.getWorkspace().removeResourceChangeListener(this);
 	}
 
@@ -346,6 +417,7 @@ public class ApiFilterStore extends FilterStore implements IResourceChangeListen
 				success &= false;
 			}
 		}
+		fIndex = null;
 		persistApiFilters();
 		return success;
 	}
@@ -522,6 +594,7 @@ public class ApiFilterStore extends FilterStore implements IResourceChangeListen
 			}
 			fNeedsSaving |= filters.add(filter);
 		}
+		fIndex = null;
 	}
 
 	/**
@@ -554,31 +627,26 @@ public class ApiFilterStore extends FilterStore implements IResourceChangeListen
 	 */
 	public synchronized void recordFilterUsage() {
 		initializeApiFilters();
-		fUnusedFilters = new LinkedHashMap<>();
-		Map<String, Set<IApiProblemFilter>> types = null;
-		Set<IApiProblemFilter> values = null;
+		Map<IResource, Set<IApiProblemFilter>> unusedFilters = new ConcurrentHashMap<>();
 		for (Entry<IResource, Map<String, Set<IApiProblemFilter>>> filterEntry : fFilterMap.entrySet()) {
-			IResource resource = filterEntry.getKey();
-			types = filterEntry.getValue();
-			values = new LinkedHashSet<>();
-			fUnusedFilters.put(resource, values);
-			for (Entry<String, Set<IApiProblemFilter>> entry : types.entrySet()) {
-				values.addAll(entry.getValue());
+			Set<IApiProblemFilter> values = ConcurrentHashMap.newKeySet();
+			for (Set<IApiProblemFilter> filters : filterEntry.getValue().values()) {
+				values.addAll(filters);
 			}
+			unusedFilters.put(filterEntry.getKey(), values);
 		}
+		fUnusedFilters = unusedFilters;
 	}
 
 	/**
 	 * records that the following filter has been used
 	 */
 	private void recordFilterUsed(IResource resource, IApiProblemFilter filter) {
-		if (fUnusedFilters != null) {
-			Set<IApiProblemFilter> unused = fUnusedFilters.get(resource);
-			if (unused != null) {
-				unused.remove(filter);
-				if (unused.isEmpty()) {
-					fUnusedFilters.remove(resource);
-				}
+		Map<IResource, Set<IApiProblemFilter>> unusedFilters = fUnusedFilters;
+		if (unusedFilters != null) {
+			Set<IApiProblemFilter> unused = unusedFilters.get(resource);
+			if (unused != null && unused.remove(filter) && unused.isEmpty()) {
+				unusedFilters.remove(resource, unused);
 			}
 		}
 	}
@@ -595,12 +663,13 @@ public class ApiFilterStore extends FilterStore implements IResourceChangeListen
 	 *         <code>null</code>
 	 */
 	public IApiProblemFilter[] getUnusedFilters(IResource resource, String typeName, int[] categories) {
-		if (fUnusedFilters != null) {
+		Map<IResource, Set<IApiProblemFilter>> unusedFilters = fUnusedFilters;
+		if (unusedFilters != null) {
 			Set<IApiProblemFilter> unused = new HashSet<>();
 			Set<IApiProblemFilter> set = null;
 			if (resource != null) {
 				// add any unused filters for the resource
-				set = fUnusedFilters.get(resource);
+				set = unusedFilters.get(resource);
 				if (set != null) {
 					collectFilterFor(set, typeName, unused, categories);
 				}
@@ -610,17 +679,17 @@ public class ApiFilterStore extends FilterStore implements IResourceChangeListen
 					// deleted types are only ever passed in with the manifest
 					// associated with them
 					IResource res = null;
-					for (Entry<IResource, Set<IApiProblemFilter>> entry : fUnusedFilters.entrySet()) {
+					for (Entry<IResource, Set<IApiProblemFilter>> entry : unusedFilters.entrySet()) {
 						res = entry.getKey();
 						if (res == null || !res.exists() || !res.getProject().equals(resource.getProject())) {
 							continue;
 						}
-						set = fUnusedFilters.get(res);
+						set = entry.getValue();
 						collectFilterFor(set, typeName, unused, categories);
 					}
 				}
 			} else {
-				for (Entry<IResource, Set<IApiProblemFilter>> entry : fUnusedFilters.entrySet()) {
+				for (Entry<IResource, Set<IApiProblemFilter>> entry : unusedFilters.entrySet()) {
 					set = entry.getValue();
 					if (set != null) {
 						unused.addAll(set);
@@ -708,6 +777,7 @@ public class ApiFilterStore extends FilterStore implements IResourceChangeListen
 				}
 				if (fFilterMap != null) {
 					fFilterMap.clear();
+					fIndex = null;
 					needsbuild = fProject.getProject().isAccessible();
 				}
 			} else if (leafdelta.getKind() == IResourceDelta.ADDED || (leafdelta.getFlags() & IResourceDelta.CONTENT) != 0 || (leafdelta.getFlags() & IResourceDelta.REPLACED) != 0) {
@@ -744,5 +814,6 @@ public class ApiFilterStore extends FilterStore implements IResourceChangeListen
 			fFilterMap.clear();
 			fFilterMap = null;
 		}
+		fIndex = null;
 	}
 }
@@ -0,0 +1,275 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - concurrent API model cache
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.internal;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * A size bounded cache that can be read and written concurrently.
+ * <p>
+ * Unlike {@link SynchronizedOverflowingLRUCache} lookups do not take any lock:
+ * entries live in a {@link ConcurrentHashMap} and an access only sets a
+ * reference bit on the entry, unless it is already set. Once the cache holds
+ * more than <code>size + overflow</code> entries, entries are evicted until the
+ * cache is back at <code>size</code> using the CLOCK algorithm: a hand sweeps
+ * over the entries, evicting those that were not accessed since it last passed
+ * them and clearing the bit of the others. Recently used entries are therefore
+ * kept, but the eviction order only approximates least recently used.
+ * </p>
+ * <p>
+ * Hits, misses and evictions are counted in a {@link Statistics} object that
+ * can be shared by several caches.
+ * </p>
+ *
+ * @since 1.3.800
+ */
+public class ConcurrentLRUCache<K, V> {
+
+	/**
+	 * Access counters of one or more caches
+	 */
+	public static final class Statistics {
+		private final LongAdder fHits = new LongAdder();
+		private final LongAdder fMisses = new LongAdder();
+		private final LongAdder fEvictions = new LongAdder();
+
+		/**
+		 * @return the number of lookups that found an entry
+		 */
+		public long getHits() {
+			return fHits.sum();
+		}
+
+		/**
+		 * @return the number of lookups that did not find an entry
+		 */
+		public long getMisses() {
+			return fMisses.sum();
+		}
+
+		/**
+		 * @return the number of entries removed to stay within the size limit
+		 */
+		public long getEvictions() {
+			return fEvictions.sum();
+		}
+
+		/**
+		 * Resets all counters to zero
+		 */
+		public void reset() {
+			fHits.reset();
+			fMisses.reset();
+			fEvictions.reset();
+		}
+
+		@Override
+		public String toString() {
+			return "hits: " + getHits() + ", misses: " + getMisses() + ", evictions: " + getEvictions(); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		}
+	}
+
+	private static final class Entry<V> {
+		final V value;
+		volatile boolean referenced;
+
+		Entry(V value) {
+			this.value = value;
+		}
+	}
+
+	private final ConcurrentHashMap<K, Entry<V>> fEntries;
+	private final Object fEvictionLock = new Object();
+	/**
+	 * The clock hand, guarded by {@link #fEvictionLock}
+	 */
+	private Iterator<Map.Entry<K, Entry<V>>> fHand;
+	private final Statistics fStatistics;
+	private final int fSize;
+	private final int fOverflow;
+
+	/**
+	 * Creates a new cache with its own statistics.
+	 *
+	 * @param size number of entries the cache is trimmed to on eviction
+	 * @param overflow number of entries the cache may grow beyond
+	 *            <code>size</code> before entries are evicted
+	 */
+	public ConcurrentLRUCache(int size, int overflow) {
+		this(size, overflow, new Statistics());
+	}
+
+	/**
+	 * Creates a new cache reporting to the given statistics.
+	 *
+	 * @param size number of entries the cache is trimmed to on eviction
+	 * @param overflow number of entries the cache may grow beyond
+	 *            <code>size</code> before entries are evicted
+	 * @param statistics the counters to update
+	 */
+	public ConcurrentLRUCache(int size, int overflow, Statistics statistics) {
+		fSize = Math.max(size, 1);
+		fOverflow = Math.max(overflow, 1);
+		fStatistics = statistics;
+		fEntries = new ConcurrentHashMap<>(Math.min(fSize + fOverflow, 1024));
+	}
+
+	/**
+	 * Returns the value cached for the given key.
+	 *
+	 * @param key the key to look up
+	 * @return the cached value or <code>null</code>
+	 */
+	public V get(K key) {
+		Entry<V> entry = fEntries.get(key);
+		if (entry == null) {
+			fStatistics.fMisses.increment();
+			return null;
+		}
+		fStatistics.fHits.increment();
+		// only write when needed so hot entries are not contended
+		if (!entry.referenced) {
+			entry.referenced = true;
+		}
+		return entry.value;
+	}
+
+	/**
+	 * Caches the given value.
+	 *
+	 * @param key the key of the value
+	 * @param value the value to cache
+	 * @return the value previously cached for the key or <code>null</code>
+	 */
+	public V put(K key, V value) {
+		Entry<V> old = fEntries.put(key, new Entry<>(value));
+		trim();
+		return old == null ? null : old.value;
+	}
+
+	/**
+	 * Returns the value cached for the given key, computing and caching it
+	 * first if it is absent. The computation happens at most once per key.
+	 *
+	 * @param key the key to look up
+	 * @param function function computing the value
+	 * @return the cached or computed value
+	 */
+	public V computeIfAbsent(K key, Function<? super K, ? extends V> function) {
+		V value = get(key);
+		if (value != null) {
+			return value;
+		}
+		Entry<V> entry = fEntries.computeIfAbsent(key, k -> new Entry<>(function.apply(k)));
+		trim();
+		return entry.value;
+	}
+
+	/**
+	 * Removes the value cached for the given key.
+	 *
+	 * @param key the key to remove
+	 * @return the removed value or <code>null</code>
+	 */
+	public V remove(K key) {
+		Entry<V> old = fEntries.remove(key);
+		return old == null ? null : old.value;
+	}
+
+	/**
+	 * Removes all entries.
+	 */
+	public void flush() {
+		fEntries.clear();
+	}
+
+	/**
+	 * @return whether the cache has no entries
+	 */
+	public boolean isEmpty() {
+		return fEntries.isEmpty();
+	}
+
+	/**
+	 * @return the number of cached entries
+	 */
+	public int size() {
+		return fEntries.size();
+	}
+
+	/**
+	 * @return a snapshot of the keys in the cache
+	 */
+	public List<K> keysSnapshot() {
+		return new ArrayList<>(fEntries.keySet());
+	}
+
+	/**
+	 * @return a snapshot of the values in the cache
+	 */
+	public List<V> elementsSnapshot() {
+		List<V> values = new ArrayList<>(fEntries.size());
+		for (Entry<V> entry : fEntries.values()) {
+			values.add(entry.value);
+		}
+		return values;
+	}
+
+	/**
+	 * @return the statistics this cache reports to
+	 */
+	public Statistics getStatistics() {
+		return fStatistics;
+	}
+
+	/**
+	 * Evicts entries that were not accessed recently once the cache exceeds
+	 * its overflow. Only one thread evicts at a time, others keep going.
+	 */
+	private void trim() {
+		if (fEntries.size() <= fSize + fOverflow) {
+			return;
+		}
+		synchronized (fEvictionLock) {
+			int excess = fEntries.size() - fSize;
+			if (excess <= fOverflow) {
+				return;
+			}
+			// after two full turns of the hand every entry had its second
+			// chance, entries accessed concurrently meanwhile are evicted anyway
+			int secondChances = 2 * fEntries.size();
+			while (excess > 0 && !fEntries.isEmpty()) {
+				if (fHand == null || !fHand.hasNext()) {
+					fHand = fEntries.entrySet().iterator();
+					continue;
+				}
+				Map.Entry<K, Entry<V>> e = fHand.next();
+				Entry<V> entry = e.getValue();
+				if (entry.referenced && secondChances-- > 0) {
+					entry.referenced = false;
+				} else if (fEntries.remove(e.getKey(), entry)) {
+					fStatistics.fEvictions.increment();
+					excess--;
+				}
+			}
+		}
+	}
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2024 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -48,6 +48,7 @@ import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.core.runtime.jobs.ISchedulingRule;
 import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.core.runtime.jobs.JobGroup;
 import org.eclipse.jdt.core.IClasspathAttribute;
 import org.eclipse.jdt.core.IClasspathEntry;
 import org.eclipse.jdt.core.ICompilationUnit;
@@ -175,7 +176,17 @@ public class ApiAnalysisBuilder extends IncrementalProjectBuilder {
 	 */
 	private BuildState buildstate = null;
 
-	private final ConcurrentLinkedQueue<Runnable> markersQueue = new ConcurrentLinkedQueue<>();
+	/**
+	 * Group bounding the number of {@link ApiAnalysisJob}s that run at the same
+	 * time across the workspace
+	 */
+	private static JobGroup analysisGroup;
+
+	/**
+	 * Job applying the marker updates of this builder's project when the
+	 * analysis runs in the background, created on first use
+	 */
+	private ApiAnalysisMarkersJob markersJob;
 
 	/**
 	 * Bug 549838:  In case auto-building on a API tools settings change  is not desired,
@@ -188,7 +199,7 @@ public class ApiAnalysisBuilder extends IncrementalProjectBuilder {
 	 */
 	void cleanupMarkers(IResource resource) {
 		if (isRunningAsJob()) {
-			new ApiAnalysisMarkersJob(() -> cleanupMarkersInternally(resource)).schedule();
+			getMarkersJob().submit(() -> cleanupMarkersInternally(resource));
 		} else {
 			cleanupMarkersInternally(resource);
 		}
@@ -547,12 +558,18 @@ public class ApiAnalysisBuilder extends IncrementalProjectBuilder {
 			// Intentionally not using project as rule to allow run in parallel with build
 			// locking entire workspace
 			setRule(new ApiAnalysisJobRule(project));
+			setJobGroup(getAnalysisGroup());
 		}
 
 		@Override
 		public IStatus run(IProgressMonitor monitor) {
+			long start = System.currentTimeMillis();
 			try {
 				work(fullBuild, wbaseline, projects, monitor);
+				if (ApiPlugin.DEBUG_BUILDER) {
+					System.out.println("ApiAnalysisBuilder: Analysis job of " + project.getName() + " took " //$NON-NLS-1$ //$NON-NLS-2$
+							+ (System.currentTimeMillis() - start) + "ms"); //$NON-NLS-1$
+				}
 			} catch (CoreException e) {
 				IStatus status = e.getStatus();
 				if (monitor.isCanceled()) {
@@ -602,6 +619,52 @@ public class ApiAnalysisBuilder extends IncrementalProjectBuilder {
 		}
 	}
 
+	/**
+	 * Returns the group of the API analysis jobs. The group runs at most
+	 * {@link ICoreConstants#API_ANALYSIS_PARALLELISM} jobs at the same time, a
+	 * new group is created once all jobs of the previous one are done.
+	 *
+	 * @return the group to add new analysis jobs to
+	 */
+	static synchronized JobGroup getAnalysisGroup() {
+		if (analysisGroup == null || analysisGroup.getState() == JobGroup.STATE_NONE) {
+			analysisGroup = createAnalysisGroup(getAnalysisParallelism());
+		}
+		return analysisGroup;
+	}
+
+	/**
+	 * Returns the number of API analysis jobs that may run at the same time
+	 * as set by the {@link ICoreConstants#API_ANALYSIS_PARALLELISM}
+	 * preference.
+	 *
+	 * @return the maximum number of concurrent analysis jobs, at least 1
+	 */
+	public static int getAnalysisParallelism() {
+		int parallelism = PDECore.getDefault().getPreferencesManager().getInt(ICoreConstants.API_ANALYSIS_PARALLELISM);
+		if (parallelism <= 0) {
+			parallelism = Runtime.getRuntime().availableProcessors();
+		}
+		return parallelism;
+	}
+
+	/**
+	 * Creates a group running at most the given number of analysis jobs at
+	 * the same time. Projects are analyzed independently, so unlike a plain
+	 * {@link JobGroup} the failure of one job does not cancel the others.
+	 *
+	 * @param parallelism the maximum number of concurrent jobs
+	 * @return a new group
+	 */
+	public static JobGroup createAnalysisGroup(int parallelism) {
+		return new JobGroup(BuilderMessages.api_analysis_builder, parallelism, 0) {
+			@Override
+			protected boolean shouldCancel(IStatus lastCompletedJobResult, int numberOfFailedJobs, int numberOfCanceledJobs) {
+				return false;
+			}
+		};
+	}
+
 	public static final class ApiAnalysisJobRule implements ISchedulingRule {
 
 		private final IProject project;
@@ -838,7 +901,7 @@ public class ApiAnalysisBuilder extends IncrementalProjectBuilder {
 
 		boolean runAsJob = isRunningAsJob();
 		if (runAsJob) {
-			new ApiAnalysisMarkersJob(task).schedule();
+			getMarkersJob().submit(task);
 		} else {
 			task.run();
 		}
@@ -912,18 +975,36 @@ public class ApiAnalysisBuilder extends IncrementalProjectBuilder {
 	}
 
 	/**
-	 * Creates or removes markers, uses the current project rule.
-	 * The tasks to do are maintained by markersQueue and executed in the submission order
+	 * Creates or removes the markers of one project analyzed in the background,
+	 * uses the project rule.
+	 * <p>
+	 * The updates to do are maintained in a queue and executed in their
+	 * submission order. Updates submitted while the job waits for the project
+	 * rule are applied by the same run, so a project being analyzed does not
+	 * create one job and one resource change notification per update.
+	 * </p>
 	 */
-	class ApiAnalysisMarkersJob extends WorkspaceJob {
+	public static final class ApiAnalysisMarkersJob extends WorkspaceJob {
 
-		public ApiAnalysisMarkersJob(Runnable task) {
-			super("Updating API analysis markers on " + currentproject.getName()); //$NON-NLS-1$
-			markersQueue.add(task);
-			setRule(currentproject);
+		private final ConcurrentLinkedQueue<Runnable> markersQueue = new ConcurrentLinkedQueue<>();
+
+		public ApiAnalysisMarkersJob(IProject project) {
+			super("Updating API analysis markers on " + project.getName()); //$NON-NLS-1$
+			setRule(project);
 			setSystem(true);
 		}
 
+		/**
+		 * Queues the given marker update and schedules this job to apply it,
+		 * unless it is already waiting to run
+		 *
+		 * @param task the update
+		 */
+		public void submit(Runnable task) {
+			markersQueue.add(task);
+			schedule();
+		}
+
 		@Override
 		public boolean belongsTo(Object family) {
 			return super.belongsTo(family) || ApiAnalysisMarkersJob.class == family;
@@ -941,15 +1022,32 @@ public class ApiAnalysisBuilder extends IncrementalProjectBuilder {
 
 		@Override
 		public IStatus runInWorkspace(IProgressMonitor monitor) throws CoreException {
+			long start = System.currentTimeMillis();
+			int count = 0;
 			while (!markersQueue.isEmpty()) {
 				Runnable task = markersQueue.poll();
 				task.run();
+				count++;
+			}
+			if (ApiPlugin.DEBUG_BUILDER) {
+				System.out.println("ApiAnalysisBuilder: Applied " + count + " marker updates in " //$NON-NLS-1$ //$NON-NLS-2$
+						+ (System.currentTimeMillis() - start) + "ms"); //$NON-NLS-1$
 			}
 			return Status.OK_STATUS;
 		}
 
 	}
 
+	/**
+	 * @return the job updating the markers of the project of this builder
+	 */
+	private synchronized ApiAnalysisMarkersJob getMarkersJob() {
+		if (markersJob == null) {
+			markersJob = new ApiAnalysisMarkersJob(getProject());
+		}
+		return markersJob;
+	}
+
 	/**
 	 * Creates new markers are for the listing of problems added to this
 	 * reporter. If no problems have been added to this reporter, or we are not
@@ -958,7 +1056,7 @@ public class ApiAnalysisBuilder extends IncrementalProjectBuilder {
 	protected void createMarkers() {
 		IApiProblem[] problems = getAnalyzer().getProblems();
 		if (isRunningAsJob()) {
-			new ApiAnalysisMarkersJob(() -> createMarkersInternally(problems)).schedule();
+			getMarkersJob().submit(() -> createMarkersInternally(problems));
 		} else {
 			createMarkersInternally(problems);
 		}
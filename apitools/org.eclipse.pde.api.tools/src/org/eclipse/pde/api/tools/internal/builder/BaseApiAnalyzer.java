@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2023 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -189,6 +189,8 @@ public class BaseApiAnalyzer implements IApiAnalyzer {
 	@Override
 	public void analyzeComponent(final BuildState state, final IApiFilterStore filterStore, final Properties preferences, final IApiBaseline baseline, final IApiComponent component, final IBuildContext context, IProgressMonitor monitor) {
 		SubMonitor localMonitor = SubMonitor.convert(monitor, BuilderMessages.BaseApiAnalyzer_analyzing_api, 6);
+		final long start = System.currentTimeMillis();
+		long phase = start;
 		try {
 			this.fJavaProject = getJavaProject(component);
 			this.fFilterStore = filterStore;
@@ -278,8 +280,10 @@ public class BaseApiAnalyzer implements IApiAnalyzer {
 							component.getSymbolicName(), baseline.getName() }));
 					checkCompatibility(null, component, localMonitor.split(1));
 				}
+				phase = phaseDone(component, "compatibility", phase); //$NON-NLS-1$
 				// version checks
 				checkApiComponentVersion(reference, component, baseline);
+				phase = phaseDone(component, "version", phase); //$NON-NLS-1$
 				localMonitor.split(1);
 				checkfilters = true;
 			} else {
@@ -291,16 +295,20 @@ public class BaseApiAnalyzer implements IApiAnalyzer {
 
 			// usage checks
 			checkApiUsage(bcontext, component, localMonitor.split(1));
+			phase = phaseDone(component, "usage", phase); //$NON-NLS-1$
 			// tag validation
 			checkTagValidation(bcontext, localMonitor.split(1));
+			phase = phaseDone(component, "tag validation", phase); //$NON-NLS-1$
 			if (checkfilters) {
 				// check for unused filters only if the scans have been done
 				checkUnusedProblemFilters(bcontext, component, localMonitor.split(1));
+				phase = phaseDone(component, "unused filters", phase); //$NON-NLS-1$
 			}
 			localMonitor.setWorkRemaining(1);
 
 			if (component instanceof ProjectComponent) {
 				checkExternalDependencies(component, bcontext, null, localMonitor.split(1));
+				phaseDone(component, "external dependencies", phase); //$NON-NLS-1$
 			}
 		} catch (CoreException e) {
 			ApiPlugin.log(e);
@@ -310,9 +318,28 @@ public class BaseApiAnalyzer implements IApiAnalyzer {
 			if (ApiPlugin.DEBUG_API_ANALYZER) {
 				System.out.println("Trapped OperationCanceledException"); //$NON-NLS-1$
 			}
+		} finally {
+			phaseDone(component, "complete analysis", start); //$NON-NLS-1$
 		}
 	}
 
+	/**
+	 * Reports the time spent in a phase of the component analysis when
+	 * debugging the analyzer
+	 *
+	 * @param component the analyzed component
+	 * @param phase the name of the phase
+	 * @param start the time the phase started
+	 * @return the time the phase ended, which is the start of the next phase
+	 */
+	private static long phaseDone(IApiComponent component, String phase, long start) {
+		long end = System.currentTimeMillis();
+		if (ApiPlugin.DEBUG_API_ANALYZER) {
+			System.out.println("API analysis of " + component.getSymbolicName() + ": " + phase + " took " + (end - start) + "ms"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+		}
+		return end;
+	}
+
 
 	private boolean checkIfNested(IApiComponent component) {
 		if (!ApiPlugin.isRunningInFramework()) {
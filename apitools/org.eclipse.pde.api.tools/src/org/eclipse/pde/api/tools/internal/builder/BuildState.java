@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2021 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,12 +15,19 @@ package org.eclipse.pde.api.tools.internal.builder;
 
 import java.io.BufferedInputStream;
 import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
-import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -28,9 +35,11 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.zip.CRC32;
 
 import org.eclipse.core.resources.IProject;
@@ -53,16 +62,57 @@ import org.eclipse.pde.core.build.IBuildModel;
 
 /**
  * The API tools build state
+ * <p>
+ * The state is saved in two files: <code>state.dat</code> holds the build path
+ * CRC, the manifest and build.properties snapshots and the dependent projects,
+ * while the recorded compatible and breaking changes are kept per type in the
+ * append-only delta log <code>deltas.dat</code>. Saving the state of an
+ * incremental build only appends the entries of the types that changed, a
+ * removed type is recorded as an empty entry. The last entry of a type wins.
+ * Entries read from the log are only decoded when their deltas are needed.
+ * Once the log holds more superseded entries than live ones it is compacted by
+ * rewriting it.
+ * </p>
  *
  * @since 1.0.1
  */
 public class BuildState {
 	private static final IDelta[] EMPTY_DELTAS = new IDelta[0];
 	private static final String[] NO_REEXPORTED_COMPONENTS = new String[0];
-	private static final int VERSION = 33;
+	private static final int VERSION = 34;
+	private static final String STATE_FILE = "state.dat"; //$NON-NLS-1$
+	private static final String DELTAS_FILE = "deltas.dat"; //$NON-NLS-1$
+	/**
+	 * Number of superseded entries the delta log may always hold before it is
+	 * compacted
+	 */
+	private static final int COMPACTION_THRESHOLD = 64;
 
 	private final Map<String, Set<IDelta>> compatibleChanges;
 	private final Map<String, Set<IDelta>> breakingChanges;
+	/**
+	 * Encoded entries read from the delta log that have not been decoded yet,
+	 * keyed by type name
+	 */
+	private final Map<String, byte[]> storedChanges;
+	/**
+	 * Types whose entries changed since the state was read from or written to
+	 * the delta log
+	 */
+	private final Set<String> changedTypes;
+	/**
+	 * Identifier of the delta log this state was read from or written to,
+	 * <code>0</code> if none
+	 */
+	private long logId;
+	/**
+	 * Number of bytes of the delta log that belong to this state
+	 */
+	private long logLength;
+	/**
+	 * Number of entries in the delta log that belong to this state
+	 */
+	private int logEntries;
 	/**
 	 * Map of the last saved state of the manifest file
 	 *
@@ -82,15 +132,19 @@ public class BuildState {
 	/**
 	 * Constructor
 	 */
-	BuildState() {
+	public BuildState() {
 		this.compatibleChanges = new LinkedHashMap<>();
 		this.breakingChanges = new LinkedHashMap<>();
+		this.storedChanges = new HashMap<>();
+		this.changedTypes = new LinkedHashSet<>();
 		this.manifestChanges = new LinkedHashMap<>();
 		this.buildPropChanges = new LinkedHashMap<>();
 	}
 
 	/**
-	 * Reads the build state from an input stream
+	 * Reads the build state from an input stream. The recorded changes are not
+	 * part of the stream, they are read from the delta log by
+	 * {@link #read(File)}.
 	 *
 	 * @return the {@link BuildState} from the given input stream
 	 */
@@ -111,17 +165,11 @@ public class BuildState {
 			// continue to read
 			BuildState state = new BuildState();
 			state.buildpathCRC = in.readLong();
+			// the part of the delta log that belongs to this state
+			state.logId = in.readLong();
+			state.logLength = in.readLong();
+			state.logEntries = in.readInt();
 			int count = in.readInt();
-			// read all compatible deltas
-			for (int i = 0; i < count; i++) {
-				state.addCompatibleChange(readDelta(in));
-			}
-			count = in.readInt();
-			// read all breaking deltas
-			for (int i = 0; i < count; i++) {
-				state.addBreakingChange(readDelta(in));
-			}
-			count = in.readInt();
 			// read all re-exported component names
 			String[] components = new String[count];
 			for (int i = 0; i < count; i++) {
@@ -162,7 +210,9 @@ public class BuildState {
 	}
 
 	/**
-	 * Writes the given {@link BuildState} to the given output stream
+	 * Writes the given {@link BuildState} to the given output stream. The
+	 * recorded changes are not part of the stream, they are written to the
+	 * delta log by {@link #write(BuildState, File)}.
 	 */
 	public static void write(BuildState state, DataOutputStream out) throws IOException {
 		out.writeUTF(ApiPlugin.PLUGIN_ID);
@@ -170,20 +220,11 @@ public class BuildState {
 		out.writeInt(VERSION);
 		out.writeBoolean(true);
 		out.writeLong(state.buildpathCRC);
-		IDelta[] compatibleChangesDeltas = state.getCompatibleChanges();
-		int length = compatibleChangesDeltas.length;
-		out.writeInt(length);
-		for (int i = 0; i < length; i++) {
-			writeDelta(compatibleChangesDeltas[i], out);
-		}
-		IDelta[] breakingChangesDeltas = state.getBreakingChanges();
-		length = breakingChangesDeltas.length;
-		out.writeInt(length);
-		for (int i = 0; i < length; i++) {
-			writeDelta(breakingChangesDeltas[i], out);
-		}
+		out.writeLong(state.logId);
+		out.writeLong(state.logLength);
+		out.writeInt(state.logEntries);
 		String[] reexportedComponents = state.getReexportedComponents();
-		length = reexportedComponents.length;
+		int length = reexportedComponents.length;
 		out.writeInt(length);
 		for (int i = 0; i < length; i++) {
 			out.writeUTF(reexportedComponents[i]);
@@ -212,6 +253,270 @@ public class BuildState {
 		}
 	}
 
+	/**
+	 * Reads the build state from the given file and the recorded changes from
+	 * the delta log next to it.
+	 *
+	 * @param file the state file
+	 * @return the {@link BuildState} read from the file or <code>null</code> if
+	 *         the state is outdated or does not match the delta log
+	 * @since 1.3.800
+	 */
+	public static BuildState read(File file) throws IOException {
+		BuildState state = null;
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+			state = read(in);
+		}
+		if (state != null && !state.readLog(getLogFile(file))) {
+			// the delta log was replaced or damaged - a full build is required
+			return null;
+		}
+		return state;
+	}
+
+	/**
+	 * Writes the given {@link BuildState} to the given file. Only the entries
+	 * of types that changed since the state was read are appended to the delta
+	 * log next to the file, unless the log has to be created or compacted.
+	 *
+	 * @param state the state to write
+	 * @param file the state file
+	 * @since 1.3.800
+	 */
+	public static void write(BuildState state, File file) throws IOException {
+		File log = getLogFile(file);
+		if (!state.appendLog(log)) {
+			state.rewriteLog(log);
+		}
+		Path target = file.toPath();
+		Path tmp = Files.createTempFile(target.getParent(), file.getName(), ".tmp"); //$NON-NLS-1$
+		try {
+			try (OutputStream stream = Files.newOutputStream(tmp);
+					DataOutputStream out = new DataOutputStream(new BufferedOutputStream(stream))) {
+				write(state, out);
+			}
+			Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} finally {
+			Files.deleteIfExists(tmp);
+		}
+	}
+
+	/**
+	 * Returns the delta log that belongs to the given state file
+	 */
+	private static File getLogFile(File file) {
+		return new File(file.getParentFile(), DELTAS_FILE);
+	}
+
+	/**
+	 * Reads the entries of the delta log that belong to this state. The
+	 * entries are not decoded.
+	 *
+	 * @param log the delta log
+	 * @return <code>true</code> if the log matches this state,
+	 *         <code>false</code> otherwise
+	 */
+	private boolean readLog(File log) throws IOException {
+		if (this.logId == 0 || !log.isFile() || log.length() < this.logLength) {
+			return false;
+		}
+		byte[] bytes = new byte[(int) this.logLength];
+		try (RandomAccessFile file = new RandomAccessFile(log, "r")) { //$NON-NLS-1$
+			file.readFully(bytes);
+		}
+		DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes));
+		if (!isLogHeader(in, this.logId)) {
+			return false;
+		}
+		for (int i = 0; i < this.logEntries; i++) {
+			String typeName = in.readUTF();
+			int length = in.readInt();
+			if (length == 0) {
+				this.storedChanges.remove(typeName);
+			} else {
+				byte[] entry = new byte[length];
+				in.readFully(entry);
+				this.storedChanges.put(typeName, entry);
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Appends the entries of all changed types to the delta log.
+	 *
+	 * @param log the delta log
+	 * @return <code>true</code> if the entries were appended,
+	 *         <code>false</code> if the log has to be rewritten instead
+	 */
+	private boolean appendLog(File log) throws IOException {
+		if (this.logId == 0 || !log.isFile() || log.length() < this.logLength) {
+			return false;
+		}
+		int live = getRecordedTypes().size();
+		int superseded = this.logEntries + this.changedTypes.size() - live;
+		if (superseded > COMPACTION_THRESHOLD && superseded > live) {
+			return false;
+		}
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (DataOutputStream out = new DataOutputStream(bytes)) {
+			for (String typeName : this.changedTypes) {
+				writeEntry(typeName, out);
+			}
+		}
+		try (RandomAccessFile file = new RandomAccessFile(log, "rw")) { //$NON-NLS-1$
+			if (!isLogHeader(file, this.logId)) {
+				return false;
+			}
+			// drop whatever a failed save may have left behind
+			file.setLength(this.logLength);
+			file.seek(this.logLength);
+			file.write(bytes.toByteArray());
+		}
+		if (ApiPlugin.DEBUG_BUILDER) {
+			System.out.println("ApiAnalysisBuilder: Appended " + this.changedTypes.size() + " entries to the delta log"); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		this.logLength += bytes.size();
+		this.logEntries += this.changedTypes.size();
+		this.changedTypes.clear();
+		return true;
+	}
+
+	/**
+	 * Rewrites the delta log with one entry per type that has recorded
+	 * changes.
+	 *
+	 * @param log the delta log
+	 */
+	private void rewriteLog(File log) throws IOException {
+		long id;
+		do {
+			id = ThreadLocalRandom.current().nextLong();
+		} while (id == 0);
+		Set<String> types = getRecordedTypes();
+		Path target = log.toPath();
+		Path tmp = Files.createTempFile(target.getParent(), log.getName(), ".tmp"); //$NON-NLS-1$
+		try {
+			try (OutputStream stream = Files.newOutputStream(tmp);
+					DataOutputStream out = new DataOutputStream(new BufferedOutputStream(stream))) {
+				writeLogHeader(out, id);
+				for (String typeName : types) {
+					writeEntry(typeName, out);
+				}
+			}
+			Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} finally {
+			Files.deleteIfExists(tmp);
+		}
+		if (ApiPlugin.DEBUG_BUILDER) {
+			System.out.println("ApiAnalysisBuilder: Rewrote the delta log with " + types.size() + " entries"); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		this.logId = id;
+		this.logLength = Files.size(target);
+		this.logEntries = types.size();
+		this.changedTypes.clear();
+	}
+
+	private static void writeLogHeader(DataOutputStream out, long id) throws IOException {
+		out.writeUTF(ApiPlugin.PLUGIN_ID);
+		out.writeUTF("DELTAS"); //$NON-NLS-1$
+		out.writeInt(VERSION);
+		out.writeLong(id);
+	}
+
+	private static boolean isLogHeader(DataInput in, long id) throws IOException {
+		return ApiPlugin.PLUGIN_ID.equals(in.readUTF()) && "DELTAS".equals(in.readUTF()) //$NON-NLS-1$
+				&& in.readInt() == VERSION && in.readLong() == id;
+	}
+
+	/**
+	 * Writes the entry of the given type to the delta log, an empty entry if
+	 * the type has no recorded changes
+	 */
+	private void writeEntry(String typeName, DataOutputStream out) throws IOException {
+		out.writeUTF(typeName);
+		byte[] entry = this.storedChanges.get(typeName);
+		if (entry == null) {
+			entry = encode(typeName);
+		}
+		out.writeInt(entry.length);
+		out.write(entry);
+	}
+
+	/**
+	 * Encodes the changes recorded for the given type, the result is empty if
+	 * there are none
+	 */
+	private byte[] encode(String typeName) throws IOException {
+		Set<IDelta> compatible = this.compatibleChanges.getOrDefault(typeName, Collections.emptySet());
+		Set<IDelta> breaking = this.breakingChanges.getOrDefault(typeName, Collections.emptySet());
+		if (compatible.isEmpty() && breaking.isEmpty()) {
+			return new byte[0];
+		}
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (DataOutputStream out = new DataOutputStream(bytes)) {
+			out.writeInt(compatible.size());
+			for (IDelta delta : compatible) {
+				writeDelta(delta, out);
+			}
+			out.writeInt(breaking.size());
+			for (IDelta delta : breaking) {
+				writeDelta(delta, out);
+			}
+		}
+		return bytes.toByteArray();
+	}
+
+	/**
+	 * Decodes the stored entry of the given type, if any, into the recorded
+	 * changes
+	 */
+	private void decode(String typeName) {
+		byte[] entry = this.storedChanges.remove(typeName);
+		if (entry == null) {
+			return;
+		}
+		try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(entry))) {
+			int count = in.readInt();
+			for (int i = 0; i < count; i++) {
+				addChange(this.compatibleChanges, typeName, readDelta(in));
+			}
+			count = in.readInt();
+			for (int i = 0; i < count; i++) {
+				addChange(this.breakingChanges, typeName, readDelta(in));
+			}
+		} catch (IOException e) {
+			ApiPlugin.log("Failed to decode the build state entry of " + typeName, e); //$NON-NLS-1$
+			// rewrite whatever could be decoded
+			this.changedTypes.add(typeName);
+		}
+	}
+
+	/**
+	 * Decodes all stored entries into the recorded changes
+	 */
+	private void decodeAll() {
+		if (!this.storedChanges.isEmpty()) {
+			for (String typeName : new ArrayList<>(this.storedChanges.keySet())) {
+				decode(typeName);
+			}
+		}
+	}
+
+	/**
+	 * @return the names of all types with recorded changes
+	 */
+	private Set<String> getRecordedTypes() {
+		Set<String> types = new LinkedHashSet<>(this.storedChanges.keySet());
+		types.addAll(this.compatibleChanges.keySet());
+		types.addAll(this.breakingChanges.keySet());
+		return types;
+	}
+
+	private static void addChange(Map<String, Set<IDelta>> changes, String typeName, IDelta delta) {
+		changes.computeIfAbsent(typeName, k -> new HashSet<>()).add(delta);
+	}
+
 	/**
 	 * Read the {@link IDelta} from the build state (input stream)
 	 *
@@ -292,14 +597,9 @@ public class BuildState {
 	 */
 	public void addCompatibleChange(IDelta delta) {
 		String typeName = delta.getTypeName();
-		Set<IDelta> object = this.compatibleChanges.get(typeName);
-		if (object == null) {
-			Set<IDelta> changes = new HashSet<>();
-			changes.add(delta);
-			this.compatibleChanges.put(typeName, changes);
-		} else {
-			object.add(delta);
-		}
+		decode(typeName);
+		this.changedTypes.add(typeName);
+		addChange(this.compatibleChanges, typeName, delta);
 	}
 
 	/**
@@ -310,14 +610,9 @@ public class BuildState {
 	 */
 	public void addBreakingChange(IDelta delta) {
 		String typeName = delta.getTypeName();
-		Set<IDelta> object = this.breakingChanges.get(typeName);
-		if (object == null) {
-			Set<IDelta> changes = new HashSet<>();
-			changes.add(delta);
-			this.breakingChanges.put(typeName, changes);
-		} else {
-			object.add(delta);
-		}
+		decode(typeName);
+		this.changedTypes.add(typeName);
+		addChange(this.breakingChanges, typeName, delta);
 	}
 
 	/**
@@ -325,6 +620,7 @@ public class BuildState {
 	 *         removed, or an empty array, never <code>null</code>
 	 */
 	public IDelta[] getBreakingChanges() {
+		decodeAll();
 		if (this.breakingChanges == null || this.breakingChanges.isEmpty()) {
 			return EMPTY_DELTAS;
 		}
@@ -341,6 +637,7 @@ public class BuildState {
 	 *         removed, or an empty array, never <code>null</code>
 	 */
 	public IDelta[] getCompatibleChanges() {
+		decodeAll();
 		if (this.compatibleChanges == null || this.compatibleChanges.isEmpty()) {
 			return EMPTY_DELTAS;
 		}
@@ -368,6 +665,8 @@ public class BuildState {
 	 * @param typeName the given type name
 	 */
 	public void cleanup(String typeName) {
+		this.storedChanges.remove(typeName);
+		this.changedTypes.add(typeName);
 		this.breakingChanges.remove(typeName);
 		this.compatibleChanges.remove(typeName);
 		this.reexportedComponents = null;
@@ -543,8 +842,8 @@ public class BuildState {
 		File file = getSerializationFile(project);
 		if (file != null && file.exists()) {
 			try {
-				try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
-					return read(in);
+				try {
+					return read(file);
 				} finally {
 					if (ApiPlugin.DEBUG_BUILDER) {
 						System.out.println("ApiAnalysisBuilder: Saved state thinks last build failed for " + project.getName()); //$NON-NLS-1$
@@ -566,6 +865,8 @@ public class BuildState {
 
 	/**
 	 * Sets the last built state for the given project, or null to reset it.
+	 * Resetting only removes the state file, a state that is still in memory
+	 * can keep appending to the delta log when it is saved.
 	 *
 	 * @param project the project to set a state for
 	 * @param state the {@link BuildState} to set as the last state
@@ -601,7 +902,7 @@ public class BuildState {
 			return null;
 		}
 		IPath workingLocation = project.getWorkingLocation(ApiPlugin.PLUGIN_ID);
-		return workingLocation.append("state.dat").toFile(); //$NON-NLS-1$
+		return workingLocation.append(STATE_FILE).toFile();
 	}
 
 	/**
@@ -619,8 +920,8 @@ public class BuildState {
 		if (ApiPlugin.DEBUG_BUILDER) {
 			t = System.currentTimeMillis();
 		}
-		try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)))) {
-			write(state, out);
+		try {
+			write(state, file);
 		} catch (RuntimeException | IOException e) {
 			try {
 				file.delete();
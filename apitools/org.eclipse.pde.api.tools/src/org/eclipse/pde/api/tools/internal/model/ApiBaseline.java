@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2024 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -168,6 +168,11 @@ public class ApiBaseline extends ApiElement implements IApiBaseline, IVMInstallC
 	 */
 	private volatile IVMInstall fVMBinding;
 
+	/**
+	 * Persistent index of the archives of this baseline or <code>null</code>
+	 */
+	private volatile ApiBaselineIndex fIndex;
+
 	private volatile boolean disposed;
 
 	private volatile boolean restored;
@@ -992,6 +997,26 @@ public class ApiBaseline extends ApiElement implements IApiBaseline, IVMInstallC
 		this.fLocation = location;
 	}
 
+	/**
+	 * Returns the persistent index of the archives of this baseline.
+	 *
+	 * @return the index or <code>null</code> if this baseline is not indexed
+	 */
+	public ApiBaselineIndex getIndex() {
+		return fIndex;
+	}
+
+	/**
+	 * Sets the persistent index of the archives of this baseline. Components
+	 * created afterwards read and record their archive information through
+	 * the index.
+	 *
+	 * @param index the index or <code>null</code>
+	 */
+	public void setIndex(ApiBaselineIndex index) {
+		fIndex = index;
+	}
+
 	@Override
 	public IApiComponent getApiComponent(IProject project) {
 		loadBaselineInfos();
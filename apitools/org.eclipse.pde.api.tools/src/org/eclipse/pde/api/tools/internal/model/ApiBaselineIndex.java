@@ -0,0 +1,444 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - persistent API baseline index
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.internal.model;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.UnaryOperator;
+
+import org.eclipse.osgi.framework.util.CaseInsensitiveDictionaryMap;
+import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
+
+/**
+ * Persistent index of the information an {@link ApiBaseline} reads from the
+ * archives of its components: the bundle manifest, the package and type table
+ * of each archive and the <code>.api_description</code> file.
+ * <p>
+ * With the index in place, a restored baseline can create its components and
+ * answer package and type lookups without opening every archive again. Only
+ * class files that are actually analyzed are read from the archives. Entries
+ * are only used as long as the length and the time stamp of their archive are
+ * unchanged, directories are never indexed.
+ * </p>
+ * <p>
+ * The index file starts with a table of all archives and the offset of their
+ * data. The data of an archive is only decoded when it is first asked for.
+ * </p>
+ *
+ * @since 1.3.800
+ */
+public final class ApiBaselineIndex {
+
+	private static final int MAGIC = 0x41504958; // 'APIX'
+	private static final int VERSION = 1;
+
+	private static final int FLAG_MANIFEST = 1;
+	private static final int FLAG_PACKAGES = 2;
+	private static final int FLAG_API_DESCRIPTION = 4;
+
+	/**
+	 * Indexed information of a single archive, a <code>null</code> field means
+	 * the information has not been indexed yet
+	 */
+	private record Archive(long length, long lastModified, Map<String, String> manifest,
+			Map<String, Map<String, String>> packages, String apiDescription) {
+
+		boolean matches(long fileLength, long fileLastModified) {
+			return length == fileLength && lastModified == fileLastModified;
+		}
+	}
+
+	/**
+	 * Archive loaded from disk that has not been decoded yet
+	 */
+	private record Pending(long length, long lastModified, int offset) {
+	}
+
+	private final File fFile;
+	private final Map<String, Archive> fArchives = new ConcurrentHashMap<>();
+	private final Map<String, Pending> fPending = new ConcurrentHashMap<>();
+	private ByteBuffer fData;
+	private volatile boolean fDirty;
+
+	private ApiBaselineIndex(File file) {
+		fFile = file;
+	}
+
+	/**
+	 * Loads the index stored in the given file. A missing, outdated or corrupt
+	 * file results in an empty index.
+	 *
+	 * @param file the file of the index
+	 * @return the index, never <code>null</code>
+	 */
+	public static ApiBaselineIndex load(File file) {
+		ApiBaselineIndex index = new ApiBaselineIndex(file);
+		try {
+			index.read(Files.readAllBytes(file.toPath()));
+		} catch (NoSuchFileException e) {
+			// nothing indexed yet
+		} catch (IOException | RuntimeException e) {
+			index.fPending.clear();
+			index.fData = null;
+			if (ApiPlugin.DEBUG_BASELINE_MANAGER) {
+				System.out.println("Ignoring unreadable baseline index " + file + ": " + e); //$NON-NLS-1$ //$NON-NLS-2$
+			}
+		}
+		return index;
+	}
+
+	private void read(byte[] bytes) throws IOException {
+		ByteBuffer buffer = ByteBuffer.wrap(bytes);
+		if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+			throw new IOException("Unsupported baseline index format"); //$NON-NLS-1$
+		}
+		int count = buffer.getInt();
+		Map<String, Pending> pending = new HashMap<>();
+		for (int i = 0; i < count; i++) {
+			String location = readString(buffer);
+			pending.put(location, new Pending(buffer.getLong(), buffer.getLong(), buffer.getInt()));
+		}
+		fData = buffer.slice();
+		fPending.putAll(pending);
+	}
+
+	/**
+	 * Returns the indexed manifest of the given archive.
+	 *
+	 * @param archive the archive file
+	 * @return a copy of the manifest headers or <code>null</code> if not
+	 *         indexed
+	 */
+	public Map<String, String> getManifest(File archive) {
+		Archive entry = get(archive);
+		if (entry == null || entry.manifest() == null) {
+			return null;
+		}
+		Map<String, String> manifest = new CaseInsensitiveDictionaryMap<>(entry.manifest().size());
+		manifest.putAll(entry.manifest());
+		return manifest;
+	}
+
+	/**
+	 * Records the manifest of the given archive.
+	 *
+	 * @param archive the archive file
+	 * @param manifest the manifest headers
+	 */
+	public void putManifest(File archive, Map<String, String> manifest) {
+		Map<String, String> copy = Collections.unmodifiableMap(new HashMap<>(manifest));
+		update(archive, a -> new Archive(a.length(), a.lastModified(), copy, a.packages(), a.apiDescription()));
+	}
+
+	/**
+	 * Returns the indexed packages of the given archive.
+	 *
+	 * @param archive the archive file
+	 * @return map of package names to a map of type names to the entry names
+	 *         of their class files, or <code>null</code> if not indexed. The map
+	 *         must not be modified.
+	 */
+	public Map<String, Map<String, String>> getPackages(File archive) {
+		Archive entry = get(archive);
+		return entry == null ? null : entry.packages();
+	}
+
+	/**
+	 * Records the packages of the given archive.
+	 *
+	 * @param archive the archive file
+	 * @param packages map of package names to a map of type names to the entry
+	 *            names of their class files
+	 */
+	public void putPackages(File archive, Map<String, Map<String, String>> packages) {
+		Map<String, Map<String, String>> copy = new TreeMap<>();
+		for (Map.Entry<String, Map<String, String>> entry : packages.entrySet()) {
+			copy.put(entry.getKey(), Collections.unmodifiableMap(new TreeMap<>(entry.getValue())));
+		}
+		Map<String, Map<String, String>> value = Collections.unmodifiableMap(copy);
+		update(archive, a -> new Archive(a.length(), a.lastModified(), a.manifest(), value, a.apiDescription()));
+	}
+
+	/**
+	 * Returns the indexed <code>.api_description</code> of the given archive.
+	 *
+	 * @param archive the archive file
+	 * @return the API description XML, an empty string if the archive has no
+	 *         API description or <code>null</code> if not indexed
+	 */
+	public String getApiDescription(File archive) {
+		Archive entry = get(archive);
+		return entry == null ? null : entry.apiDescription();
+	}
+
+	/**
+	 * Records the <code>.api_description</code> of the given archive.
+	 *
+	 * @param archive the archive file
+	 * @param xml the API description XML or <code>null</code> if the archive
+	 *            has none
+	 */
+	public void putApiDescription(File archive, String xml) {
+		String value = xml == null ? "" : xml; //$NON-NLS-1$
+		update(archive, a -> new Archive(a.length(), a.lastModified(), a.manifest(), a.packages(), value));
+	}
+
+	/**
+	 * @return whether the index changed since it was loaded or saved
+	 */
+	public boolean isDirty() {
+		return fDirty;
+	}
+
+	/**
+	 * Writes the index to its file, dropping all archives that no longer exist
+	 * or have changed.
+	 *
+	 * @throws IOException if the index could not be written
+	 */
+	public synchronized void save() throws IOException {
+		if (!fDirty) {
+			return;
+		}
+		// cleared before taking the snapshot so concurrent updates mark the
+		// index dirty again
+		fDirty = false;
+		try {
+			for (String location : new ArrayList<>(fPending.keySet())) {
+				decode(location);
+			}
+			List<Map.Entry<String, Archive>> archives = new ArrayList<>();
+			for (Map.Entry<String, Archive> entry : new TreeMap<>(fArchives).entrySet()) {
+				File file = new File(entry.getKey());
+				if (file.isFile() && entry.getValue().matches(file.length(), file.lastModified())) {
+					archives.add(entry);
+				}
+			}
+			ByteArrayOutputStream data = new ByteArrayOutputStream();
+			int[] offsets = new int[archives.size()];
+			try (DataOutputStream out = new DataOutputStream(data)) {
+				for (int i = 0; i < archives.size(); i++) {
+					offsets[i] = out.size();
+					writeArchive(out, archives.get(i).getValue());
+				}
+			}
+			Path target = fFile.toPath();
+			Files.createDirectories(target.getParent());
+			Path tmp = Files.createTempFile(target.getParent(), fFile.getName(), ".tmp"); //$NON-NLS-1$
+			try {
+				try (OutputStream stream = Files.newOutputStream(tmp);
+						DataOutputStream out = new DataOutputStream(new BufferedOutputStream(stream))) {
+					out.writeInt(MAGIC);
+					out.writeInt(VERSION);
+					out.writeInt(archives.size());
+					for (int i = 0; i < archives.size(); i++) {
+						Map.Entry<String, Archive> entry = archives.get(i);
+						writeString(out, entry.getKey());
+						out.writeLong(entry.getValue().length());
+						out.writeLong(entry.getValue().lastModified());
+						out.writeInt(offsets[i]);
+					}
+					data.writeTo(out);
+				}
+				Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			} finally {
+				Files.deleteIfExists(tmp);
+			}
+		} catch (IOException e) {
+			fDirty = true;
+			throw e;
+		}
+	}
+
+	/**
+	 * Deletes the file of this index and forgets all indexed information.
+	 */
+	public synchronized void delete() {
+		fArchives.clear();
+		fPending.clear();
+		fData = null;
+		fDirty = false;
+		try {
+			Files.deleteIfExists(fFile.toPath());
+		} catch (IOException e) {
+			ApiPlugin.log(e);
+		}
+	}
+
+	/**
+	 * Returns the entry of the given archive if it is still up to date.
+	 */
+	private Archive get(File archive) {
+		if (!archive.isFile()) {
+			return null;
+		}
+		String location = archive.getAbsolutePath();
+		Archive entry = fArchives.get(location);
+		if (entry == null) {
+			entry = decode(location);
+		}
+		if (entry == null || !entry.matches(archive.length(), archive.lastModified())) {
+			return null;
+		}
+		return entry;
+	}
+
+	private void update(File archive, UnaryOperator<Archive> change) {
+		if (!archive.isFile()) {
+			return;
+		}
+		String location = archive.getAbsolutePath();
+		long length = archive.length();
+		long lastModified = archive.lastModified();
+		if (!fArchives.containsKey(location)) {
+			decode(location);
+		}
+		fArchives.compute(location, (k, old) -> {
+			Archive base = old != null && old.matches(length, lastModified) ? old
+					: new Archive(length, lastModified, null, null, null);
+			return change.apply(base);
+		});
+		fDirty = true;
+	}
+
+	/**
+	 * Decodes the entry of the given location from the loaded index data, if
+	 * it has not been decoded before.
+	 */
+	private Archive decode(String location) {
+		Pending pending = fPending.remove(location);
+		if (pending == null) {
+			return fArchives.get(location);
+		}
+		Archive archive;
+		try {
+			ByteBuffer buffer;
+			synchronized (this) {
+				if (fData == null) {
+					return fArchives.get(location);
+				}
+				buffer = fData.duplicate();
+			}
+			buffer.position(pending.offset());
+			archive = readArchive(buffer, pending.length(), pending.lastModified());
+		} catch (RuntimeException e) {
+			// corrupt entry, re-index the archive
+			return null;
+		}
+		Archive existing = fArchives.putIfAbsent(location, archive);
+		return existing != null ? existing : archive;
+	}
+
+	private static Archive readArchive(ByteBuffer buffer, long length, long lastModified) {
+		int flags = buffer.get();
+		Map<String, String> manifest = null;
+		if ((flags & FLAG_MANIFEST) != 0) {
+			int count = buffer.getInt();
+			manifest = new HashMap<>(count * 4 / 3 + 1);
+			for (int i = 0; i < count; i++) {
+				manifest.put(readString(buffer), readString(buffer));
+			}
+			manifest = Collections.unmodifiableMap(manifest);
+		}
+		Map<String, Map<String, String>> packages = null;
+		if ((flags & FLAG_PACKAGES) != 0) {
+			int count = buffer.getInt();
+			packages = new TreeMap<>();
+			for (int i = 0; i < count; i++) {
+				String pkg = readString(buffer);
+				int types = buffer.getInt();
+				Map<String, String> entries = new TreeMap<>();
+				for (int j = 0; j < types; j++) {
+					entries.put(readString(buffer), readString(buffer));
+				}
+				packages.put(pkg, Collections.unmodifiableMap(entries));
+			}
+			packages = Collections.unmodifiableMap(packages);
+		}
+		String apiDescription = null;
+		if ((flags & FLAG_API_DESCRIPTION) != 0) {
+			apiDescription = readString(buffer);
+		}
+		return new Archive(length, lastModified, manifest, packages, apiDescription);
+	}
+
+	private static void writeArchive(DataOutputStream out, Archive archive) throws IOException {
+		int flags = 0;
+		if (archive.manifest() != null) {
+			flags |= FLAG_MANIFEST;
+		}
+		if (archive.packages() != null) {
+			flags |= FLAG_PACKAGES;
+		}
+		if (archive.apiDescription() != null) {
+			flags |= FLAG_API_DESCRIPTION;
+		}
+		out.writeByte(flags);
+		if (archive.manifest() != null) {
+			out.writeInt(archive.manifest().size());
+			for (Map.Entry<String, String> header : archive.manifest().entrySet()) {
+				writeString(out, header.getKey());
+				writeString(out, header.getValue());
+			}
+		}
+		if (archive.packages() != null) {
+			out.writeInt(archive.packages().size());
+			for (Map.Entry<String, Map<String, String>> pkg : archive.packages().entrySet()) {
+				writeString(out, pkg.getKey());
+				out.writeInt(pkg.getValue().size());
+				for (Map.Entry<String, String> type : pkg.getValue().entrySet()) {
+					writeString(out, type.getKey());
+					writeString(out, type.getValue());
+				}
+			}
+		}
+		if (archive.apiDescription() != null) {
+			writeString(out, archive.apiDescription());
+		}
+	}
+
+	/**
+	 * Writes a string with an int length prefix, {@link DataOutputStream#writeUTF(String)}
+	 * is limited to 64k which API descriptions easily exceed
+	 */
+	private static void writeString(DataOutputStream out, String value) throws IOException {
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		out.writeInt(bytes.length);
+		out.write(bytes);
+	}
+
+	private static String readString(ByteBuffer buffer) {
+		byte[] bytes = new byte[buffer.getInt()];
+		buffer.get(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+}
@@ -0,0 +1,130 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - shared strings of the API model
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.internal.model;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Pool of the names, descriptors and signatures referenced from
+ * {@link ApiType}, {@link ApiMethod} and {@link ApiField} structures.
+ * <p>
+ * Type structures for the same class are built once per baseline and member
+ * descriptors like <code>()V</code> or <code>Ljava/lang/String;</code>
+ * repeat in nearly every type, so without pooling the model cache holds many
+ * equal copies of the same strings. The pool hands out one shared instance
+ * per distinct string. Entries are only weakly referenced and disappear once
+ * no type structure uses them anymore.
+ * </p>
+ * <p>
+ * Pooling is enabled by default, it can be disabled by setting the system
+ * property <code>org.eclipse.pde.api.tools.compactModel</code> to
+ * <code>false</code>.
+ * </p>
+ *
+ * @since 1.3.800
+ */
+public final class ApiModelStringPool {
+
+	/**
+	 * Number of independently locked segments, must be a power of two
+	 */
+	private static final int SEGMENTS = 16;
+
+	@SuppressWarnings("unchecked")
+	private static final Map<String, WeakReference<String>>[] fSegments = new Map[SEGMENTS];
+
+	private static volatile boolean fEnabled = !"false".equals(System.getProperty("org.eclipse.pde.api.tools.compactModel")); //$NON-NLS-1$ //$NON-NLS-2$
+
+	static {
+		for (int i = 0; i < SEGMENTS; i++) {
+			fSegments[i] = new WeakHashMap<>();
+		}
+	}
+
+	/**
+	 * Constructor - no instantiation
+	 */
+	private ApiModelStringPool() {
+	}
+
+	/**
+	 * Returns the shared instance of the given string.
+	 *
+	 * @param value the string to pool, may be <code>null</code>
+	 * @return the pooled string equal to the given one, or the given string if
+	 *         pooling is disabled
+	 */
+	public static String pool(String value) {
+		if (value == null || !fEnabled) {
+			return value;
+		}
+		Map<String, WeakReference<String>> segment = fSegments[value.hashCode() & (SEGMENTS - 1)];
+		synchronized (segment) {
+			WeakReference<String> ref = segment.get(value);
+			String pooled = ref == null ? null : ref.get();
+			if (pooled == null) {
+				segment.put(value, new WeakReference<>(value));
+				pooled = value;
+			}
+			return pooled;
+		}
+	}
+
+	/**
+	 * Returns an array containing the shared instances of the given strings.
+	 * The given array is updated in place.
+	 *
+	 * @param values the strings to pool, may be <code>null</code>
+	 * @return the given array
+	 */
+	public static String[] pool(String[] values) {
+		if (values != null && fEnabled) {
+			for (int i = 0; i < values.length; i++) {
+				values[i] = pool(values[i]);
+			}
+		}
+		return values;
+	}
+
+	/**
+	 * Enables or disables pooling of new type structures. Already built
+	 * structures are not affected.
+	 *
+	 * @param enabled whether strings should be pooled
+	 */
+	public static void setEnabled(boolean enabled) {
+		fEnabled = enabled;
+	}
+
+	/**
+	 * @return whether strings are currently pooled
+	 */
+	public static boolean isEnabled() {
+		return fEnabled;
+	}
+
+	/**
+	 * Removes all strings from the pool.
+	 */
+	public static void clear() {
+		for (Map<String, WeakReference<String>> segment : fSegments) {
+			synchronized (segment) {
+				segment.clear();
+			}
+		}
+	}
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2017 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,6 +13,7 @@
  *******************************************************************************/
 package org.eclipse.pde.api.tools.internal.model;
 
+import java.io.File;
 import java.io.IOException;
 import java.nio.file.FileSystem;
 import java.nio.file.Files;
@@ -224,6 +225,14 @@ public class ArchiveApiTypeContainer extends ApiElement implements IApiTypeConta
 	 */
 	private synchronized void init() throws CoreException {
 		if (fPackages == null) {
+			File archive = new File(fLocation);
+			ApiBaselineIndex index = getAncestor(IApiElement.BASELINE) instanceof ApiBaseline baseline ? baseline.getIndex() : null;
+			if (index != null) {
+				fPackages = index.getPackages(archive);
+				if (fPackages != null) {
+					return;
+				}
+			}
 			fPackages = new TreeMap<>();
 			try {
 				Path location = getLocation();
@@ -245,6 +254,9 @@ public class ArchiveApiTypeContainer extends ApiElement implements IApiTypeConta
 			} catch (IOException e) {
 				abort("Failed to process archive: " + fLocation, e); //$NON-NLS-1$
 			}
+			if (index != null) {
+				index.putPackages(archive, fPackages);
+			}
 		}
 	}
 
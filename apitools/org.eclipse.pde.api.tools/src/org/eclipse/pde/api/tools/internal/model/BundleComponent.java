@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2024 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -212,7 +212,15 @@ public class BundleComponent extends Component {
 		if (fManifest != null) {
 			return fManifest;
 		}
-		Map<String, String> manifest = loadManifest(new File(fLocation), isWorkspaceBinary());
+		File location = new File(fLocation);
+		ApiBaselineIndex index = getIndex();
+		Map<String, String> manifest = index != null ? index.getManifest(location) : null;
+		if (manifest == null) {
+			manifest = loadManifest(location, isWorkspaceBinary());
+			if (manifest != null && index != null) {
+				index.putManifest(location, manifest);
+			}
+		}
 		synchronized (this) {
 			if (fManifest == null) {
 				fManifest = manifest;
@@ -334,6 +342,19 @@ public class BundleComponent extends Component {
 		return fWorkspaceBinary;
 	}
 
+	/**
+	 * Returns the persistent index of the backing baseline. Workspace binary
+	 * components are never indexed, their output changes with every build.
+	 *
+	 * @return the index or <code>null</code> if this component is not indexed
+	 */
+	ApiBaselineIndex getIndex() {
+		if (isWorkspaceBinary()) {
+			return null;
+		}
+		return getBaseline() instanceof ApiBaseline baseline ? baseline.getIndex() : null;
+	}
+
 	/**
 	 * Returns the {@link State} from the backing baseline
 	 *
@@ -432,7 +453,17 @@ public class BundleComponent extends Component {
 		// first mark all packages as internal
 		initializeApiDescription(apiDesc, getBundleDescription(), getLocalPackageNames());
 		try {
-			String xml = loadApiDescription(new File(fLocation));
+			File location = new File(fLocation);
+			ApiBaselineIndex index = getIndex();
+			String xml = index != null ? index.getApiDescription(location) : null;
+			if (xml == null) {
+				xml = loadApiDescription(location);
+				if (index != null) {
+					index.putApiDescription(location, xml);
+				}
+			} else if (xml.isEmpty()) {
+				xml = null;
+			}
 			setHasApiDescription(xml != null);
 			if (xml != null) {
 				ApiDescriptionProcessor.annotateApiSettings(null, apiDesc, xml);
@@ -0,0 +1,217 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - sharing of parsed class files
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.internal.model;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.CRC32;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.pde.api.tools.internal.ConcurrentLRUCache;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiTypeRoot;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.tree.ClassNode;
+
+/**
+ * Cache of parsed class files shared by the consumers of class file bytes.
+ * <p>
+ * During an analysis the same class file is parsed by the
+ * {@link TypeStructureBuilder} to build its type structure, by the
+ * reference extractor to collect its references and once more for every
+ * local or anonymous type it encloses to find their enclosing methods. This
+ * cache parses a class file once into a {@link ClassNode} and replays the
+ * node to every consumer. Entries are keyed by type name and a checksum of the
+ * class file bytes, so a changed class file never hits a stale entry.
+ * </p>
+ * <p>
+ * Caching is enabled by default, it can be disabled by setting the system
+ * property <code>org.eclipse.pde.api.tools.classFileCache</code> to
+ * <code>false</code>.
+ * </p>
+ *
+ * @since 1.3.800
+ */
+public final class ClassFileModelCache {
+
+	private record Key(String typeName, long checksum, int length) {
+	}
+
+	private record Model(byte[] contents, ClassNode node) {
+	}
+
+	/**
+	 * Number of parsed class files kept, a class file and the types it
+	 * encloses are usually requested in a row
+	 */
+	private static final int SIZE = 256;
+
+	private static final ConcurrentLRUCache<Key, Model> fCache = new ConcurrentLRUCache<>(SIZE, SIZE / 4);
+
+	private static final LongAdder fBytesParsed = new LongAdder();
+
+	private static volatile boolean fEnabled = !"false".equals(System.getProperty("org.eclipse.pde.api.tools.classFileCache")); //$NON-NLS-1$ //$NON-NLS-2$
+
+	/**
+	 * Constructor - no instantiation
+	 */
+	private ClassFileModelCache() {
+	}
+
+	/**
+	 * Makes the given visitor visit the complete class file of the given type
+	 * root, except for stack map frames. The class file is only parsed if it
+	 * is not cached yet.
+	 *
+	 * @param root the type root to visit
+	 * @param visitor the visitor
+	 * @throws CoreException if the class file cannot be read
+	 */
+	public static void accept(AbstractApiTypeRoot root, ClassVisitor visitor) throws CoreException {
+		byte[] contents = root.getContents();
+		if (!fEnabled) {
+			fBytesParsed.add(contents.length);
+			new ClassReader(contents).accept(visitor, ClassReader.SKIP_FRAMES);
+			return;
+		}
+		replay(getModel(root.getTypeName(), contents).node(), visitor);
+	}
+
+	/**
+	 * Parses and caches the class file of the given type root unless it is
+	 * cached already. Used ahead of building the type structure of a class
+	 * file whose code is visited next, so both only need one parse. Bad class
+	 * files are ignored, they are reported when their structure is built.
+	 *
+	 * @param root the type root to load
+	 * @throws CoreException if the class file cannot be read
+	 */
+	public static void load(IApiTypeRoot root) throws CoreException {
+		if (fEnabled && root instanceof AbstractApiTypeRoot typeRoot) {
+			try {
+				getModel(typeRoot.getTypeName(), typeRoot.getContents());
+			} catch (ArrayIndexOutOfBoundsException | IllegalArgumentException e) {
+				// bad class file
+			}
+		}
+	}
+
+	/**
+	 * Makes the given visitor visit the cached class file with the given
+	 * contents.
+	 *
+	 * @param contents the class file bytes
+	 * @param root the type root of the class file or <code>null</code>
+	 * @param visitor the visitor
+	 * @return <code>true</code> if the class file was cached and visited,
+	 *         <code>false</code> if the caller has to parse it
+	 */
+	static boolean acceptCached(byte[] contents, IApiTypeRoot root, ClassVisitor visitor) {
+		if (!fEnabled || root == null) {
+			return false;
+		}
+		Key key = new Key(root.getTypeName(), checksum(contents), contents.length);
+		Model model = fCache.get(key);
+		if (model == null || !Arrays.equals(model.contents(), contents)) {
+			return false;
+		}
+		replay(model.node(), visitor);
+		return true;
+	}
+
+	/**
+	 * Records that a consumer parsed class file bytes on its own.
+	 *
+	 * @param length the number of bytes parsed
+	 */
+	static void parsed(int length) {
+		fBytesParsed.add(length);
+	}
+
+	private static Model getModel(String typeName, byte[] contents) {
+		Key key = new Key(typeName, checksum(contents), contents.length);
+		Model model = fCache.computeIfAbsent(key, k -> parse(contents));
+		if (!Arrays.equals(model.contents(), contents)) {
+			// checksum collision, do not replace the cached class file
+			return parse(contents);
+		}
+		return model;
+	}
+
+	private static Model parse(byte[] contents) {
+		fBytesParsed.add(contents.length);
+		ClassNode node = new ClassNode();
+		new ClassReader(contents).accept(node, ClassReader.SKIP_FRAMES);
+		return new Model(contents, node);
+	}
+
+	private static void replay(ClassNode node, ClassVisitor visitor) {
+		// visiting a method node resets its labels, so replays of the same
+		// node must not overlap
+		synchronized (node) {
+			node.accept(visitor);
+		}
+	}
+
+	private static long checksum(byte[] contents) {
+		CRC32 crc = new CRC32();
+		crc.update(contents);
+		return crc.getValue();
+	}
+
+	/**
+	 * @return the number of class file bytes parsed by the cache and by the
+	 *         consumers that parsed on their own
+	 */
+	public static long getBytesParsed() {
+		return fBytesParsed.sum();
+	}
+
+	/**
+	 * @return the lookup statistics of the cache
+	 */
+	public static ConcurrentLRUCache.Statistics getStatistics() {
+		return fCache.getStatistics();
+	}
+
+	/**
+	 * Enables or disables caching of parsed class files. Disabling the cache
+	 * clears it.
+	 *
+	 * @param enabled whether class files should be cached
+	 */
+	public static void setEnabled(boolean enabled) {
+		fEnabled = enabled;
+		if (!enabled) {
+			fCache.flush();
+		}
+	}
+
+	/**
+	 * @return whether parsed class files are cached
+	 */
+	public static boolean isEnabled() {
+		return fEnabled;
+	}
+
+	/**
+	 * Removes all cached class files and resets the statistics.
+	 */
+	public static void clear() {
+		fCache.flush();
+		fCache.getStatistics().reset();
+		fBytesParsed.reset();
+	}
+
+}
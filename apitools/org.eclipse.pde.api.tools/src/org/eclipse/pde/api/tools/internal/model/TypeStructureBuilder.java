@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2020 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,6 +14,8 @@
 
 package org.eclipse.pde.api.tools.internal.model;
 
+import static org.eclipse.pde.api.tools.internal.model.ApiModelStringPool.pool;
+
 import java.io.ByteArrayInputStream;
 import java.io.DataInputStream;
 import java.io.IOException;
@@ -79,16 +81,17 @@ public class TypeStructureBuilder extends ClassVisitor {
 			laccess &= ~Opcodes.ACC_DEPRECATED;
 			laccess |= Flags.AccDeprecated;
 		}
-		fType = new ApiType(fComponent, name.replace('/', '.'), simpleSig.toString(), signature, laccess, enclosingName, fFile);
+		fType = new ApiType(fComponent, pool(name.replace('/', '.')), pool(simpleSig.toString()), pool(signature),
+				laccess, pool(enclosingName), fFile);
 		if (superName != null) {
-			fType.setSuperclassName(superName.replace('/', '.'));
+			fType.setSuperclassName(pool(superName.replace('/', '.')));
 		}
 		if (interfaces != null && interfaces.length > 0) {
 			String[] names = new String[interfaces.length];
 			for (int i = 0; i < names.length; i++) {
 				names[i] = interfaces[i].replace('/', '.');
 			}
-			fType.setSuperInterfaceNames(names);
+			fType.setSuperInterfaceNames(pool(names));
 		}
 		super.visit(version, laccess, name, signature, superName, interfaces);
 	}
@@ -102,7 +105,7 @@ public class TypeStructureBuilder extends ClassVisitor {
 				fType.setAnonymous();
 			} else if (outerName == null) {
 				fType.setLocal();
-				fType.setSimpleName(innerName);
+				fType.setSimpleName(pool(innerName));
 			}
 		}
 		if (outerName != null && innerName != null) {
@@ -113,10 +116,10 @@ public class TypeStructureBuilder extends ClassVisitor {
 			if (currentOuterName.equals(fType.getName())) {
 				// this is a real type member defined in the descriptor (not
 				// just a reference to a type member)
-				fType.addMemberType(currentName);
+				fType.addMemberType(pool(currentName));
 			} else if (currentName.equals(fType.getName())) {
 				fType.setModifiers(access);
-				fType.setSimpleName(innerName);
+				fType.setSimpleName(pool(innerName));
 				fType.setMemberType();
 			}
 		}
@@ -124,7 +127,7 @@ public class TypeStructureBuilder extends ClassVisitor {
 
 	@Override
 	public void visitOuterClass(String owner, String name, String desc) {
-		fType.setEnclosingMethodInfo(name, desc);
+		fType.setEnclosingMethodInfo(pool(name), pool(desc));
 	}
 
 	@Override
@@ -134,7 +137,7 @@ public class TypeStructureBuilder extends ClassVisitor {
 			laccess &= ~Opcodes.ACC_DEPRECATED;
 			laccess |= Flags.AccDeprecated;
 		}
-		fType.addField(name, desc, signature, laccess, value);
+		fType.addField(pool(name), pool(desc), pool(signature), laccess, value);
 		return null;
 	}
 
@@ -152,7 +155,7 @@ public class TypeStructureBuilder extends ClassVisitor {
 				names[i] = exceptions[i].replace('/', '.');
 			}
 		}
-		final ApiMethod method = fType.addMethod(name, desc, signature, laccess, names);
+		final ApiMethod method = fType.addMethod(pool(name), pool(desc), pool(signature), laccess, pool(names));
 		return new MethodVisitor(Util.LATEST_OPCODES_ASM,
 				super.visitMethod(laccess, name, desc, signature, exceptions)) {
 			@Override
@@ -255,10 +258,15 @@ public class TypeStructureBuilder extends ClassVisitor {
 	 * @param file associated class file
 	 */
 	public static IApiType buildTypeStructure(byte[] bytes, IApiComponent component, IApiTypeRoot file) {
-		TypeStructureBuilder visitor = new TypeStructureBuilder(new ClassNode(), component, file);
+		// a cached class file is replayed with its code, do not copy it
+		TypeStructureBuilder visitor = new TypeStructureBuilder(null, component, file);
 		try {
-			ClassReader classReader = new ClassReader(bytes);
-			classReader.accept(visitor, ClassReader.SKIP_CODE | ClassReader.SKIP_FRAMES);
+			if (!ClassFileModelCache.acceptCached(bytes, file, visitor)) {
+				visitor = new TypeStructureBuilder(new ClassNode(), component, file);
+				ClassFileModelCache.parsed(bytes.length);
+				ClassReader classReader = new ClassReader(bytes);
+				classReader.accept(visitor, ClassReader.SKIP_CODE | ClassReader.SKIP_FRAMES);
+			}
 		} catch (ArrayIndexOutOfBoundsException e) {
 			logAndReturn(file, e);
 			return null;
@@ -278,8 +286,7 @@ public class TypeStructureBuilder extends ClassVisitor {
 		if (typeRoot instanceof AbstractApiTypeRoot abstractApiTypeRoot) {
 			EnclosingMethodSetter visitor = new EnclosingMethodSetter(new ClassNode(), currentAnonymousLocalType.getName());
 			try {
-				ClassReader classReader = new ClassReader(abstractApiTypeRoot.getContents());
-				classReader.accept(visitor, ClassReader.SKIP_FRAMES);
+				ClassFileModelCache.accept(abstractApiTypeRoot, visitor);
 			} catch (ArrayIndexOutOfBoundsException | CoreException e) {
 				// bytes could not be retrieved for abstractApiTypeRoot
 				ApiPlugin.log(e);
@@ -395,7 +402,7 @@ public class TypeStructureBuilder extends ClassVisitor {
 		// decode the byte[]
 		ApiType type = null;
 		try (DataInputStream inputStream = new DataInputStream(new ByteArrayInputStream(contents))) {
-			Map<Integer, String> pool = new HashMap<>();
+			Map<Integer, String> constants = new HashMap<>();
 			short currentVersion = inputStream.readShort(); // read file version
 															// (for now there is
 															// only one version)
@@ -403,7 +410,7 @@ public class TypeStructureBuilder extends ClassVisitor {
 			for (int i = 0; i < poolSize; i++) {
 				String readUtf = inputStream.readUTF();
 				int index = inputStream.readShort();
-				pool.put(Integer.valueOf(index), readUtf);
+				constants.put(Integer.valueOf(index), readUtf);
 			}
 			int access = 0;
 			// access flag was added in version 2 of the stub format
@@ -411,40 +418,42 @@ public class TypeStructureBuilder extends ClassVisitor {
 				access = inputStream.readChar();
 			}
 			int classIndex = inputStream.readShort();
-			String name = pool.get(Integer.valueOf(classIndex));
+			String name = constants.get(Integer.valueOf(classIndex));
 			StringBuilder simpleSig = new StringBuilder();
 			simpleSig.append('L');
 			simpleSig.append(name);
 			simpleSig.append(';');
-			type = new ApiType(apiComponent, name.replace('/', '.'), simpleSig.toString(), null, access, null, archiveApiTypeRoot);
+			type = new ApiType(apiComponent, pool(name.replace('/', '.')), pool(simpleSig.toString()), null, access,
+					null, archiveApiTypeRoot);
 			int superclassNameIndex = inputStream.readShort();
 			if (superclassNameIndex != -1) {
-				String superclassName = pool.get(Integer.valueOf(superclassNameIndex));
-				type.setSuperclassName(superclassName.replace('/', '.'));
+				String superclassName = constants.get(Integer.valueOf(superclassNameIndex));
+				type.setSuperclassName(pool(superclassName.replace('/', '.')));
 			}
 			int interfacesLength = inputStream.readShort();
 			if (interfacesLength != 0) {
 				String[] names = new String[interfacesLength];
 				for (int i = 0; i < names.length; i++) {
-					String interfaceName = pool.get(Integer.valueOf(inputStream.readShort()));
+					String interfaceName = constants.get(Integer.valueOf(inputStream.readShort()));
 					names[i] = interfaceName.replace('/', '.');
 				}
-				type.setSuperInterfaceNames(names);
+				type.setSuperInterfaceNames(pool(names));
 			}
 			int fieldsLength = inputStream.readShort();
 			for (int i = 0; i < fieldsLength; i++) {
-				String fieldName = pool.get(Integer.valueOf(inputStream.readShort()));
-				type.addField(fieldName, null, null, 0, null);
+				String fieldName = constants.get(Integer.valueOf(inputStream.readShort()));
+				type.addField(pool(fieldName), null, null, 0, null);
 			}
 			int methodsLength = inputStream.readShort();
 			for (int i = 0; i < methodsLength; i++) {
 				int isPolymorphic = 0;
-				String methodSelector = pool.get(Integer.valueOf(inputStream.readShort()));
-				String methodSignature = pool.get(Integer.valueOf(inputStream.readShort()));
+				String methodSelector = constants.get(Integer.valueOf(inputStream.readShort()));
+				String methodSignature = constants.get(Integer.valueOf(inputStream.readShort()));
 				if (currentVersion == 3) {
 					isPolymorphic = inputStream.readByte();
 				}
-				type.addMethod(methodSelector, methodSignature, null, isPolymorphic == 1 ? ApiMethod.Polymorphic : 0, null);
+				type.addMethod(pool(methodSelector), pool(methodSignature), null,
+						isPolymorphic == 1 ? ApiMethod.Polymorphic : 0, null);
 			}
 		} catch (IOException e) {
 			ApiPlugin.log(e);
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2015 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -18,11 +18,17 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.MultiStatus;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.pde.api.tools.internal.AntFilterStore;
@@ -118,11 +124,156 @@ public final class ApiSearchEngine {
 		}
 	}
 
+	/**
+	 * Reporter that keeps the results of one searched element until they can
+	 * be passed on in scope order
+	 */
+	static final class BufferedReporter implements IApiSearchReporter {
+		private final List<IApiElement> fElements = new ArrayList<>();
+		private final List<IReference[]> fReferences = new ArrayList<>();
+
+		@Override
+		public void reportResults(IApiElement element, IReference[] references) {
+			fElements.add(element);
+			fReferences.add(references);
+		}
+
+		/**
+		 * Passes all kept results on to the given reporter, in the order they
+		 * were reported
+		 */
+		void flushTo(IApiSearchReporter reporter) {
+			for (int i = 0; i < fElements.size(); i++) {
+				reporter.reportResults(fElements.get(i), fReferences.get(i));
+			}
+			fElements.clear();
+			fReferences.clear();
+		}
+
+		@Override
+		public void reportNotSearched(IApiElement[] elements) {
+			// only results are reported during a search
+		}
+
+		@Override
+		public void reportMetadata(IMetadata data) {
+			// only results are reported during a search
+		}
+
+		@Override
+		public void reportCounts() {
+			// only results are reported during a search
+		}
+	}
+
+	/**
+	 * Searches the elements of a scope on a pool of threads. Each element is
+	 * searched by a single thread into a {@link BufferedReporter}, the results
+	 * are passed on to the real reporter in scope order by the thread that
+	 * runs the search. The real reporter therefore sees exactly the same calls
+	 * as in a sequential search.
+	 */
+	private final class ConcurrentSearch {
+		private final IApiSearchRequestor fRequestor;
+		private final IApiElement[] fElements;
+		private final Future<BufferedReporter>[] fResults;
+		private final ExecutorService fExecutor;
+		private final IProgressMonitor fMonitor;
+		/**
+		 * Number of elements searched ahead of the one being reported, bounds
+		 * the number of buffered results
+		 */
+		private final int fWindow;
+		private int fSubmitted = 0;
+
+		@SuppressWarnings("unchecked")
+		ConcurrentSearch(IApiSearchRequestor requestor, IApiElement[] elements, int threads, IProgressMonitor monitor) {
+			fRequestor = requestor;
+			fElements = elements;
+			fResults = new Future[elements.length];
+			fWindow = threads * 2;
+			fExecutor = Executors.newFixedThreadPool(threads, runnable -> {
+				Thread thread = new Thread(runnable, "API Use Scan"); //$NON-NLS-1$
+				thread.setDaemon(true);
+				return thread;
+			});
+			// progress is reported by the searching thread, the tasks only
+			// need to know about cancellation
+			fMonitor = new NullProgressMonitor() {
+				@Override
+				public boolean isCanceled() {
+					return monitor.isCanceled();
+				}
+			};
+		}
+
+		/**
+		 * Waits for the element at the given index to be searched and reports
+		 * its results to the given reporter
+		 */
+		void report(int index, IApiSearchReporter reporter) throws CoreException {
+			while (fSubmitted < fElements.length && fSubmitted <= index + fWindow) {
+				IApiElement element = fElements[fSubmitted];
+				fResults[fSubmitted++] = fExecutor.submit(() -> {
+					BufferedReporter buffer = new BufferedReporter();
+					searchReferences(fRequestor, element, buffer, fMonitor);
+					return buffer;
+				});
+			}
+			try {
+				fResults[index].get().flushTo(reporter);
+				fResults[index] = null;
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new OperationCanceledException();
+			} catch (ExecutionException e) {
+				Throwable cause = e.getCause();
+				if (cause instanceof CoreException ce) {
+					throw ce;
+				}
+				if (cause instanceof RuntimeException re) {
+					throw re;
+				}
+				if (cause instanceof Error error) {
+					throw error;
+				}
+				throw new CoreException(Status.error(cause.getMessage(), cause));
+			}
+		}
+
+		void dispose() {
+			fExecutor.shutdownNow();
+		}
+	}
+
 	/**
 	 * Simple string used for reporting what is being searched
 	 */
 	private String fRequestorContext = null;
 
+	/**
+	 * Number of threads searching the elements of the scope, <code>1</code>
+	 * to search sequentially
+	 */
+	private int fThreadCount = 1;
+
+	/**
+	 * Sets the number of threads used to search the elements of the scope
+	 * concurrently. Each element is searched by a single thread, the given
+	 * {@link IApiSearchRequestor} must allow different elements to be searched
+	 * at the same time. The {@link IApiSearchReporter} is only called from the
+	 * thread running the search and receives the results in the same order as
+	 * in a sequential search.
+	 *
+	 * @param threads the number of threads, <code>1</code> to search
+	 *            sequentially or a value smaller than <code>1</code> to use
+	 *            one thread per available processor
+	 * @since 1.3.800
+	 */
+	public void setThreadCount(int threads) {
+		fThreadCount = threads < 1 ? Runtime.getRuntime().availableProcessors() : threads;
+	}
+
 	/**
 	 * Returns the set of resolved references for the given {@link IApiType}
 	 *
@@ -250,31 +401,46 @@ public final class ApiSearchEngine {
 		long loopstart = 0;
 		String taskname = null;
 		MultiStatus mstatus = null;
-		for (int i = 0; i < scopeelements.length; i++) {
-			try {
-				taskname = MessageFormat.format(SearchMessages.ApiSearchEngine_searching_project,
-						scopeelements[i].getApiComponent().getSymbolicName(), fRequestorContext);
-				localmonitor.setTaskName(taskname);
-				if (ApiPlugin.DEBUG_SEARCH_ENGINE) {
-					loopstart = System.currentTimeMillis();
-					System.out.println("Searching " + scopeelements[i].getApiComponent().getSymbolicName() + "..."); //$NON-NLS-1$ //$NON-NLS-2$
+		int threads = Math.min(fThreadCount, scopeelements.length);
+		ConcurrentSearch concurrent = threads > 1 ? new ConcurrentSearch(requestor, scopeelements, threads, localmonitor) : null;
+		try {
+			for (int i = 0; i < scopeelements.length; i++) {
+				try {
+					taskname = MessageFormat.format(SearchMessages.ApiSearchEngine_searching_project,
+							scopeelements[i].getApiComponent().getSymbolicName(), fRequestorContext);
+					localmonitor.setTaskName(taskname);
+					if (ApiPlugin.DEBUG_SEARCH_ENGINE) {
+						loopstart = System.currentTimeMillis();
+						System.out.println("Searching " + scopeelements[i].getApiComponent().getSymbolicName() + "..."); //$NON-NLS-1$ //$NON-NLS-2$
+					}
+					if (concurrent != null) {
+						concurrent.report(i, reporter);
+						localmonitor.worked(1);
+					} else {
+						searchReferences(requestor, scopeelements[i], reporter, localmonitor.split(1));
+					}
+					localmonitor.setTaskName(taskname);
+					if (localmonitor.isCanceled()) {
+						reporter.reportResults(scopeelements[i], NO_REFERENCES);
+						return;
+					}
+					localmonitor.worked(1);
+					if (ApiPlugin.DEBUG_SEARCH_ENGINE) {
+						System.out.println(Math.round((((float) (i + 1)) / scopeelements.length) * 100) + "% done in " //$NON-NLS-1$
+								+ (System.currentTimeMillis() - loopstart) + " ms"); //$NON-NLS-1$
+					}
+				} catch (CoreException ce) {
+					if (mstatus == null) {
+						mstatus = new MultiStatus(ApiPlugin.PLUGIN_ID, IStatus.ERROR, null, null);
+					}
+					mstatus.add(Status.error(ce.getMessage(), ce));
+				} finally {
+					reporter.reportSearchDone(scopeelements[i]);
 				}
-				searchReferences(requestor, scopeelements[i], reporter, localmonitor.split(1));
-				localmonitor.setTaskName(taskname);
-				if (localmonitor.isCanceled()) {
-					reporter.reportResults(scopeelements[i], NO_REFERENCES);
-					return;
-				}
-				localmonitor.worked(1);
-				if (ApiPlugin.DEBUG_SEARCH_ENGINE) {
-					System.out.println(Math.round((((float) (i + 1)) / scopeelements.length) * 100) + "% done in " //$NON-NLS-1$
-							+ (System.currentTimeMillis() - loopstart) + " ms"); //$NON-NLS-1$
-				}
-			} catch (CoreException ce) {
-				if (mstatus == null) {
-					mstatus = new MultiStatus(ApiPlugin.PLUGIN_ID, IStatus.ERROR, null, null);
-				}
-				mstatus.add(Status.error(ce.getMessage(), ce));
+			}
+		} finally {
+			if (concurrent != null) {
+				concurrent.dispose();
 			}
 		}
 		if (ApiPlugin.DEBUG_SEARCH_ENGINE) {
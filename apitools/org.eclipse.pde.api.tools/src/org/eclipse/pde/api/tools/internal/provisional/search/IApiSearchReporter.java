@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2011 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -33,6 +33,18 @@ public interface IApiSearchReporter {
 	 */
 	public void reportResults(IApiElement element, final IReference[] references);
 
+	/**
+	 * Notifies the reporter that all results of the given element have been
+	 * reported. Reporters that keep results back can write them out now. Does
+	 * nothing by default.
+	 *
+	 * @param element the element that was searched
+	 * @since 1.3.800
+	 */
+	public default void reportSearchDone(IApiElement element) {
+		// nothing kept back by default
+	}
+
 	/**
 	 * Reports the current listing of objects that were not searched for whatever
 	 * reason.
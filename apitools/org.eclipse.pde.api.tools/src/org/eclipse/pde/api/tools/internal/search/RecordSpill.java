@@ -0,0 +1,179 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - streaming conversion of API use reports
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.internal.search;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.pde.api.tools.internal.util.Util;
+
+/**
+ * Groups of binary records that are kept in memory until they grow too large
+ * and are then appended to temporary files. Used to collect large amounts of
+ * use scan data in groups that are processed one at a time.
+ *
+ * @param <K> the type of the group keys
+ * @since 1.3.800
+ */
+final class RecordSpill<K> {
+
+	private final class Group {
+		final ByteArrayOutputStream buffer = new ByteArrayOutputStream() {
+			@Override
+			public void write(int b) {
+				super.write(b);
+				fSize++;
+			}
+
+			@Override
+			public void write(byte[] b, int off, int len) {
+				super.write(b, off, len);
+				fSize += len;
+			}
+		};
+		final DataOutputStream out = new DataOutputStream(buffer);
+		Path spill = null;
+	}
+
+	private final Map<K, Group> fGroups = new LinkedHashMap<>();
+	private final int fThreshold;
+	private Path fDirectory = null;
+
+	/**
+	 * Number of record bytes kept in memory by all groups
+	 */
+	private long fSize = 0;
+
+	/**
+	 * Constructor
+	 *
+	 * @param threshold number of record bytes kept in memory before all groups
+	 *            are spilled to temporary files
+	 */
+	RecordSpill(int threshold) {
+		fThreshold = threshold;
+	}
+
+	/**
+	 * Returns the stream to append records of the given group to. Call
+	 * {@link #written()} once the records are complete.
+	 *
+	 * @param key the group key
+	 * @return the record stream of the group
+	 */
+	DataOutputStream getOutput(K key) {
+		return fGroups.computeIfAbsent(key, k -> new Group()).out;
+	}
+
+	/**
+	 * Spills all groups to temporary files if the records kept in memory
+	 * exceed the threshold.
+	 */
+	void written() throws IOException {
+		if (fSize <= fThreshold) {
+			return;
+		}
+		if (fDirectory == null) {
+			fDirectory = Files.createTempDirectory("apiuse"); //$NON-NLS-1$
+		}
+		for (Group group : fGroups.values()) {
+			if (group.buffer.size() == 0) {
+				continue;
+			}
+			if (group.spill == null) {
+				group.spill = Files.createTempFile(fDirectory, "records", ".bin"); //$NON-NLS-1$ //$NON-NLS-2$
+			}
+			Files.write(group.spill, group.buffer.toByteArray(), StandardOpenOption.APPEND);
+			group.buffer.reset();
+		}
+		fSize = 0;
+	}
+
+	/**
+	 * @return the keys of all groups in the order they were created
+	 */
+	Set<K> keys() {
+		return fGroups.keySet();
+	}
+
+	/**
+	 * Opens the records of the given group, the spilled ones followed by the
+	 * ones kept in memory.
+	 *
+	 * @param key the group key
+	 * @return the record stream, empty if the group does not exist
+	 */
+	DataInputStream read(K key) throws IOException {
+		Group group = fGroups.get(key);
+		if (group == null) {
+			return new DataInputStream(InputStream.nullInputStream());
+		}
+		InputStream buffered = new ByteArrayInputStream(group.buffer.toByteArray());
+		if (group.spill == null) {
+			return new DataInputStream(buffered);
+		}
+		return new DataInputStream(new SequenceInputStream(Files.newInputStream(group.spill), buffered));
+	}
+
+	/**
+	 * Removes all groups and deletes the temporary files.
+	 */
+	void clear() {
+		fGroups.clear();
+		fSize = 0;
+		if (fDirectory != null) {
+			Util.delete(fDirectory.toFile());
+			fDirectory = null;
+		}
+	}
+
+	/**
+	 * Writes a string that may be <code>null</code> and may be longer than
+	 * {@link DataOutputStream#writeUTF(String)} allows.
+	 */
+	static void writeString(DataOutputStream out, String value) throws IOException {
+		if (value == null) {
+			out.writeInt(-1);
+			return;
+		}
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		out.writeInt(bytes.length);
+		out.write(bytes);
+	}
+
+	/**
+	 * Reads a string written by {@link #writeString(DataOutputStream, String)}.
+	 */
+	static String readString(DataInputStream in) throws IOException {
+		int length = in.readInt();
+		if (length < 0) {
+			return null;
+		}
+		byte[] bytes = new byte[length];
+		in.readFully(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2018 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,6 +14,10 @@
 package org.eclipse.pde.api.tools.internal.search;
 
 import java.io.BufferedInputStream;
+import java.io.BufferedWriter;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
@@ -25,10 +29,12 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
 import java.util.StringTokenizer;
 import java.util.TreeMap;
 import java.util.TreeSet;
@@ -52,6 +58,7 @@ import org.eclipse.osgi.util.NLS;
 import org.eclipse.osgi.util.TextProcessor;
 import org.eclipse.pde.api.tools.internal.IApiXmlConstants;
 import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
+import org.eclipse.pde.api.tools.internal.provisional.Factory;
 import org.eclipse.pde.api.tools.internal.provisional.VisibilityModifiers;
 import org.eclipse.pde.api.tools.internal.provisional.descriptors.IComponentDescriptor;
 import org.eclipse.pde.api.tools.internal.provisional.descriptors.IElementDescriptor;
@@ -73,7 +80,13 @@ import org.xml.sax.helpers.DefaultHandler;
 
 /**
  * This class converts a collection of API use report XML files from a given
- * location to a corresponding collection of HTML in a given location
+ * location to a corresponding collection of HTML in a given location.
+ * <p>
+ * The use scan is parsed as a stream. Only the counts of a referenced
+ * component are kept in memory, its references are kept in per type records
+ * that are spilled to temporary files when they grow large and read back one
+ * type at a time when the type page is written.
+ * </p>
  *
  * @since 1.0.1
  */
@@ -90,6 +103,9 @@ public class UseReportConverter extends HTMLConvertor {
 		Member currentmember = null;
 		Map<IReferenceTypeDescriptor, Type> keys = new HashMap<>();
 		List<Type> referees = new ArrayList<>();
+		Map<Member, Integer> memberIds = new HashMap<>();
+		Set<Member> referencedMembers = new HashSet<>();
+		RecordSpill<Type> references = new RecordSpill<>(Integer.getInteger(SPILL_THRESHOLD_PROPERTY, SPILL_THRESHOLD));
 
 		/**
 		 * Returns if the reference should be reported or not
@@ -127,6 +143,7 @@ public class UseReportConverter extends HTMLConvertor {
 		public boolean visitComponent(IComponentDescriptor target) {
 			this.currentreport = new Report();
 			this.currentreport.name = composeName(target.getId(), target.getVersion());
+			this.currentreport.references = this.references;
 			this.reports.add(this.currentreport);
 			return true;
 		}
@@ -153,8 +170,13 @@ public class UseReportConverter extends HTMLConvertor {
 				// clear any children as we have written them out - keep the
 				// report object to write a sorted index page
 				this.currentreport.children.clear();
+				this.currentreport.members.clear();
+				this.currentreport.references = null;
 				this.keys.clear();
 				this.referees.clear();
+				this.memberIds.clear();
+				this.referencedMembers.clear();
+				this.references.clear();
 			}
 		}
 
@@ -181,12 +203,16 @@ public class UseReportConverter extends HTMLConvertor {
 			Map<IMemberDescriptor, Member> map = this.currentreport.children.computeIfAbsent(this.currenttype,
 					t -> new TreeMap<>(compare));
 			this.currentmember = map.computeIfAbsent(referencedMember, Member::new);
+			this.memberIds.computeIfAbsent(this.currentmember, m -> {
+				this.currentreport.members.add(m);
+				return Integer.valueOf(this.currentreport.members.size() - 1);
+			});
 			return true;
 		}
 
 		@Override
 		public void endVisitMember(IMemberDescriptor referencedMember) {
-			if (this.currentmember.children.isEmpty()) {
+			if (!this.referencedMembers.contains(this.currentmember)) {
 				TreeMap<IMemberDescriptor, Member> map = this.currentreport.children.get(this.currenttype);
 				map.remove(referencedMember);
 			}
@@ -228,12 +254,19 @@ public class UseReportConverter extends HTMLConvertor {
 			int refKind = reference.getReferenceKind();
 			int visibility = reference.getVisibility();
 			String refname = org.eclipse.pde.api.tools.internal.builder.Reference.getReferenceText(refKind);
-			List<Reference> refs = this.currentmember.children.get(refname);
-			if (refs == null) {
-				refs = new ArrayList<>();
-				this.currentmember.children.put(refname, refs);
+			try {
+				DataOutputStream out = this.references.getOutput(this.currenttype);
+				out.writeInt(this.memberIds.get(this.currentmember).intValue());
+				RecordSpill.writeString(out, refname);
+				writeDescriptor(out, fromMember);
+				out.writeInt(lineNumber);
+				out.writeInt(visibility);
+				RecordSpill.writeString(out, formatMessages(reference.getProblemMessages()));
+				this.references.written();
+			} catch (IOException e) {
+				ApiPlugin.log(e);
 			}
-			refs.add(new Reference(fromMember, lineNumber, visibility, formatMessages(reference.getProblemMessages())));
+			this.referencedMembers.add(this.currentmember);
 			switch (fromMember.getElementType()) {
 				case IElementDescriptor.TYPE -> {
 					switch (visibility) {
@@ -384,6 +417,16 @@ public class UseReportConverter extends HTMLConvertor {
 		String name = null;
 		TreeMap<Type, TreeMap<IMemberDescriptor, Member>> children = new TreeMap<>(compare);
 		CountGroup counts = new CountGroup();
+		/**
+		 * The references to the members of each type, <code>null</code> if
+		 * the references are kept in the members
+		 */
+		RecordSpill<Type> references = null;
+		/**
+		 * The members in the order they are identified in the reference
+		 * records
+		 */
+		List<Member> members = new ArrayList<>();
 	}
 
 	/**
@@ -506,6 +549,16 @@ public class UseReportConverter extends HTMLConvertor {
 	 * @since 1.0.1
 	 */
 	public static final int FRAGMENT_PERMISSIBLE = 0x0000005;
+	/**
+	 * Number of bytes of reference records kept in memory before they are
+	 * spilled to temporary files
+	 */
+	static final int SPILL_THRESHOLD = 8 * 1024 * 1024;
+	/**
+	 * System property overriding the number of bytes of reference records
+	 * kept in memory, see {@link #SPILL_THRESHOLD}
+	 */
+	static final String SPILL_THRESHOLD_PROPERTY = "org.eclipse.pde.api.tools.useReportSpillThreshold"; //$NON-NLS-1$
 	/**
 	 * Default XSLT file name
 	 */
@@ -943,7 +996,19 @@ public class UseReportConverter extends HTMLConvertor {
 				Path typefile = htmlroot.resolve(fqname + HTML_EXTENSION);
 				String link = extractLinkFrom(htmlroot.toFile(), typefile.toAbsolutePath().toString());
 				buffer.append(getReferenceTableEntry(counts, link, fqname, false));
-				writeTypePage(map, type, typefile, fqname);
+				if (report.references != null) {
+					// read the references of one type at a time
+					loadReferences(report, type);
+					try {
+						writeTypePage(map, type, typefile, fqname);
+					} finally {
+						for (Member member : map.values()) {
+							member.children.clear();
+						}
+					}
+				} else {
+					writeTypePage(map, type, typefile, fqname);
+				}
 			}
 			buffer.append(CLOSE_TABLE);
 			buffer.append(BR);
@@ -1014,51 +1079,112 @@ public class UseReportConverter extends HTMLConvertor {
 	 * Writes the page that displays all of the members used in a type
 	 */
 	void writeTypePage(Map<IMemberDescriptor, Member> map, Type type, Path typefile, String typename) throws Exception {
-		StringBuilder buffer = new StringBuilder();
-		buffer.append(HTML_HEADER);
-		buffer.append(OPEN_HTML).append(OPEN_HEAD).append(CONTENT_TYPE_META);
-		buffer.append(REF_STYLE);
-		buffer.append(REF_SCRIPT);
-		buffer.append(OPEN_TITLE).append(getTypeTitle(typename)).append(CLOSE_TITLE);
-		buffer.append(CLOSE_HEAD);
-		buffer.append(OPEN_BODY);
-		buffer.append(OPEN_H3).append(getTypeTitle(typename)).append(CLOSE_H3);
-		buffer.append(getTypeCountSummary(typename, type.counts, map.size()));
-		buffer.append(OPEN_H4).append(getTypeDetailsHeader()).append(CLOSE_H4);
-		buffer.append(OPEN_P).append(getTypeDetails()).append(CLOSE_P);
-		buffer.append("<div align=\"left\" class=\"main\">"); //$NON-NLS-1$
-		buffer.append("<table border=\"1\" width=\"80%\">\n"); //$NON-NLS-1$
-		buffer.append(OPEN_TR);
-		buffer.append("<td bgcolor=\"").append(REFERENCES_TABLE_HEADER_COLOUR).append("\">").append(OPEN_B) //$NON-NLS-1$ //$NON-NLS-2$
-				.append(SearchMessages.UseReportConverter_member).append("</b></td>\n"); //$NON-NLS-1$
-		buffer.append(CLOSE_TR);
-		for (Entry<IMemberDescriptor, Member> entry : map.entrySet()) {
-			IElementDescriptor desc = entry.getKey();
+		try (BufferedWriter writer = Files.newBufferedWriter(typefile)) {
+			StringBuilder buffer = new StringBuilder();
+			buffer.append(HTML_HEADER);
+			buffer.append(OPEN_HTML).append(OPEN_HEAD).append(CONTENT_TYPE_META);
+			buffer.append(REF_STYLE);
+			buffer.append(REF_SCRIPT);
+			buffer.append(OPEN_TITLE).append(getTypeTitle(typename)).append(CLOSE_TITLE);
+			buffer.append(CLOSE_HEAD);
+			buffer.append(OPEN_BODY);
+			buffer.append(OPEN_H3).append(getTypeTitle(typename)).append(CLOSE_H3);
+			buffer.append(getTypeCountSummary(typename, type.counts, map.size()));
+			buffer.append(OPEN_H4).append(getTypeDetailsHeader()).append(CLOSE_H4);
+			buffer.append(OPEN_P).append(getTypeDetails()).append(CLOSE_P);
+			buffer.append("<div align=\"left\" class=\"main\">"); //$NON-NLS-1$
+			buffer.append("<table border=\"1\" width=\"80%\">\n"); //$NON-NLS-1$
 			buffer.append(OPEN_TR);
-			buffer.append("<td align=\"left\">\n"); //$NON-NLS-1$
-			buffer.append(OPEN_B);
-			buffer.append("<a href=\"javascript:void(0)\" class=\"typeslnk\" onclick=\"expand(this)\" title=\""); //$NON-NLS-1$
-			buffer.append(getDisplayName(desc, true, true)).append("\">\n"); //$NON-NLS-1$
-			buffer.append("<span>[+] </span>").append(getDisplayName(desc, true, false)).append("\n"); //$NON-NLS-1$//$NON-NLS-2$
-			buffer.append(CLOSE_A).append(CLOSE_B);
-			buffer.append("<div colspan=\"6\" class=\"types\">\n"); //$NON-NLS-1$
-			buffer.append(getReferencesTable(entry.getValue())).append("\n"); //$NON-NLS-1$
-			buffer.append(CLOSE_DIV);
+			buffer.append("<td bgcolor=\"").append(REFERENCES_TABLE_HEADER_COLOUR).append("\">").append(OPEN_B) //$NON-NLS-1$ //$NON-NLS-2$
+					.append(SearchMessages.UseReportConverter_member).append("</b></td>\n"); //$NON-NLS-1$
 			buffer.append(CLOSE_TR);
-		}
-		buffer.append(CLOSE_TABLE);
-		buffer.append(CLOSE_DIV);
-		buffer.append(OPEN_P).append("<a href=\"index.html\">") //$NON-NLS-1$
-				.append(SearchMessages.UseReportConverter_back_to_bundle_index).append(CLOSE_A).append(CLOSE_P);
-		buffer.append(W3C_FOOTER);
-
-		try {
-			Files.writeString(typefile, buffer);
+			for (Entry<IMemberDescriptor, Member> entry : map.entrySet()) {
+				IElementDescriptor desc = entry.getKey();
+				buffer.append(OPEN_TR);
+				buffer.append("<td align=\"left\">\n"); //$NON-NLS-1$
+				buffer.append(OPEN_B);
+				buffer.append("<a href=\"javascript:void(0)\" class=\"typeslnk\" onclick=\"expand(this)\" title=\""); //$NON-NLS-1$
+				buffer.append(getDisplayName(desc, true, true)).append("\">\n"); //$NON-NLS-1$
+				buffer.append("<span>[+] </span>").append(getDisplayName(desc, true, false)).append("\n"); //$NON-NLS-1$//$NON-NLS-2$
+				buffer.append(CLOSE_A).append(CLOSE_B);
+				buffer.append("<div colspan=\"6\" class=\"types\">\n"); //$NON-NLS-1$
+				buffer.append(getReferencesTable(entry.getValue())).append("\n"); //$NON-NLS-1$
+				buffer.append(CLOSE_DIV);
+				buffer.append(CLOSE_TR);
+				// write the page as it goes, a type can have many members
+				writer.append(buffer);
+				buffer.setLength(0);
+			}
+			buffer.append(CLOSE_TABLE);
+			buffer.append(CLOSE_DIV);
+			buffer.append(OPEN_P).append("<a href=\"index.html\">") //$NON-NLS-1$
+					.append(SearchMessages.UseReportConverter_back_to_bundle_index).append(CLOSE_A).append(CLOSE_P);
+			buffer.append(W3C_FOOTER);
+			writer.append(buffer);
 		} catch (IOException ioe) {
 			throw new Exception(NLS.bind(SearchMessages.ioexception_writing_html_file, typefile.toAbsolutePath()));
 		}
 	}
 
+	/**
+	 * Reads the references to the members of the given type from the records
+	 * of the given report into the members
+	 */
+	void loadReferences(Report report, Type type) throws IOException {
+		try (DataInputStream in = report.references.read(type)) {
+			while (true) {
+				int id;
+				try {
+					id = in.readInt();
+				} catch (EOFException e) {
+					break;
+				}
+				String refname = RecordSpill.readString(in);
+				IElementDescriptor from = readDescriptor(in);
+				int line = in.readInt();
+				int vis = in.readInt();
+				String message = RecordSpill.readString(in);
+				report.members.get(id).children.computeIfAbsent(refname, k -> new ArrayList<>()).add(new Reference(from, line, vis, message));
+			}
+		}
+	}
+
+	/**
+	 * Writes the given type, method or field descriptor to a reference record
+	 */
+	static void writeDescriptor(DataOutputStream out, IElementDescriptor desc) throws IOException {
+		out.writeInt(desc.getElementType());
+		switch (desc.getElementType()) {
+			case IElementDescriptor.METHOD -> {
+				IMethodDescriptor method = (IMethodDescriptor) desc;
+				RecordSpill.writeString(out, method.getEnclosingType().getQualifiedName());
+				RecordSpill.writeString(out, method.getName());
+				RecordSpill.writeString(out, method.getSignature());
+			}
+			case IElementDescriptor.FIELD -> {
+				IFieldDescriptor field = (IFieldDescriptor) desc;
+				RecordSpill.writeString(out, field.getEnclosingType().getQualifiedName());
+				RecordSpill.writeString(out, field.getName());
+			}
+			default -> RecordSpill.writeString(out, ((IReferenceTypeDescriptor) desc).getQualifiedName());
+		}
+	}
+
+	/**
+	 * Reads a descriptor written by
+	 * {@link #writeDescriptor(DataOutputStream, IElementDescriptor)}
+	 */
+	static IElementDescriptor readDescriptor(DataInputStream in) throws IOException {
+		int kind = in.readInt();
+		String typename = RecordSpill.readString(in);
+		return switch (kind)
+			{
+			case IElementDescriptor.METHOD -> Factory.methodDescriptor(typename, RecordSpill.readString(in), RecordSpill.readString(in));
+			case IElementDescriptor.FIELD -> Factory.fieldDescriptor(typename, RecordSpill.readString(in));
+			default -> Factory.typeDescriptor(typename);
+			};
+	}
+
 	/**
 	 * Returns the header to use for the section that describes the type details
 	 * table
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2015 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -51,6 +51,10 @@ import org.eclipse.pde.api.tools.internal.provisional.search.IApiSearchRequestor
  * in the ant task via {@link #setFilterRoot(String)}. If filter files are found
  * in both locations, the filters at both will be applied.
  * </p>
+ * <p>
+ * Different components may be searched concurrently, the state of the
+ * component being visited is kept per thread.
+ * </p>
  *
  * @since 1.0.0
  */
@@ -62,18 +66,33 @@ public class UseSearchRequestor implements IApiSearchRequestor {
 	private Set<String> fComponentIds = null;
 
 	/**
-	 * The current {@link IApiFilterStore} from the current
-	 * {@link IApiComponent} context we are visiting.
+	 * State of the {@link IApiComponent} a thread is visiting
 	 */
-	private IApiFilterStore currentStore = null;
+	static final class ComponentContext {
+		/**
+		 * The {@link IApiFilterStore} of the component
+		 */
+		IApiFilterStore currentStore = null;
+
+		/**
+		 * The {@link IApiFilterStore} created by finding the component's filter
+		 * file in the root filter location {@link #antFilterRoot}.
+		 */
+		IApiFilterStore antStore = null;
+
+		/**
+		 * The {@link ReferenceAnalyzer} for detecting illegal API use in the
+		 * component
+		 *
+		 * @see #includesIllegalUse()
+		 */
+		final ReferenceAnalyzer analyzer = new ReferenceAnalyzer();
+	}
 
 	/**
-	 * The current {@link IApiFilterStore} for the current {@link IApiComponent}
-	 * context that we are visiting. The filter store will be created by finding
-	 * each component's filter file in the root filter location
-	 * {@link #antFilterRoot}.
+	 * The context of the component the current thread is visiting
 	 */
-	private IApiFilterStore antStore = null;
+	private final ThreadLocal<ComponentContext> fContext = ThreadLocal.withInitial(ComponentContext::new);
 
 	/**
 	 * The root directory of the .api_filters files that should be used to
@@ -111,13 +130,6 @@ public class UseSearchRequestor implements IApiSearchRequestor {
 	 */
 	private String[] jarPatterns = null;
 
-	/**
-	 * The default {@link ReferenceAnalyzer} for detecting illegal API use
-	 *
-	 * @see #includesIllegalUse()
-	 */
-	ReferenceAnalyzer fAnalyzer = null;
-
 	/**
 	 * Constructor
 	 *
@@ -135,25 +147,25 @@ public class UseSearchRequestor implements IApiSearchRequestor {
 	public UseSearchRequestor(Set<String> elementnames, IApiElement[] scope, int searchkinds) {
 		fSearchMask = searchkinds;
 		fComponentIds = elementnames;
-		fAnalyzer = new ReferenceAnalyzer();
 		prepareScope(scope);
 	}
 
 	@Override
 	public boolean acceptComponent(IApiComponent component) {
+		ComponentContext context = fContext.get();
 		try {
 			if (!component.isSystemComponent() && getScope().encloses(component)) {
 				if (includesIllegalUse()) {
-					fAnalyzer.buildProblemDetectors(component, ProblemDetectorBuilder.K_USE, null);
+					context.analyzer.buildProblemDetectors(component, ProblemDetectorBuilder.K_USE, null);
 				}
-				currentStore = component.getFilterStore();
-				antStore = antFilterRoot != null ? new AntFilterStore(antFilterRoot, component.getSymbolicName()) : null;
+				context.currentStore = component.getFilterStore();
+				context.antStore = antFilterRoot != null ? new AntFilterStore(antFilterRoot, component.getSymbolicName()) : null;
 				return true;
 			}
 		} catch (CoreException ce) {
 			// do nothing, return false
 		}
-		currentStore = null;
+		context.currentStore = null;
 		return false;
 	}
 
@@ -233,7 +245,7 @@ public class UseSearchRequestor implements IApiSearchRequestor {
 	 * @since 1.1
 	 */
 	boolean isIllegalUse(IReference reference, IProgressMonitor monitor) {
-		IApiProblemDetector[] detectors = fAnalyzer.getProblemDetectors(reference.getReferenceKind());
+		IApiProblemDetector[] detectors = fContext.get().analyzer.getProblemDetectors(reference.getReferenceKind());
 		for (IApiProblemDetector detector : detectors) {
 			if (monitor.isCanceled()) {
 				break;
@@ -264,7 +276,8 @@ public class UseSearchRequestor implements IApiSearchRequestor {
 	 * @return <code>true</code> is filtered, false otherwise
 	 */
 	boolean isFiltered(IApiProblem problem) {
-		return (currentStore != null && currentStore.isFiltered(problem)) || (antStore != null && antStore.isFiltered(problem));
+		ComponentContext context = fContext.get();
+		return (context.currentStore != null && context.currentStore.isFiltered(problem)) || (context.antStore != null && context.antStore.isFiltered(problem));
 	}
 
 	@Override
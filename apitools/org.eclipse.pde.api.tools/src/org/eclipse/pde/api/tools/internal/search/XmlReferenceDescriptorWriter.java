@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2017 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,12 +13,13 @@
  *******************************************************************************/
 package org.eclipse.pde.api.tools.internal.search;
 
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Iterator;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
@@ -50,6 +51,14 @@ import org.xml.sax.helpers.DefaultHandler;
 
 /**
  * Writes reference descriptions to XML files.
+ * <p>
+ * References can be added in several batches with
+ * {@link #addReferences(IReferenceDescriptor[])}. Each batch is collated and
+ * appended to a compact binary record of the XML file it belongs to, records
+ * that grow too large are spilled to temporary files. {@link #flush()} merges
+ * the records and writes every XML file exactly once, so memory is bounded by
+ * the largest single file rather than by the whole search.
+ * </p>
  *
  * @since 1.0.1
  */
@@ -62,8 +71,34 @@ public class XmlReferenceDescriptorWriter {
 	public static final String METHOD_REFERENCES = "method_references"; //$NON-NLS-1$
 	public static final String FIELD_REFERENCES = "field_references"; //$NON-NLS-1$
 	private static final Integer V_ILLEGAL = Integer.valueOf(VisibilityModifiers.ILLEGAL_API);
+
+	/**
+	 * Number of record bytes kept in memory before records are spilled to
+	 * temporary files
+	 */
+	private static final int SPILL_THRESHOLD = 4 * 1024 * 1024;
+
+	/**
+	 * Record of a reference, starts the target element if it does not exist
+	 */
+	private static final byte RECORD_REFERENCE = 1;
+
+	/**
+	 * Record of the qualified details of a referenced member
+	 */
+	private static final byte RECORD_TARGET = 2;
+
+	/**
+	 * An XML file that has not been written yet, its records are kept in
+	 * {@link XmlReferenceDescriptorWriter#fRecords}
+	 */
+	private record PendingFile(File file, String origin, String referee, String name, int visibility, String alternate) {
+	}
+
 	private String fLocation = null;
 	private Map<String, Map<String, Map<Integer, Map<Integer, Map<String, Set<IReferenceDescriptor>>>>>> fReferenceMap = null;
+	private final Map<File, PendingFile> fPending = new HashMap<>();
+	private final RecordSpill<File> fRecords = new RecordSpill<>(SPILL_THRESHOLD);
 	private DocumentBuilder parser = null;
 
 	/**
@@ -90,17 +125,28 @@ public class XmlReferenceDescriptorWriter {
 	}
 
 	/**
-	 * Writes the given references to XML files.
+	 * Writes the given references to XML files, together with all references
+	 * added before.
 	 */
 	public void writeReferences(IReferenceDescriptor[] references) {
+		addReferences(references);
+		flush();
+	}
+
+	/**
+	 * Adds the given references to the ones written out on the next
+	 * {@link #flush()}. References of one batch that have the same reference,
+	 * referencer, type, visibility, and member are written once.
+	 *
+	 * @param references the references to add
+	 * @since 1.3.800
+	 */
+	public void addReferences(IReferenceDescriptor[] references) {
 		if (fLocation != null) {
 			try {
-				File parent = new File(fLocation);
-				if (!parent.exists()) {
-					parent.mkdirs();
-				}
 				collateResults(references);
-				writeXML(parent);
+				writeRecords(new File(fLocation));
+				fRecords.written();
 			} catch (Exception e) {
 				ApiPlugin.log(e);
 			} finally {
@@ -112,6 +158,34 @@ public class XmlReferenceDescriptorWriter {
 		}
 	}
 
+	/**
+	 * Writes all added references to XML files. Every XML file is written
+	 * once, references for an XML file that already exists are added to it.
+	 *
+	 * @since 1.3.800
+	 */
+	public void flush() {
+		if (fLocation == null) {
+			return;
+		}
+		try {
+			File parent = new File(fLocation);
+			if (!parent.exists()) {
+				parent.mkdirs();
+			}
+			for (File file : fRecords.keys()) {
+				try {
+					writeFile(fPending.get(file));
+				} catch (Exception e) {
+					ApiPlugin.log(e);
+				}
+			}
+		} finally {
+			fPending.clear();
+			fRecords.clear();
+		}
+	}
+
 	/**
 	 * Collates the results into like reference kinds. If two references have
 	 * the same reference, referencer, type, visibility, and member, one will be
@@ -192,32 +266,25 @@ public class XmlReferenceDescriptorWriter {
 	}
 
 	/**
-	 * Writes out the XML for the given api element using the collated
-	 * {@link IReference}s
+	 * Appends the collated {@link IReference}s to the records of the XML files
+	 * they belong to
 	 */
-	private void writeXML(File parent) throws CoreException, IOException {
+	private void writeRecords(File parent) throws CoreException, IOException {
 		for (var entry : fReferenceMap.entrySet()) {
 			String referee = entry.getKey();
 			File base = new File(parent, referee);
-			if (!base.exists()) {
-				base.mkdir();
-			}
 			for (var entry2 : entry.getValue().entrySet()) {
 				String id = entry2.getKey();
 				File root = new File(base, id);
-				if (!root.exists()) {
-					root.mkdir();
-				}
 				for (var entry3 : entry2.getValue().entrySet()) {
 					Integer vis = entry3.getKey();
 					File location = new File(root, VisibilityModifiers.getVisibilityName(vis.intValue()));
-					if (!location.exists()) {
-						location.mkdir();
-					}
 					for (var entry4 : entry3.getValue().entrySet()) {
-						Integer type = entry4.getKey();
-						var typemap = entry4.getValue();
-						writeGroup(id, referee, location, getRefTypeName(type.intValue()), typemap, vis.intValue());
+						String name = getRefTypeName(entry4.getKey().intValue());
+						File out = new File(location, name + ".xml"); //$NON-NLS-1$
+						fPending.computeIfAbsent(out, f -> new PendingFile(f, id, referee, name, vis.intValue(),
+								alternate != null ? getId(alternate) : null));
+						writeGroup(fRecords.getOutput(out), entry4.getValue());
 					}
 				}
 			}
@@ -225,165 +292,201 @@ public class XmlReferenceDescriptorWriter {
 	}
 
 	/**
-	 * Writes out a group of references under the newly created element with the
-	 * given name
-	 *
-	 * @param origin the name of the bundle that has the references in it
-	 * @param referee the name of the bundle that is referenced
+	 * Writes the records for a group of references. The records are replayed
+	 * in the same order by {@link #writeFile(PendingFile)}.
 	 */
-	private void writeGroup(String origin, String referee, File parent, String name,
-			Map<String, Set<IReferenceDescriptor>> map, int visibility)
-			throws CoreException, IOException {
-		if (parent.exists()) {
-			Document doc = null;
-			Element root = null;
-			int count = 0;
-			File out = new File(parent, name + ".xml"); //$NON-NLS-1$
-			if (out.exists()) {
-				try {
-					try (FileInputStream inputStream = new FileInputStream(out)) {
-						doc = this.parser.parse(inputStream);
-					} catch (IOException e) {
-						e.printStackTrace();
-					}
-					if (doc == null) {
-						return;
-					}
-					root = doc.getDocumentElement();
-					String value = root.getAttribute(IApiXmlConstants.ATTR_REFERENCE_COUNT);
-					count = Integer.parseInt(value);
-				} catch (SAXException se) {
-					se.printStackTrace();
+	private void writeGroup(DataOutputStream out, Map<String, Set<IReferenceDescriptor>> map) throws CoreException, IOException {
+		for (Entry<String, Set<IReferenceDescriptor>> entry : map.entrySet()) {
+			String tname = entry.getKey();
+			IMemberDescriptor resolved = null;
+			for (IReferenceDescriptor ref : entry.getValue()) {
+				out.writeByte(RECORD_REFERENCE);
+				RecordSpill.writeString(out, tname);
+				out.writeInt(ref.getReferenceKind());
+				out.writeInt(ref.getReferenceFlags());
+				IMemberDescriptor member = ref.getMember();
+				RecordSpill.writeString(out, getText(member));
+				String[] messages = ref.getProblemMessages();
+				RecordSpill.writeString(out, messages != null ? getText(messages) : null);
+				writeMemberDetails(out, member);
+				resolved = ref.getReferencedMember();
+				out.writeBoolean(resolved != null);
+				out.writeInt(ref.getLineNumber());
+			}
+			if (resolved != null) {
+				// set qualified referenced attributes
+				out.writeByte(RECORD_TARGET);
+				RecordSpill.writeString(out, tname);
+				writeMemberDetails(out, resolved);
+			}
+		}
+	}
+
+	/**
+	 * Writes the given XML file from its records, adding to the references of
+	 * the file if it already exists.
+	 */
+	private void writeFile(PendingFile pending) throws CoreException, IOException {
+		Document doc = null;
+		Element root = null;
+		int count = 0;
+		Map<String, Element> targets = new HashMap<>();
+		Map<Element, Map<String, Element>> kinds = new HashMap<>();
+		File out = pending.file();
+		if (out.exists()) {
+			try {
+				try (FileInputStream inputStream = new FileInputStream(out)) {
+					doc = this.parser.parse(inputStream);
+				} catch (IOException e) {
+					e.printStackTrace();
 				}
-			} else {
-				doc = Util.newDocument();
-				root = doc.createElement(IApiXmlConstants.REFERENCES);
-				doc.appendChild(root);
-				root.setAttribute(IApiXmlConstants.ATTR_REFERENCE_VISIBILITY, Integer.toString(visibility));
-				root.setAttribute(IApiXmlConstants.ATTR_ORIGIN, origin);
-				root.setAttribute(IApiXmlConstants.ATTR_REFEREE, referee);
-				root.setAttribute(IApiXmlConstants.ATTR_NAME, getFormattedTypeName(name));
-				if (alternate != null) {
-					root.setAttribute(IApiXmlConstants.ATTR_ALTERNATE, getId(alternate));
+				if (doc == null) {
+					return;
 				}
+				root = doc.getDocumentElement();
+				String value = root.getAttribute(IApiXmlConstants.ATTR_REFERENCE_COUNT);
+				count = Integer.parseInt(value);
+				NodeList nodes = root.getElementsByTagName(IApiXmlConstants.ELEMENT_TARGET);
+				for (int i = 0; i < nodes.getLength(); i++) {
+					Element telement = (Element) nodes.item(i);
+					targets.putIfAbsent(telement.getAttribute(IApiXmlConstants.ATTR_NAME), telement);
+				}
+			} catch (SAXException se) {
+				se.printStackTrace();
 			}
-			if (doc == null || root == null) {
-				return;
+		} else {
+			doc = Util.newDocument();
+			root = doc.createElement(IApiXmlConstants.REFERENCES);
+			doc.appendChild(root);
+			root.setAttribute(IApiXmlConstants.ATTR_REFERENCE_VISIBILITY, Integer.toString(pending.visibility()));
+			root.setAttribute(IApiXmlConstants.ATTR_ORIGIN, pending.origin());
+			root.setAttribute(IApiXmlConstants.ATTR_REFEREE, pending.referee());
+			root.setAttribute(IApiXmlConstants.ATTR_NAME, getFormattedTypeName(pending.name()));
+			if (pending.alternate() != null) {
+				root.setAttribute(IApiXmlConstants.ATTR_ALTERNATE, pending.alternate());
 			}
-			for (Entry<String, Set<IReferenceDescriptor>> entry : map.entrySet()) {
-				String tname = entry.getKey();
-				Element telement = findTypeElement(root, tname);
+		}
+		if (doc == null || root == null) {
+			return;
+		}
+		try (DataInputStream in = fRecords.read(out)) {
+			int record;
+			while ((record = in.read()) != -1) {
+				String tname = RecordSpill.readString(in);
+				Element telement = targets.get(tname);
 				if (telement == null) {
 					telement = doc.createElement(IApiXmlConstants.ELEMENT_TARGET);
 					telement.setAttribute(IApiXmlConstants.ATTR_NAME, tname);
 					root.appendChild(telement);
+					targets.put(tname, telement);
 				}
-				Set<IReferenceDescriptor> refs = entry.getValue();
-				if (refs != null) {
-					for (Iterator<IReferenceDescriptor> iter2 = refs.iterator(); iter2.hasNext();) {
-						count++;
-						IReferenceDescriptor ref = iter2.next();
-						writeReference(doc, telement, ref);
-						if (!iter2.hasNext()) {
-							// set qualified referenced attributes
-							IMemberDescriptor resolved = ref.getReferencedMember();
-							if (resolved != null) {
-								addMemberDetails(telement, resolved);
-							}
-						}
-					}
+				if (record == RECORD_TARGET) {
+					readMemberDetails(in, telement);
+				} else {
+					count++;
+					readReference(in, doc, telement, kinds.computeIfAbsent(telement, XmlReferenceDescriptorWriter::getKindElements));
 				}
 			}
-			root.setAttribute(IApiXmlConstants.ATTR_REFERENCE_COUNT, Integer.toString(count));
-			Util.writeDocumentToFile(doc, out.toPath());
 		}
+		root.setAttribute(IApiXmlConstants.ATTR_REFERENCE_COUNT, Integer.toString(count));
+		Util.writeDocumentToFile(doc, out.toPath());
 	}
 
 	/**
-	 * Add member descriptor details to the given element.
-	 *
-	 * @param element XML element
-	 * @param member member to add details for
+	 * Reads the attributes of a reference record into a new {@link Element}
+	 * that is added to the given parent.
 	 */
-	private void addMemberDetails(Element element, IMemberDescriptor member) {
-		switch (member.getElementType()) {
-			case IElementDescriptor.TYPE -> element.setAttribute(IApiXmlConstants.ATTR_TYPE,
-					((IReferenceTypeDescriptor) member).getQualifiedName());
-			case IElementDescriptor.FIELD -> {
-				IReferenceTypeDescriptor encl = member.getEnclosingType();
-				element.setAttribute(IApiXmlConstants.ATTR_TYPE, encl.getQualifiedName());
-				element.setAttribute(IApiXmlConstants.ATTR_MEMBER_NAME, member.getName());
-			}
-			case IElementDescriptor.METHOD -> {
-				IReferenceTypeDescriptor encl = member.getEnclosingType();
-				element.setAttribute(IApiXmlConstants.ATTR_TYPE, encl.getQualifiedName());
-				element.setAttribute(IApiXmlConstants.ATTR_MEMBER_NAME, member.getName());
-				element.setAttribute(IApiXmlConstants.ATTR_SIGNATURE, ((IMethodDescriptor) member).getSignature());
-			}
-			default -> { /**/ }
+	private void readReference(DataInputStream in, Document document, Element parent, Map<String, Element> kinds) throws IOException {
+		int kind = in.readInt();
+		int flags = in.readInt();
+		String kindName = Integer.toString(kind);
+		Element kelement = kinds.get(kindName);
+		if (kelement == null) {
+			kelement = document.createElement(IApiXmlConstants.REFERENCE_KIND);
+			kelement.setAttribute(IApiXmlConstants.ATTR_REFERENCE_KIND_NAME, Reference.getReferenceText(kind));
+			kelement.setAttribute(IApiXmlConstants.ATTR_KIND, kindName);
+			kelement.setAttribute(IApiXmlConstants.ATTR_FLAGS, Integer.toString(flags));
+			parent.appendChild(kelement);
+			kinds.put(kindName, kelement);
+		}
+		Element relement = document.createElement(IApiXmlConstants.ATTR_REFERENCE);
+		String origin = RecordSpill.readString(in);
+		if (origin != null) {
+			relement.setAttribute(IApiXmlConstants.ATTR_ORIGIN, origin);
+		}
+		String messages = RecordSpill.readString(in);
+		if (messages != null) {
+			relement.setAttribute(IApiXmlConstants.ELEMENT_PROBLEM_MESSAGE_ARGUMENTS, messages);
+		}
+		// add detailed information about origin
+		readMemberDetails(in, relement);
+		boolean resolved = in.readBoolean();
+		int lineNumber = in.readInt();
+		if (resolved) {
+			relement.setAttribute(IApiXmlConstants.ATTR_LINE_NUMBER, Integer.toString(lineNumber));
+			kelement.appendChild(relement);
 		}
 	}
 
 	/**
-	 * gets the root kind element
+	 * Returns the kind elements of the given target element by their kind
 	 */
-	private Element findTypeElement(Element root, String tname) {
-		if (tname == null) {
-			return null;
-		}
-		Element kelement = null;
-		NodeList nodes = root.getElementsByTagName(IApiXmlConstants.ELEMENT_TARGET);
+	private static Map<String, Element> getKindElements(Element telement) {
+		Map<String, Element> kinds = new HashMap<>();
+		NodeList nodes = telement.getElementsByTagName(IApiXmlConstants.REFERENCE_KIND);
 		for (int i = 0; i < nodes.getLength(); i++) {
-			kelement = (Element) nodes.item(i);
-			if (tname.equals(kelement.getAttribute(IApiXmlConstants.ATTR_NAME))) {
-				return kelement;
-			}
+			Element kelement = (Element) nodes.item(i);
+			kinds.putIfAbsent(kelement.getAttribute(IApiXmlConstants.ATTR_KIND), kelement);
 		}
-		return null;
+		return kinds;
 	}
 
 	/**
-	 * gets the root kind element
+	 * Writes the details of the given member descriptor.
+	 *
+	 * @param out the record stream
+	 * @param member member to write details for
 	 */
-	private Element findKindElement(Element root, Integer kind) {
-		Element kelement = null;
-		NodeList nodes = root.getElementsByTagName(IApiXmlConstants.REFERENCE_KIND);
-		for (int i = 0; i < nodes.getLength(); i++) {
-			kelement = (Element) nodes.item(i);
-			if (kind.toString().equals(kelement.getAttribute(IApiXmlConstants.ATTR_KIND))) {
-				return kelement;
+	private void writeMemberDetails(DataOutputStream out, IMemberDescriptor member) throws IOException {
+		String type = null;
+		String name = null;
+		String signature = null;
+		switch (member.getElementType()) {
+			case IElementDescriptor.TYPE -> type = ((IReferenceTypeDescriptor) member).getQualifiedName();
+			case IElementDescriptor.FIELD -> {
+				type = member.getEnclosingType().getQualifiedName();
+				name = member.getName();
+			}
+			case IElementDescriptor.METHOD -> {
+				type = member.getEnclosingType().getQualifiedName();
+				name = member.getName();
+				signature = ((IMethodDescriptor) member).getSignature();
 			}
+			default -> { /**/ }
 		}
-		return null;
+		RecordSpill.writeString(out, type);
+		RecordSpill.writeString(out, name);
+		RecordSpill.writeString(out, signature);
 	}
 
 	/**
-	 * Writes the attributes from the given {@link IReference} into a new
-	 * {@link Element} that is added to the given parent.
+	 * Adds the member details of a record to the given element.
+	 *
+	 * @param in the record stream
+	 * @param element XML element
 	 */
-	private void writeReference(Document document, Element parent, IReferenceDescriptor reference) throws CoreException {
-		Integer kind = Integer.valueOf(reference.getReferenceKind());
-		Element kelement = findKindElement(parent, kind);
-		if (kelement == null) {
-			kelement = document.createElement(IApiXmlConstants.REFERENCE_KIND);
-			kelement.setAttribute(IApiXmlConstants.ATTR_REFERENCE_KIND_NAME, Reference.getReferenceText(kind.intValue()));
-			kelement.setAttribute(IApiXmlConstants.ATTR_KIND, kind.toString());
-			kelement.setAttribute(IApiXmlConstants.ATTR_FLAGS, Integer.toString(reference.getReferenceFlags()));
-			parent.appendChild(kelement);
+	private void readMemberDetails(DataInputStream in, Element element) throws IOException {
+		String type = RecordSpill.readString(in);
+		String name = RecordSpill.readString(in);
+		String signature = RecordSpill.readString(in);
+		if (type != null) {
+			element.setAttribute(IApiXmlConstants.ATTR_TYPE, type);
 		}
-		Element relement = document.createElement(IApiXmlConstants.ATTR_REFERENCE);
-		IMemberDescriptor member = reference.getMember();
-		relement.setAttribute(IApiXmlConstants.ATTR_ORIGIN, getText(member));
-		String[] messages = reference.getProblemMessages();
-		if (messages != null) {
-			relement.setAttribute(IApiXmlConstants.ELEMENT_PROBLEM_MESSAGE_ARGUMENTS, getText(messages));
+		if (name != null) {
+			element.setAttribute(IApiXmlConstants.ATTR_MEMBER_NAME, name);
 		}
-		// add detailed information about origin
-		addMemberDetails(relement, member);
-		member = reference.getReferencedMember();
-		if (member != null) {
-			relement.setAttribute(IApiXmlConstants.ATTR_LINE_NUMBER, Integer.toString(reference.getLineNumber()));
-			kelement.appendChild(relement);
+		if (signature != null) {
+			element.setAttribute(IApiXmlConstants.ATTR_SIGNATURE, signature);
 		}
 	}
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2017 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -40,7 +40,8 @@ import org.w3c.dom.Element;
 import org.xml.sax.helpers.DefaultHandler;
 
 /**
- * Search reporter that outputs results to an XML file
+ * Search reporter that outputs results to an XML file. The results of an
+ * element are written once the search of the element is done.
  *
  * @since 1.0.1
  */
@@ -52,6 +53,7 @@ public class XmlSearchReporter implements IApiSearchReporter {
 	private int referenceCount = 0;
 	private int illegalCount = 0;
 	private int internalCount = 0;
+	private XmlReferenceDescriptorWriter writer = null;
 
 	/**
 	 * Constructor
@@ -64,6 +66,7 @@ public class XmlSearchReporter implements IApiSearchReporter {
 	public XmlSearchReporter(String location, boolean debug) {
 		fLocation = location;
 		this.debug = debug;
+		this.writer = new XmlReferenceDescriptorWriter(location);
 		try {
 			parser = org.eclipse.core.internal.runtime.XmlProcessorFactory.createDocumentBuilderWithErrorOnDOCTYPE();
 			parser.setErrorHandler(new DefaultHandler());
@@ -82,7 +85,6 @@ public class XmlSearchReporter implements IApiSearchReporter {
 		// Use a hashset for counting to remove any duplicate references that
 		// the writer would remove
 		HashSet<IReferenceDescriptor> writtenReferences = new HashSet<>();
-		XmlReferenceDescriptorWriter writer = new XmlReferenceDescriptorWriter(fLocation);
 		List<IReferenceDescriptor> descriptors = new ArrayList<>(references.length + 1);
 		for (IReference referenceInterface : references) {
 			Reference reference = (Reference) referenceInterface;
@@ -110,7 +112,12 @@ public class XmlSearchReporter implements IApiSearchReporter {
 			}
 		}
 
-		writer.writeReferences(descriptors.toArray(new IReferenceDescriptor[descriptors.size()]));
+		writer.addReferences(descriptors.toArray(new IReferenceDescriptor[descriptors.size()]));
+	}
+
+	@Override
+	public void reportSearchDone(IApiElement element) {
+		writer.flush();
 	}
 
 	/**
@@ -130,6 +137,7 @@ public class XmlSearchReporter implements IApiSearchReporter {
 	 */
 	@Override
 	public void reportNotSearched(IApiElement[] elements) {
+		writer.flush();
 		if (elements == null) {
 			return;
 		}
@@ -159,6 +167,7 @@ public class XmlSearchReporter implements IApiSearchReporter {
 
 	@Override
 	public void reportMetadata(IMetadata data) {
+		writer.flush();
 		if (data == null) {
 			return;
 		}
@@ -175,6 +184,7 @@ public class XmlSearchReporter implements IApiSearchReporter {
 
 	@Override
 	public void reportCounts() {
+		writer.flush();
 		if (this.debug) {
 			System.out.println("Writing file for counting total references..."); //$NON-NLS-1$
 		}
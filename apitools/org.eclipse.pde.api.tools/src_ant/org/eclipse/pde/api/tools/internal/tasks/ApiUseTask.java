@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2013 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -118,6 +118,12 @@ public final class ApiUseTask extends CommonUtilsTask {
 	 */
 	private String filters = null;
 
+	/**
+	 * Number of threads searching components, <code>0</code> means one per
+	 * available processor
+	 */
+	private int threads = 1;
+
 	/**
 	 * Set the location of the current product you want to search.
 	 *
@@ -319,6 +325,7 @@ public final class ApiUseTask extends CommonUtilsTask {
 			}
 
 			ApiPlugin.DEBUG_SEARCH_ENGINE = this.debug;
+			engine.setThreadCount(this.threads);
 			engine.search(baseline, requestor, reporter, null);
 		} catch (CoreException ce) {
 			throw new BuildException(Messages.ApiUseTask_search_engine_problem, ce);
@@ -623,4 +630,28 @@ public final class ApiUseTask extends CommonUtilsTask {
 	public void setFilters(String filters) {
 		this.filters = filters;
 	}
+
+	/**
+	 * Sets the number of threads searching components in parallel.
+	 * <p>
+	 * The possible values are: a positive number, or <code>0</code> for one
+	 * thread per available processor
+	 * </p>
+	 * <p>
+	 * Default is <code>1</code>. The report is the same for any number of
+	 * threads.
+	 * </p>
+	 *
+	 * @param threads the given number of threads
+	 */
+	public void setThreads(String threads) {
+		try {
+			this.threads = Integer.parseInt(threads.trim());
+		} catch (NumberFormatException e) {
+			throw new BuildException(NLS.bind(Messages.ApiUseTask_invalid_threads, threads));
+		}
+		if (this.threads < 0) {
+			throw new BuildException(NLS.bind(Messages.ApiUseTask_invalid_threads, threads));
+		}
+	}
 }
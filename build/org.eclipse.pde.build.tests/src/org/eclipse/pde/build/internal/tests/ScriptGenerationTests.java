@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2020 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which accompanies this distribution,
@@ -27,9 +27,11 @@ import java.io.FileOutputStream;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.net.URL;
+import java.nio.file.Files;
 import java.util.Enumeration;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
@@ -71,6 +73,8 @@ import org.eclipse.pde.internal.build.builder.BuildDirector;
 import org.eclipse.pde.internal.build.site.BuildTimeFeature;
 import org.eclipse.pde.internal.build.site.BuildTimeFeatureFactory;
 import org.eclipse.pde.internal.build.site.BuildTimeSiteFactory;
+import org.eclipse.pde.internal.build.site.ManifestCache;
+import org.eclipse.pde.internal.build.site.PDEState;
 import org.eclipse.pde.internal.build.site.QualifierReplacer;
 import org.junit.Ignore;
 import org.junit.Test;
@@ -908,6 +912,185 @@ public class ScriptGenerationTests extends PDETestCase {
 		assertEquals("plugins/F", tasks[0].getRuntimeConfigurableWrapper().getAttributeMap().get("dir"));
 	}
 
+	@Test
+	public void testParallelScriptGeneration() throws Exception {
+		IFolder buildFolder = newTest("parallelScriptGeneration");
+		String[] ids = new String[] { "A", "B", "C", "D", "E", "F" };
+		Utils.generateFeature(buildFolder, "feature", null, ids);
+
+		Attributes attributes = new Attributes();
+		Attributes.Name requireAttribute = new Attributes.Name("Require-Bundle");
+		String[] requires = new String[] { null, "A", "A", "A, B", "C, B, D", "C, D, E" };
+		for (int i = 0; i < ids.length; i++) {
+			IFolder bundle = Utils.createFolder(buildFolder, "plugins/" + ids[i]);
+			if (requires[i] != null) {
+				attributes.put(requireAttribute, requires[i]);
+			}
+			Utils.generateBundleManifest(bundle, ids[i], "1.0.0", requires[i] != null ? attributes : null);
+			Utils.generatePluginBuildProperties(bundle, null);
+		}
+
+		Properties properties = BuildConfiguration.getScriptGenerationProperties(buildFolder, "feature", "feature");
+		properties.put("flattenDependencies", "true");
+		generateScripts(buildFolder, properties);
+		Map<String, String> serialScripts = new HashMap<>();
+		for (String id : ids) {
+			serialScripts.put(id, Files.readString(buildFolder.getFile("plugins/" + id + "/build.xml").getLocation().toPath()));
+		}
+
+		properties.put("parallelScriptGeneration", "true");
+		generateScripts(buildFolder, properties);
+		for (String id : ids) {
+			IFile buildScript = buildFolder.getFile("plugins/" + id + "/build.xml");
+			assertValidAntScript(buildScript);
+			assertEquals(id, serialScripts.get(id), Files.readString(buildScript.getLocation().toPath()));
+		}
+	}
+
+	@Test
+	public void testParallelDependencySchedule() throws Exception {
+		IFolder buildFolder = newTest("parallelDependencySchedule");
+		String[] ids = new String[] { "A", "B", "C", "D", "E", "F" };
+		Utils.generateFeature(buildFolder, "feature", null, ids);
+
+		Attributes attributes = new Attributes();
+		Attributes.Name requireAttribute = new Attributes.Name("Require-Bundle");
+		String[] requires = new String[] { null, null, "A", "A, B", "C, B, D", "C, D, E" };
+		for (int i = 0; i < ids.length; i++) {
+			IFolder bundle = Utils.createFolder(buildFolder, "plugins/" + ids[i]);
+			if (requires[i] != null) {
+				attributes.put(requireAttribute, requires[i]);
+			}
+			Utils.generateBundleManifest(bundle, ids[i], "1.0.0", requires[i] != null ? attributes : null);
+			Utils.generatePluginBuildProperties(bundle, null);
+		}
+
+		Properties properties = BuildConfiguration.getScriptGenerationProperties(buildFolder, "feature", "feature");
+		properties.put("flattenDependencies", "true");
+		properties.put("parallelCompilation", "true");
+		properties.put("parallelDependencySchedule", "true");
+		generateScripts(buildFolder, properties);
+
+		IFile buildScript = buildFolder.getFile("compile.feature.xml");
+		Project antProject = assertValidAntScript(buildScript);
+		Target main = antProject.getTargets().get("main");
+		assertEquals(0, AntUtils.getChildrenByName(main, "parallel").length);
+		String script = Files.readString(buildScript.getLocation().toPath());
+		assertTrue(script.contains("<!-- Critical path: 4 of 6 bundles -->"));
+		assertTrue(script.contains("<eclipse.workQueue"));
+		assertTrue(script.contains("<job name=\"A_1.0.0\">"));
+		assertTrue(script.contains("<job name=\"B_1.0.0\">"));
+		assertTrue(script.contains("<job name=\"C_1.0.0\" depends=\"A_1.0.0\">"));
+		for (String id : ids) {
+			assertTrue(id, script.contains("dir=\"plugins/" + id + "\""));
+		}
+		int f = script.indexOf("<job name=\"F_1.0.0\" depends=\"");
+		assertTrue(f > 0);
+		String depends = script.substring(f, script.indexOf('>', f));
+		assertTrue(depends, depends.contains("C_1.0.0") && depends.contains("D_1.0.0") && depends.contains("E_1.0.0"));
+	}
+
+	@Test
+	public void testWorkQueue() throws Exception {
+		IFolder buildFolder = newTest("workQueue");
+		StringBuffer buffer = new StringBuffer();
+		buffer.append("<project name=\"project\" default=\"default\">\n");
+		buffer.append("  <target name=\"default\">\n");
+		buffer.append("    <eclipse.workQueue threadCount=\"2\">\n");
+		// slow only completes once afterFast has run, which deadlocks until the
+		// wait times out if afterFast waited for slow as well
+		buffer.append("      <job name=\"slow\"><waitfor maxwait=\"30\" maxwaitunit=\"second\"><available file=\"afterFast.done\"/></waitfor><echo file=\"order.txt\" append=\"true\" message=\"slow \"/></job>\n");
+		buffer.append("      <job name=\"fast\"><echo file=\"order.txt\" append=\"true\" message=\"fast \"/></job>\n");
+		buffer.append("      <job name=\"last\" depends=\"slow, fast\"><echo file=\"order.txt\" append=\"true\" message=\"last \"/></job>\n");
+		buffer.append("      <job name=\"afterFast\" depends=\"fast\"><echo file=\"order.txt\" append=\"true\" message=\"afterFast \"/><touch file=\"afterFast.done\"/></job>\n");
+		buffer.append("    </eclipse.workQueue>\n");
+		buffer.append("  </target>\n");
+		buffer.append("</project>\n");
+		IFile script = buildFolder.getFile("workQueue.xml");
+		Utils.writeBuffer(script, buffer);
+
+		runAntScript(script.getLocation().toOSString(), new String[] { "default" },
+				buildFolder.getLocation().toOSString(), new Properties());
+
+		// afterFast does not wait for the unrelated slow job
+		assertEquals("fast afterFast slow last ", Files.readString(buildFolder.getFile("order.txt").getLocation().toPath()));
+	}
+
+	@Test
+	public void testManifestCache() throws Exception {
+		IFolder buildFolder = newTest("manifestCache");
+		IFolder a = Utils.createFolder(buildFolder, "plugins/A");
+		IFolder b = Utils.createFolder(buildFolder, "plugins/B");
+		Utils.generateBundleManifest(a, "A", "1.0.0", null);
+		Utils.generateBundleManifest(b, "B", "1.0.0", null);
+		List<File> bundles = List.of(a.getLocation().toFile(), b.getLocation().toFile());
+		File cacheFile = buildFolder.getFile(IPDEBuildConstants.DEFAULT_MANIFEST_CACHE_FILENAME).getLocation().toFile();
+
+		ManifestCache cache = new ManifestCache(cacheFile);
+		PDEState state = new PDEState();
+		state.setManifestCache(cache);
+		state.addBundles(bundles);
+		assertEquals(0, cache.getHits());
+		assertEquals(2, cache.getMisses());
+		assertTrue(cacheFile.isFile());
+
+		cache = new ManifestCache(cacheFile);
+		state = new PDEState();
+		state.setManifestCache(cache);
+		state.addBundles(bundles);
+		assertEquals(2, cache.getHits());
+		assertEquals(0, cache.getMisses());
+		assertEquals(2, state.getState().getBundles().length);
+		assertNotNull(state.getState().getBundle("A", new Version("1.0.0")));
+
+		// a changed manifest is read again
+		Utils.generateBundleManifest(a, "A", "2.0.0", null);
+		File manifest = new File(a.getLocation().toFile(), JarFile.MANIFEST_NAME);
+		manifest.setLastModified(manifest.lastModified() + 2000);
+		cache = new ManifestCache(cacheFile);
+		state = new PDEState();
+		state.setManifestCache(cache);
+		state.addBundles(bundles);
+		assertEquals(1, cache.getHits());
+		assertEquals(1, cache.getMisses());
+		assertNotNull(state.getState().getBundle("A", new Version("2.0.0")));
+	}
+
+	@Test
+	public void testManifestCacheWithoutManifest() throws Exception {
+		IFolder buildFolder = newTest("manifestCacheWithoutManifest");
+		IFolder a = Utils.createFolder(buildFolder, "plugins/A");
+		IFolder c = Utils.createFolder(buildFolder, "plugins/C");
+		Utils.generateBundleManifest(a, "A", "1.0.0", null);
+		List<File> bundles = List.of(a.getLocation().toFile(), c.getLocation().toFile());
+		File cacheFile = buildFolder.getFile(IPDEBuildConstants.DEFAULT_MANIFEST_CACHE_FILENAME).getLocation().toFile();
+
+		ManifestCache cache = new ManifestCache(cacheFile);
+		PDEState state = new PDEState();
+		state.setManifestCache(cache);
+		state.addBundles(bundles);
+		assertEquals(2, cache.getMisses());
+
+		// the folder without manifest is remembered as well
+		cache = new ManifestCache(cacheFile);
+		state = new PDEState();
+		state.setManifestCache(cache);
+		state.addBundles(bundles);
+		assertEquals(2, cache.getHits());
+		assertEquals(0, cache.getMisses());
+		assertEquals(1, state.getState().getBundles().length);
+
+		// until a manifest is added
+		Utils.generateBundleManifest(c, "C", "1.0.0", null);
+		cache = new ManifestCache(cacheFile);
+		state = new PDEState();
+		state.setManifestCache(cache);
+		state.addBundles(bundles);
+		assertEquals(1, cache.getHits());
+		assertEquals(1, cache.getMisses());
+		assertNotNull(state.getState().getBundle("C", new Version("1.0.0")));
+	}
+
 	public static class TestQualifierDirector extends BuildDirector {
 		public TestQualifierDirector() {
 			super();
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2021 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -96,6 +96,7 @@ public abstract class AbstractScriptGenerator implements IXMLConstants, IPDEBuil
 	protected List<String> featuresForFilterRoots = new ArrayList<>();
 	protected List<String> pluginsForFilterRoots = new ArrayList<>();
 	protected boolean filterP2Base = false;
+	protected boolean manifestCache = false;
 
 	protected boolean reportResolutionErrors;
 
@@ -327,6 +328,9 @@ public abstract class AbstractScriptGenerator implements IXMLConstants, IPDEBuil
 		factory.setFilterP2Base(filterP2Base);
 		factory.setSitePaths(getPaths());
 		factory.setEESources(getEESources());
+		if (manifestCache) {
+			factory.setManifestCache(new File(workingDirectory, DEFAULT_MANIFEST_CACHE_FILENAME));
+		}
 		factory.setInitialState(pdeUIState);
 
 		BuildTimeSite result = factory.createSite();
@@ -556,6 +560,16 @@ public abstract class AbstractScriptGenerator implements IXMLConstants, IPDEBuil
 		filterP2Base = filter;
 	}
 
+	/**
+	 * Sets whether the manifests of the bundles in the state are cached in the
+	 * working directory between builds.
+	 *
+	 * @param cache whether to cache the manifests
+	 */
+	public void setManifestCache(boolean cache) {
+		manifestCache = cache;
+	}
+
 	static private URI getDownloadCacheLocation(IProvisioningAgent agent) {
 		IAgentLocation location = (IAgentLocation) agent.getService(IAgentLocation.SERVICE_NAME);
 		if (location == null) {
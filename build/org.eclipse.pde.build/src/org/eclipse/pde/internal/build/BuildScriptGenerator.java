@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2024 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -80,6 +80,8 @@ public class BuildScriptGenerator extends AbstractScriptGenerator {
 	protected boolean generateJnlp = false;
 	protected boolean generateFeatureVersionSuffix = false;
 	protected boolean parallel = false;
+	protected boolean parallelScriptGeneration = false;
+	protected boolean dependencySchedule = false;
 	protected boolean workspaceBinaries = false;
 	protected int threadCount = -1;
 	protected int threadsPerProcessor = -1;
@@ -260,6 +262,7 @@ public class BuildScriptGenerator extends AbstractScriptGenerator {
 			generator.setContextMetadata(contextMetadata);
 			generator.setContextArtifacts(contextArtifacts);
 			generator.setGenerateSourceReferences(sourceReferences);
+			generator.setParallelScriptGeneration(parallelScriptGeneration);
 		}
 
 		if (generator != null) {
@@ -471,6 +474,7 @@ public class BuildScriptGenerator extends AbstractScriptGenerator {
 		generator.setAssemblyData(assemblageInformation);
 		generator.setFeatureId(featureInfo[0]);
 		generator.setParallel(parallel);
+		generator.setDependencySchedule(dependencySchedule);
 		generator.setThreadCount(threadCount);
 		generator.setThreadsPerProcessor(threadsPerProcessor);
 		generator.generate();
@@ -670,6 +674,28 @@ public class BuildScriptGenerator extends AbstractScriptGenerator {
 		this.parallel = parallel;
 	}
 
+	/**
+	 * Sets whether parallel compilation starts each bundle as soon as the
+	 * bundles it requires are compiled.
+	 *
+	 * @param dependencySchedule whether to schedule the compilation by
+	 *            dependencies
+	 */
+	public void setDependencySchedule(boolean dependencySchedule) {
+		this.dependencySchedule = dependencySchedule;
+	}
+
+	/**
+	 * Sets whether the build scripts of the plug-ins of a feature are
+	 * generated concurrently.
+	 *
+	 * @param parallelScriptGeneration whether to generate the plug-in scripts
+	 *            concurrently
+	 */
+	public void setParallelScriptGeneration(boolean parallelScriptGeneration) {
+		this.parallelScriptGeneration = parallelScriptGeneration;
+	}
+
 	public void setThreadCount(int threadCount) {
 		this.threadCount = threadCount;
 	}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2013 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -45,6 +45,7 @@ public class Messages extends NLS {
 	public static String error_retrieveFailed;
 	public static String error_invalidURLInMapFileEntry;
 	public static String error_licenseRootWithoutLicenseRef;
+	public static String error_scriptGenerationInterrupted;
 
 	// exception
 	public static String exception_missingElement;
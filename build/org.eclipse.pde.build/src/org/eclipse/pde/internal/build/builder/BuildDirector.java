@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2021 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,6 +14,8 @@
 package org.eclipse.pde.internal.build.builder;
 
 import java.io.File;
+import java.util.AbstractSet;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -22,6 +24,10 @@ import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IStatus;
@@ -75,6 +81,10 @@ public class BuildDirector extends AbstractBuildScriptGenerator {
 	protected boolean generateJnlp = false;
 	protected boolean workspaceBinaries = false;
 	private boolean sourceReferences = false;
+	/** Indicates if the scripts of the plug-ins are generated concurrently */
+	private boolean parallelScriptGeneration = false;
+	/** Set when a nested jar name had to be made unique during concurrent generation */
+	private volatile boolean extractedNameClash = false;
 
 	public static boolean p2Gathering = false;
 
@@ -100,7 +110,7 @@ public class BuildDirector extends AbstractBuildScriptGenerator {
 
 	private final Map<String, String> extractedLocations = new HashMap<>();
 
-	public String getExtractedRoot(ClasspathElement element) {
+	public synchronized String getExtractedRoot(ClasspathElement element) {
 		if (element.getSubPath() == null) {
 			return element.getPath();
 		}
@@ -118,6 +128,7 @@ public class BuildDirector extends AbstractBuildScriptGenerator {
 		String destination = name;
 		while (extractedLocations.containsValue(destination)) {
 			destination = name + '_' + Integer.toHexString(destination.hashCode());
+			extractedNameClash = true;
 		}
 
 		extractedLocations.put(absolute, destination);
@@ -533,6 +544,8 @@ public class BuildDirector extends AbstractBuildScriptGenerator {
 		}
 
 		Set<BundleDescription> generatedScripts = new HashSet<>(models.size());
+		List<PluginScript> scripts = new ArrayList<>(models.size());
+		Map<String, Integer> compiledOrder = new HashMap<>();
 		for (BundleDescription model : models) {
 			if (generatedScripts.contains(model)) {
 				continue;
@@ -545,7 +558,7 @@ public class BuildDirector extends AbstractBuildScriptGenerator {
 			@SuppressWarnings("rawtypes")
 			Set matchingEntries = (Set) ((Properties) model.getUserObject()).get(PLUGIN_ENTRY);
 			if (matchingEntries == null || matchingEntries.isEmpty()) {
-				return;
+				break;
 			}
 
 			@SuppressWarnings("rawtypes")
@@ -556,21 +569,141 @@ public class BuildDirector extends AbstractBuildScriptGenerator {
 				continue;
 			}
 
-			ModelBuildScriptGenerator generator = new ModelBuildScriptGenerator();
-			generator.setBuildSiteFactory(siteFactory);
-			generator.setCompiledElements(getCompiledElements());
-			generator.setIgnoreMissingPropertiesFile(isIgnoreMissingPropertiesFile());
-			generator.setModel(model); // setModel has to be called before configurePersistentProperties because it reads the model's properties
-			generator.setFeatureGenerator(this);
-			generator.setPluginPath(getPluginPath());
-			generator.setDevEntries(devEntries);
-			generator.includePlatformIndependent(isPlatformIndependentIncluded());
-			generator.setSignJars(signJars);
-			generator.setAssociatedEntry(correspondingEntry);
-			generator.setGenerateSourceReferences(sourceReferences);
-			generator.generate();
+			ModelBuildScriptGenerator generator = newModelGenerator(model, correspondingEntry);
+			if (parallelScriptGeneration) {
+				// the classpath of a plug-in only sees the plug-ins compiled before it,
+				// as it would when the scripts are generated one after another
+				int position = scripts.size();
+				for (String element : getCompiledElements()) {
+					compiledOrder.putIfAbsent(element, Integer.valueOf(position));
+				}
+				CompiledElements compiled = new CompiledElements(compiledOrder, position);
+				generator.setCompiledElements(compiled);
+				scripts.add(new PluginScript(model, correspondingEntry, compiled, generator));
+			} else {
+				generator.generate();
+			}
+		}
+		if (!scripts.isEmpty()) {
+			generateConcurrently(scripts);
 		}
+	}
 
+	private ModelBuildScriptGenerator newModelGenerator(BundleDescription model, FeatureEntry correspondingEntry) throws CoreException {
+		ModelBuildScriptGenerator generator = new ModelBuildScriptGenerator();
+		generator.setBuildSiteFactory(siteFactory);
+		generator.setCompiledElements(getCompiledElements());
+		generator.setIgnoreMissingPropertiesFile(isIgnoreMissingPropertiesFile());
+		generator.setModel(model); // setModel has to be called before configurePersistentProperties because it reads the model's properties
+		generator.setFeatureGenerator(this);
+		generator.setPluginPath(getPluginPath());
+		generator.setDevEntries(devEntries);
+		generator.includePlatformIndependent(isPlatformIndependentIncluded());
+		generator.setSignJars(signJars);
+		generator.setAssociatedEntry(correspondingEntry);
+		generator.setGenerateSourceReferences(sourceReferences);
+		return generator;
+	}
+
+	/**
+	 * Generates the given plug-in scripts concurrently. Every generator
+	 * writes its own script and only reads the shared state, so the scripts are
+	 * the same as when they are generated one after another. The one exception
+	 * is the name of an extracted nested jar that clashes with another one, it
+	 * depends on the order the names are requested. In that case the scripts
+	 * are generated again one after another.
+	 *
+	 * @param scripts the plug-in scripts in build order
+	 */
+	private void generateConcurrently(List<PluginScript> scripts) throws CoreException {
+		// initialize lazily computed shared state before it is read concurrently
+		getSite(false).getRegistry().getProfileManager();
+		getExecutionEnvironmentMappings();
+		MissingProperties.getInstance();
+		Map<String, String> extracted;
+		synchronized (this) {
+			extracted = new HashMap<>(extractedLocations);
+			extractedNameClash = false;
+		}
+		int threads = Math.min(scripts.size(), Runtime.getRuntime().availableProcessors());
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		try {
+			List<Future<?>> results = new ArrayList<>(scripts.size());
+			for (PluginScript script : scripts) {
+				results.add(executor.submit(() -> {
+					script.generator().generate();
+					return null;
+				}));
+			}
+			// report the failure of the first plug-in in build order
+			for (Future<?> result : results) {
+				result.get();
+			}
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof CoreException coreException) {
+				throw coreException;
+			}
+			if (cause instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			if (cause instanceof Error error) {
+				throw error;
+			}
+			throw new CoreException(new Status(IStatus.ERROR, PI_PDEBUILD, EXCEPTION_GENERIC, cause.getMessage(), cause));
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new CoreException(new Status(IStatus.ERROR, PI_PDEBUILD, EXCEPTION_GENERIC, Messages.error_scriptGenerationInterrupted, e));
+		} finally {
+			executor.shutdownNow();
+		}
+		if (extractedNameClash) {
+			synchronized (this) {
+				extractedLocations.clear();
+				extractedLocations.putAll(extracted);
+			}
+			for (PluginScript script : scripts) {
+				ModelBuildScriptGenerator generator = newModelGenerator(script.model(), script.entry());
+				generator.setCompiledElements(script.compiled());
+				generator.generate();
+			}
+		}
+	}
+
+	/**
+	 * A plug-in whose script is generated concurrently
+	 */
+	private record PluginScript(BundleDescription model, FeatureEntry entry, Set<String> compiled, ModelBuildScriptGenerator generator) {
+	}
+
+	/**
+	 * The elements compiled before a plug-in in build order. Read-only view on
+	 * the order in which the elements were added to the compiled elements.
+	 */
+	private static final class CompiledElements extends AbstractSet<String> {
+		private final Map<String, Integer> order;
+		private final int position;
+
+		CompiledElements(Map<String, Integer> order, int position) {
+			this.order = order;
+			this.position = position;
+		}
+
+		@Override
+		public boolean contains(Object element) {
+			Integer index = order.get(element);
+			return index != null && index.intValue() <= position;
+		}
+
+		@Override
+		public Iterator<String> iterator() {
+			return order.entrySet().stream().filter(e -> e.getValue().intValue() <= position).map(Map.Entry::getKey).iterator();
+		}
+
+		@Override
+		public int size() {
+			return (int) order.values().stream().filter(index -> index.intValue() <= position).count();
+		}
 	}
 
 	/**
@@ -695,6 +828,16 @@ public class BuildDirector extends AbstractBuildScriptGenerator {
 		this.sourceReferences = generateSourceRef;
 	}
 
+	/**
+	 * Sets whether the build scripts of the plug-ins of a feature are
+	 * generated concurrently. The generated scripts are the same either way.
+	 *
+	 * @param value whether to generate the plug-in scripts concurrently
+	 */
+	public void setParallelScriptGeneration(boolean value) {
+		parallelScriptGeneration = value;
+	}
+
 	/**
 	 * Sets whether or not to generate the feature version suffix
 	 *
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2021 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which accompanies this distribution,
@@ -12,8 +12,12 @@
  ******************************************************************************/
 package org.eclipse.pde.internal.build.builder;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
 
@@ -25,9 +29,12 @@ import org.eclipse.pde.internal.build.AssemblyInformation;
 import org.eclipse.pde.internal.build.Utils;
 
 public class CompilationScriptGenerator extends AbstractScriptGenerator {
+	private static final String TASK_WORK_QUEUE = "eclipse.workQueue"; //$NON-NLS-1$
+	private static final String TASK_JOB = "job"; //$NON-NLS-1$
 
 	private String featureId = "all"; //$NON-NLS-1$
 	private boolean parallel = true;
+	private boolean dependencySchedule = false;
 	private int threadCount = 0;
 	private int threadsPerProcessor = 3;
 
@@ -61,6 +68,18 @@ public class CompilationScriptGenerator extends AbstractScriptGenerator {
 		this.parallel = parallel;
 	}
 
+	/**
+	 * Sets whether parallel compilation starts each bundle as soon as its
+	 * prerequisites are compiled instead of compiling groups of independent
+	 * bundles one after the other.
+	 *
+	 * @param dependencySchedule whether to schedule bundles by their
+	 *            dependencies
+	 */
+	public void setDependencySchedule(boolean dependencySchedule) {
+		this.dependencySchedule = dependencySchedule;
+	}
+
 	public void setThreadCount(int count) {
 		if (count != -1) {
 			this.threadCount = count;
@@ -99,6 +118,11 @@ public class CompilationScriptGenerator extends AbstractScriptGenerator {
 		List<BundleDescription> sortedPlugins = Utils.extractPlugins(getSite(false).getRegistry().getSortedBundles(), plugins);
 		IPath basePath = IPath.fromOSString(workingDirectory);
 
+		if (parallel && dependencySchedule) {
+			generateWorkQueue(sortedPlugins, basePath);
+			return;
+		}
+
 		Set<Long> bucket = null;
 		if (parallel) {
 			bucket = new HashSet<>();
@@ -129,7 +153,82 @@ public class CompilationScriptGenerator extends AbstractScriptGenerator {
 		}
 	}
 
+	/**
+	 * Compiles the bundles in an <code>eclipse.workQueue</code> that starts
+	 * each bundle once the bundles it requires are compiled. The longest chain
+	 * of required bundles is noted in the script, the work queue reports the
+	 * time spent on it when the script runs.
+	 */
+	private void generateWorkQueue(List<BundleDescription> sortedPlugins, IPath basePath) throws CoreException {
+		Map<Long, BundleDescription> scheduled = new HashMap<>();
+		Map<Long, Integer> pathLengths = new HashMap<>();
+		List<String[]> jobs = new ArrayList<>();
+		int critical = 0;
+		for (BundleDescription bundle : sortedPlugins) {
+			// Individual source bundles have empty build.jars targets, skip them
+			if (Utils.isSourceBundle(bundle)) {
+				continue;
+			}
+			// bundles are sorted, only depend on bundles scheduled before to not hang on cycles
+			List<String> depends = new ArrayList<>();
+			int longest = 0;
+			for (Long id : getRequiredIds(bundle)) {
+				BundleDescription required = scheduled.get(id);
+				if (required != null) {
+					depends.add(getJobName(required));
+					longest = Math.max(longest, pathLengths.get(id).intValue());
+				}
+			}
+			Long id = Long.valueOf(bundle.getBundleId());
+			scheduled.put(id, bundle);
+			pathLengths.put(id, Integer.valueOf(longest + 1));
+			critical = Math.max(critical, longest + 1);
+
+			IPath location = Utils.makeRelative(IPath.fromOSString(getLocation(bundle)), basePath);
+			jobs.add(new String[] {getJobName(bundle), Utils.getStringFromCollection(depends, ","), location.toString()}); //$NON-NLS-1$
+		}
+
+		script.printComment("Critical path: " + critical + " of " + jobs.size() + " bundles"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		Map<String, String> attributes = new LinkedHashMap<>();
+		if (threadCount > 0) {
+			attributes.put("threadCount", String.valueOf(threadCount)); //$NON-NLS-1$
+		}
+		if (threadsPerProcessor > 0) {
+			attributes.put("threadsPerProcessor", String.valueOf(threadsPerProcessor)); //$NON-NLS-1$
+		}
+		script.printStartTag(TASK_WORK_QUEUE, attributes);
+		script.incrementIdent();
+		for (String[] job : jobs) {
+			Map<String, String> jobAttributes = new LinkedHashMap<>();
+			jobAttributes.put("name", job[0]); //$NON-NLS-1$
+			if (job[1].length() > 0) {
+				jobAttributes.put("depends", job[1]); //$NON-NLS-1$
+			}
+			script.printStartTag(TASK_JOB, jobAttributes);
+			script.incrementIdent();
+			script.printAntTask(DEFAULT_BUILD_SCRIPT_FILENAME, job[2], TARGET_BUILD_JARS, null, null, null);
+			script.decrementIdent();
+			script.printEndTag(TASK_JOB);
+		}
+		script.decrementIdent();
+		script.printEndTag(TASK_WORK_QUEUE);
+	}
+
+	private static String getJobName(BundleDescription bundle) {
+		return bundle.getSymbolicName() + '_' + bundle.getVersion();
+	}
+
 	private boolean requiredInBucket(BundleDescription bundle, Set<Long> bucket) {
+		for (Long id : getRequiredIds(bundle)) {
+			if (bucket.contains(id)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private List<Long> getRequiredIds(BundleDescription bundle) {
+		List<Long> result = new ArrayList<>();
 		Properties properties = (Properties) bundle.getUserObject();
 		if (properties != null) {
 			String required = properties.getProperty(PROPERTY_REQUIRED_BUNDLE_IDS);
@@ -137,15 +236,13 @@ public class CompilationScriptGenerator extends AbstractScriptGenerator {
 				String[] ids = Utils.getArrayFromString(required, ":"); //$NON-NLS-1$
 				for (String id2 : ids) {
 					try {
-						if (bucket.contains(Long.valueOf(id2))) {
-							return true;
-						}
+						result.add(Long.valueOf(id2));
 					} catch (NumberFormatException e) {
 						//ignore
 					}
 				}
 			}
 		}
-		return false;
+		return result;
 	}
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2021 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -79,6 +79,7 @@ public class BuildTimeSite /*extends Site*/ implements IPDEBuildConstants, IXMLC
 	private boolean reportResolutionErrors;
 	private Properties platformProperties;
 	private String[] eeSources;
+	private File manifestCache = null;
 
 	//Support for filtering what is added to the state
 	private List<String> rootFeaturesForFilter;
@@ -158,8 +159,12 @@ public class BuildTimeSite /*extends Site*/ implements IPDEBuildConstants, IXMLC
 				state.setPlatformProperties(platformProperties);
 			}
 
+			if (manifestCache != null) {
+				state.setManifestCache(new ManifestCache(manifestCache));
+			}
 			Collection<File> bundles = removeDuplicates(provider.getPluginPaths());
 			state.addBundles(bundles);
+			state.setManifestCache(null);
 			state.setEESources(eeSources);
 
 			//Once all the elements have been added to the state, the filter is removed to allow for the generated plug-ins to be added
@@ -519,4 +524,8 @@ public class BuildTimeSite /*extends Site*/ implements IPDEBuildConstants, IXMLC
 	public void setEESources(String[] eeSources) {
 		this.eeSources = eeSources;
 	}
+
+	public void setManifestCache(File manifestCache) {
+		this.manifestCache = manifestCache;
+	}
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2021 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which accompanies this distribution,
@@ -52,6 +52,7 @@ public class BuildTimeSiteFactory /*extends BaseSiteFactory*/ implements IPDEBui
 	private List<String> rootPluginsForFilter;
 	private boolean filterState;
 	private boolean filterP2Base = false;
+	private File manifestCache = null;
 
 	/**
 	 * Create a build time site, using the sitePaths, and the installedBaseLocation.
@@ -119,6 +120,7 @@ public class BuildTimeSiteFactory /*extends BaseSiteFactory*/ implements IPDEBui
 		model.setRootFeaturesForFilter(rootFeaturesForFilter);
 		model.setRootPluginsForFiler(rootPluginsForFilter);
 		model.setEESources(eeSources);
+		model.setManifestCache(manifestCache);
 		return model;
 	}
 
@@ -196,4 +198,12 @@ public class BuildTimeSiteFactory /*extends BaseSiteFactory*/ implements IPDEBui
 	public void setEESources(String[] sources) {
 		this.eeSources = sources;
 	}
+
+	/**
+	 * @param manifestCache the file the manifests of the bundles in the state
+	 *            are cached in, or <code>null</code> to not cache them
+	 */
+	public void setManifestCache(File manifestCache) {
+		this.manifestCache = manifestCache;
+	}
 }
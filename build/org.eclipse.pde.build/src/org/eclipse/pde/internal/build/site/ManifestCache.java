@@ -0,0 +1,211 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - persistent manifest cache of the build state
+ *******************************************************************************/
+package org.eclipse.pde.internal.build.site;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Dictionary;
+import java.util.Enumeration;
+import java.util.Hashtable;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.jar.JarFile;
+
+/**
+ * Persistent cache of the bundle manifests read into the state. Entries are
+ * keyed by the location of the bundle and the size and modification time of
+ * the file the manifest is read from, the jar of a jarred bundle or the
+ * manifest file of a bundle folder. A bundle folder without manifest is keyed
+ * by the folder the manifest would be added to, so it is remembered as well
+ * until a manifest appears. Repeated builds against the same base
+ * only read the manifests of the bundles that changed.
+ * <p>
+ * The cache is thread safe. Only the entries of the bundles looked up since
+ * the cache was loaded are saved, so bundles removed from the build are
+ * dropped from the cache.
+ * </p>
+ */
+public class ManifestCache {
+	private static final int FORMAT = 1;
+
+	private record Entry(long length, long lastModified, Map<String, String> manifest) {
+	}
+
+	private final File file;
+	private final Map<String, Entry> loaded = new ConcurrentHashMap<>();
+	private final Map<String, Entry> used = new ConcurrentHashMap<>();
+	private final AtomicInteger hits = new AtomicInteger();
+	private final AtomicInteger misses = new AtomicInteger();
+
+	/**
+	 * Creates a cache stored in the given file and loads its content if the
+	 * file exists. A file that cannot be read is ignored.
+	 *
+	 * @param file the file the cache is stored in
+	 */
+	public ManifestCache(File file) {
+		this.file = file;
+		if (!file.isFile()) {
+			return;
+		}
+		try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(file.toPath())))) {
+			if (input.readInt() != FORMAT) {
+				return;
+			}
+			for (int entries = input.readInt(); entries > 0; entries--) {
+				String location = readString(input);
+				long length = input.readLong();
+				long lastModified = input.readLong();
+				int headers = input.readInt();
+				Map<String, String> manifest = null;
+				if (headers >= 0) {
+					manifest = new Hashtable<>(headers);
+					for (int i = 0; i < headers; i++) {
+						manifest.put(readString(input), readString(input));
+					}
+				}
+				loaded.put(location, new Entry(length, lastModified, manifest));
+			}
+		} catch (IOException e) {
+			// corrupt or truncated, start over
+			loaded.clear();
+		}
+	}
+
+	/**
+	 * Returns the manifest of the given bundle, from the cache if the file it
+	 * is read from did not change, otherwise using the given loader.
+	 *
+	 * @param bundleLocation the bundle
+	 * @param loader reads the manifest of the bundle, returns <code>null</code>
+	 *            if the bundle has no manifest
+	 * @return a new copy of the manifest, or <code>null</code>
+	 */
+	public Dictionary<String, String> getManifest(File bundleLocation, Function<File, Dictionary<String, String>> loader) {
+		File source = getStampFile(bundleLocation);
+		long length = source.length();
+		long lastModified = source.lastModified();
+		if (lastModified == 0) {
+			// nothing to key on
+			return loader.apply(bundleLocation);
+		}
+		String location = bundleLocation.getAbsolutePath();
+		Entry entry = loaded.get(location);
+		if (entry != null && entry.length() == length && entry.lastModified() == lastModified) {
+			hits.incrementAndGet();
+		} else {
+			misses.incrementAndGet();
+			Dictionary<String, String> manifest = loader.apply(bundleLocation);
+			Map<String, String> headers = null;
+			if (manifest != null) {
+				headers = new Hashtable<>(manifest.size());
+				for (Enumeration<String> keys = manifest.keys(); keys.hasMoreElements();) {
+					String key = keys.nextElement();
+					headers.put(key, manifest.get(key));
+				}
+			}
+			entry = new Entry(length, lastModified, headers);
+		}
+		used.put(location, entry);
+		return entry.manifest() == null ? null : new Hashtable<>(entry.manifest());
+	}
+
+	private static File getStampFile(File bundleLocation) {
+		if (!bundleLocation.isDirectory()) {
+			return bundleLocation;
+		}
+		File manifest = new File(bundleLocation, JarFile.MANIFEST_NAME);
+		if (manifest.isFile()) {
+			return manifest;
+		}
+		// no manifest, adding one modifies the folder it is added to
+		File metaInf = manifest.getParentFile();
+		return metaInf.isDirectory() ? metaInf : bundleLocation;
+	}
+
+	/**
+	 * Writes the entries of the bundles looked up since the cache was loaded
+	 * to the cache file.
+	 *
+	 * @throws IOException if the file cannot be written
+	 */
+	public void save() throws IOException {
+		if (misses.get() == 0 && used.size() == loaded.size()) {
+			return;
+		}
+		File parent = file.getAbsoluteFile().getParentFile();
+		parent.mkdirs();
+		File temp = File.createTempFile(file.getName(), null, parent);
+		try {
+			try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp.toPath())))) {
+				output.writeInt(FORMAT);
+				output.writeInt(used.size());
+				for (Map.Entry<String, Entry> element : used.entrySet()) {
+					Entry entry = element.getValue();
+					writeString(output, element.getKey());
+					output.writeLong(entry.length());
+					output.writeLong(entry.lastModified());
+					if (entry.manifest() == null) {
+						output.writeInt(-1);
+						continue;
+					}
+					output.writeInt(entry.manifest().size());
+					for (Map.Entry<String, String> header : entry.manifest().entrySet()) {
+						writeString(output, header.getKey());
+						writeString(output, header.getValue());
+					}
+				}
+			}
+			Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		} finally {
+			temp.delete();
+		}
+	}
+
+	/**
+	 * @return the number of manifests taken from the cache
+	 */
+	public int getHits() {
+		return hits.get();
+	}
+
+	/**
+	 * @return the number of manifests that had to be read
+	 */
+	public int getMisses() {
+		return misses.get();
+	}
+
+	private static void writeString(DataOutputStream output, String value) throws IOException {
+		// manifest headers can exceed the length supported by writeUTF
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		output.writeInt(bytes.length);
+		output.write(bytes);
+	}
+
+	private static String readString(DataInputStream input) throws IOException {
+		byte[] bytes = new byte[input.readInt()];
+		input.readFully(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2004, 2023 IBM Corporation and others.
+ *  Copyright (c) 2004, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -28,6 +28,7 @@ import java.util.Enumeration;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Hashtable;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -89,6 +90,7 @@ public class PDEState implements IPDEBuildConstants, IBuildPropertiesConstants {
 	private final Set<Dictionary<String, String>> convertedManifests;
 	private long lastSortingDate = 0L;
 	private String[] eeSources;
+	private ManifestCache manifestCache = null;
 
 	protected long getNextId() {
 		return ++id;
@@ -258,8 +260,10 @@ public class PDEState implements IPDEBuildConstants, IBuildPropertiesConstants {
 	}
 
 	public boolean addBundle(File bundleLocation) {
-		Dictionary<String, String> manifest;
-		manifest = loadManifest(bundleLocation);
+		return addLoadedBundle(loadManifest(bundleLocation), bundleLocation);
+	}
+
+	private boolean addLoadedBundle(Dictionary<String, String> manifest, File bundleLocation) {
 		if (manifest == null) {
 			return addFlexibleRoot(bundleLocation);
 		}
@@ -381,7 +385,7 @@ public class PDEState implements IPDEBuildConstants, IBuildPropertiesConstants {
 	}
 
 	private Dictionary<String, String> loadManifest(File bundleLocation) {
-		Dictionary<String, String> manifest = basicLoadManifest(bundleLocation);
+		Dictionary<String, String> manifest = manifestCache != null ? manifestCache.getManifest(bundleLocation, this::basicLoadManifest) : basicLoadManifest(bundleLocation);
 		if (manifest == null) {
 			return null;
 		}
@@ -396,11 +400,32 @@ public class PDEState implements IPDEBuildConstants, IBuildPropertiesConstants {
 	}
 
 	public void addBundles(Collection<File> bundles) {
+		// reading the manifests is independent, adding the bundles to the state has to happen in order
+		List<Dictionary<String, String>> manifests = bundles.parallelStream().map(this::loadManifest).toList();
+		Iterator<Dictionary<String, String>> manifest = manifests.iterator();
 		for (File bundle : bundles) {
-			addBundle(bundle);
+			addLoadedBundle(manifest.next(), bundle);
+		}
+		if (manifestCache != null) {
+			try {
+				manifestCache.save();
+			} catch (IOException e) {
+				LOGGER.warn("Could not save the manifest cache: " + e.getMessage()); //$NON-NLS-1$
+			}
 		}
 	}
 
+	/**
+	 * Sets the cache the manifests of the bundles added to the state are
+	 * read from.
+	 *
+	 * @param manifestCache the cache, or <code>null</code> to always read the
+	 *            manifests from the bundles
+	 */
+	public void setManifestCache(ManifestCache manifestCache) {
+		this.manifestCache = manifestCache;
+	}
+
 	@SuppressWarnings("deprecation")
 	private static final String FRAMEWORK_EXECUTIONENVIRONMENT = Constants.FRAMEWORK_EXECUTIONENVIRONMENT;
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2024 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -317,10 +317,22 @@ public class BuildScriptGeneratorTask extends Task {
 		generator.setFilterP2Base(value);
 	}
 
+	public void setManifestCache(boolean cache) {
+		generator.setManifestCache(cache);
+	}
+
 	public void setParallelCompilation(boolean parallel) {
 		generator.setParallel(parallel);
 	}
 
+	public void setParallelDependencySchedule(boolean dependencySchedule) {
+		generator.setDependencySchedule(dependencySchedule);
+	}
+
+	public void setParallelScriptGeneration(boolean parallel) {
+		generator.setParallelScriptGeneration(parallel);
+	}
+
 	public void setParallelThreadCount(String count) {
 		try {
 			generator.setThreadCount(Integer.parseInt(count));
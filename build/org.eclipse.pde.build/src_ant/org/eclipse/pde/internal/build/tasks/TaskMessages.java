@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2010 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -43,6 +43,14 @@ public class TaskMessages extends NLS {
 	public static String error_licenseRootWithoutLicenseRef;
 	public static String error_conflictingProperties;
 
+	public static String error_missingJobName;
+	public static String error_duplicateJob;
+	public static String error_jobFailed;
+	public static String error_jobCycle;
+	public static String error_workQueueInterrupted;
+	public static String info_workQueueSummary;
+	public static String info_workQueueCriticalPath;
+
 	static {
 		// load message values from bundle file
 		NLS.initializeMessages(BUNDLE_NAME, TaskMessages.class);
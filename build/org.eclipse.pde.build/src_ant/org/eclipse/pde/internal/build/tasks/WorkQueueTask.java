@@ -0,0 +1,278 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - dependency ordered parallel compilation
+ *******************************************************************************/
+
+package org.eclipse.pde.internal.build.tasks;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.tools.ant.BuildException;
+import org.apache.tools.ant.Project;
+import org.apache.tools.ant.Task;
+import org.apache.tools.ant.TaskContainer;
+import org.eclipse.osgi.util.NLS;
+import org.eclipse.pde.internal.build.Utils;
+
+/**
+ * Runs jobs of nested tasks on a pool of threads. Unlike <code>parallel</code>
+ * blocks, which have to finish completely before the next block starts, each
+ * job starts as soon as the jobs it depends on are finished. Jobs depending on
+ * a failed job are skipped.
+ * <p>
+ * Once all jobs are done, the task logs the total time spent in the jobs and
+ * the critical path, the longest chain of dependent jobs. The total time
+ * divided by the length of the critical path is the best speedup any number of
+ * threads can achieve.
+ * </p>
+ *
+ * <pre>
+ * &lt;eclipse.workQueue threadsPerProcessor="3"&gt;
+ *     &lt;job name="a"&gt;
+ *         &lt;ant antfile="build.xml" dir="plugins/a" target="build.jars"/&gt;
+ *     &lt;/job&gt;
+ *     &lt;job name="b" depends="a"&gt;
+ *         &lt;ant antfile="build.xml" dir="plugins/b" target="build.jars"/&gt;
+ *     &lt;/job&gt;
+ * &lt;/eclipse.workQueue&gt;
+ * </pre>
+ */
+public class WorkQueueTask extends Task {
+
+	/**
+	 * A named sequence of tasks run by the work queue
+	 */
+	public static class Job implements TaskContainer {
+		private final List<Task> tasks = new ArrayList<>();
+		private final List<Job> dependents = new ArrayList<>();
+		private String name = null;
+		private String depends = null;
+		private List<Job> prerequisites;
+		private int waiting;
+		private long duration;
+		private Throwable failure = null;
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+		/**
+		 * @param depends the comma separated names of the jobs this job depends
+		 *            on, names of jobs that are not part of the work queue are
+		 *            ignored
+		 */
+		public void setDepends(String depends) {
+			this.depends = depends;
+		}
+
+		@Override
+		public void addTask(Task task) {
+			tasks.add(task);
+		}
+
+		Job run() {
+			long start = System.nanoTime();
+			try {
+				for (Task task : tasks) {
+					task.perform();
+				}
+			} catch (RuntimeException | Error e) {
+				failure = e;
+			}
+			duration = System.nanoTime() - start;
+			return this;
+		}
+	}
+
+	private final List<Job> jobs = new ArrayList<>();
+	private int threadCount = 0;
+	private int threadsPerProcessor = 0;
+
+	public Job createJob() {
+		Job job = new Job();
+		jobs.add(job);
+		return job;
+	}
+
+	/**
+	 * @param count the number of threads, ignored if a number of threads per
+	 *            processor is set. Defaults to the number of processors.
+	 */
+	public void setThreadCount(int count) {
+		this.threadCount = count;
+	}
+
+	/**
+	 * @param threads the number of threads per processor
+	 */
+	public void setThreadsPerProcessor(int threads) {
+		this.threadsPerProcessor = threads;
+	}
+
+	@Override
+	public void execute() throws BuildException {
+		Map<String, Job> names = new HashMap<>();
+		for (Job job : jobs) {
+			if (job.name == null) {
+				throw new BuildException(TaskMessages.error_missingJobName, getLocation());
+			}
+			if (names.put(job.name, job) != null) {
+				throw new BuildException(NLS.bind(TaskMessages.error_duplicateJob, job.name), getLocation());
+			}
+			job.dependents.clear();
+			job.failure = null;
+		}
+		List<Job> ready = new ArrayList<>();
+		for (Job job : jobs) {
+			job.prerequisites = new ArrayList<>();
+			if (job.depends != null) {
+				for (String depend : Utils.getArrayFromString(job.depends, ",")) { //$NON-NLS-1$
+					Job prerequisite = names.get(depend);
+					if (prerequisite != null && prerequisite != job && !job.prerequisites.contains(prerequisite)) {
+						job.prerequisites.add(prerequisite);
+						prerequisite.dependents.add(job);
+					}
+				}
+			}
+			job.waiting = job.prerequisites.size();
+			if (job.waiting == 0) {
+				ready.add(job);
+			}
+		}
+
+		int threads = getThreads();
+		long start = System.nanoTime();
+		List<Job> finished = runJobs(ready, Math.min(threads, Math.max(jobs.size(), 1)));
+		long elapsed = System.nanoTime() - start;
+		report(finished, threads, elapsed);
+
+		for (Job job : jobs) {
+			if (job.failure != null) {
+				if (job.failure instanceof BuildException buildException) {
+					throw buildException;
+				}
+				throw new BuildException(job.failure, getLocation());
+			}
+		}
+		if (finished.size() < jobs.size()) {
+			// no job failed, the remaining ones depend on each other
+			List<String> blocked = new ArrayList<>();
+			for (Job job : jobs) {
+				if (job.waiting > 0) {
+					blocked.add(job.name);
+				}
+			}
+			throw new BuildException(NLS.bind(TaskMessages.error_jobCycle, String.join(", ", blocked)), getLocation()); //$NON-NLS-1$
+		}
+	}
+
+	private int getThreads() {
+		int processors = Runtime.getRuntime().availableProcessors();
+		if (threadsPerProcessor > 0) {
+			return processors * threadsPerProcessor;
+		}
+		return threadCount > 0 ? threadCount : processors;
+	}
+
+	/**
+	 * Runs the jobs starting with the given ready ones
+	 *
+	 * @return the jobs that ran, in the order they finished
+	 */
+	private List<Job> runJobs(List<Job> ready, int threads) {
+		List<Job> finished = new ArrayList<>(jobs.size());
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		try {
+			CompletionService<Job> completion = new ExecutorCompletionService<>(executor);
+			int running = 0;
+			for (Job job : ready) {
+				completion.submit(job::run);
+				running++;
+			}
+			while (running > 0) {
+				Job job = completion.take().get();
+				running--;
+				finished.add(job);
+				if (job.failure != null) {
+					log(NLS.bind(TaskMessages.error_jobFailed, job.name), Project.MSG_ERR);
+					continue;
+				}
+				for (Job dependent : job.dependents) {
+					if (--dependent.waiting == 0) {
+						completion.submit(dependent::run);
+						running++;
+					}
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new BuildException(TaskMessages.error_workQueueInterrupted, e, getLocation());
+		} catch (ExecutionException e) {
+			// Job.run() catches everything a task can throw
+			throw new BuildException(e.getCause(), getLocation());
+		} finally {
+			executor.shutdownNow();
+		}
+		return finished;
+	}
+
+	/**
+	 * Logs the total time spent in the jobs and the critical path through the
+	 * jobs that ran
+	 */
+	private void report(List<Job> finished, int threads, long elapsed) {
+		if (finished.isEmpty()) {
+			return;
+		}
+		// jobs finish after their prerequisites, the finishing order is a
+		// topological order
+		Map<Job, Long> pathLengths = new HashMap<>();
+		Map<Job, Job> predecessors = new HashMap<>();
+		long total = 0;
+		Job last = null;
+		for (Job job : finished) {
+			total += job.duration;
+			long longest = 0;
+			for (Job prerequisite : job.prerequisites) {
+				Long length = pathLengths.get(prerequisite);
+				if (length != null && length.longValue() > longest) {
+					longest = length.longValue();
+					predecessors.put(job, prerequisite);
+				}
+			}
+			pathLengths.put(job, Long.valueOf(longest + job.duration));
+			if (last == null || longest + job.duration > pathLengths.get(last).longValue()) {
+				last = job;
+			}
+		}
+		List<String> path = new ArrayList<>();
+		for (Job job = last; job != null; job = predecessors.get(job)) {
+			path.add(0, job.name);
+		}
+		long critical = Math.max(pathLengths.get(last).longValue(), 1);
+		log(NLS.bind(TaskMessages.info_workQueueSummary, new Object[] {Integer.valueOf(finished.size()), Integer.valueOf(threads), millis(elapsed), millis(total)}));
+		log(NLS.bind(TaskMessages.info_workQueueCriticalPath, new Object[] {millis(critical), Integer.valueOf(path.size()), String.format("%.1f", Double.valueOf((double) total / critical)), String.join(" > ", path)})); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	private static String millis(long nanos) {
+		return Long.toString(TimeUnit.NANOSECONDS.toMillis(nanos));
+	}
+}
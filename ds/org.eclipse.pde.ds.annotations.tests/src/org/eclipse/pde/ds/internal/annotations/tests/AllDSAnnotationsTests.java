@@ -38,6 +38,8 @@ import org.osgi.framework.Bundle;
 	FullComponentTest.class,
 	ExtendedReferenceMethodComponentTest.class,
 	ExtendedLifeCycleMethodComponentTest.class,
+	FastProcessingTest.class,
+	IncrementalBuildTest.class,
 })
 public class AllDSAnnotationsTests {
 
@@ -0,0 +1,95 @@
+package org.eclipse.pde.ds.internal.annotations.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assume.assumeTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IFolder;
+import org.eclipse.core.resources.IMarker;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IncrementalProjectBuilder;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.pde.ds.internal.annotations.DSAnnotationCompilationParticipant;
+import org.junit.Test;
+
+/**
+ * Checks that the fast processing path generates the same component
+ * descriptors and problems as parsing every compilation unit with method
+ * bodies.
+ */
+public class FastProcessingTest extends TestBase {
+
+	@Test
+	public void sameDescriptorsAsFullProcessing() throws Exception {
+		assertSameOutput("ds.annotations.test1");
+	}
+
+	@Test
+	public void sameProblemsAsFullProcessing() throws Exception {
+		assertSameOutput("ds.annotations.test2");
+	}
+
+	private void assertSameOutput(String projectName) throws Exception {
+		IProject project = ResourcesPlugin.getWorkspace().getRoot().getProject(projectName);
+		assumeTrue("Test project does not exist!", project.exists());
+
+		boolean fastProcessing = DSAnnotationCompilationParticipant.isFastProcessing();
+		try {
+			DSAnnotationCompilationParticipant.setFastProcessing(true);
+			Map<String, String> fast = rebuild(project);
+			assertFalse(fast.isEmpty());
+
+			DSAnnotationCompilationParticipant.setFastProcessing(false);
+			Map<String, String> full = rebuild(project);
+			assertEquals(full, fast);
+		} finally {
+			DSAnnotationCompilationParticipant.setFastProcessing(fastProcessing);
+			rebuild(project);
+		}
+	}
+
+	private static Map<String, String> rebuild(IProject project) throws Exception {
+		IFolder osgiInf = project.getFolder("OSGI-INF");
+		if (osgiInf.exists()) {
+			for (IResource member : osgiInf.members()) {
+				if (member instanceof IFile && "xml".equals(member.getFileExtension())) {
+					member.delete(true, null);
+				}
+			}
+		}
+
+		project.build(IncrementalProjectBuilder.CLEAN_BUILD, null);
+		project.build(IncrementalProjectBuilder.FULL_BUILD, null);
+		return snapshot(project);
+	}
+
+	private static Map<String, String> snapshot(IProject project) throws CoreException, IOException {
+		TreeMap<String, String> output = new TreeMap<>();
+		IFolder osgiInf = project.getFolder("OSGI-INF");
+		if (osgiInf.exists()) {
+			for (IResource member : osgiInf.members()) {
+				if (member instanceof IFile file && "xml".equals(file.getFileExtension())) {
+					try (InputStream in = file.getContents()) {
+						output.put(file.getName(), new String(in.readAllBytes(), StandardCharsets.UTF_8));
+					}
+				}
+			}
+		}
+
+		for (IMarker marker : project.findMarkers(DS_PROBLEM_MARKER, true, IResource.DEPTH_INFINITE)) {
+			String key = marker.getResource().getProjectRelativePath() + ":" + marker.getAttribute(IMarker.CHAR_START, -1) + ":" + marker.getAttribute(IMarker.MESSAGE, "");
+			output.merge(key, "1", (a, b) -> String.valueOf(Integer.parseInt(a) + Integer.parseInt(b)));
+		}
+
+		return output;
+	}
+}
@@ -0,0 +1,77 @@
+package org.eclipse.pde.ds.internal.annotations.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IResourceChangeEvent;
+import org.eclipse.core.resources.IResourceChangeListener;
+import org.eclipse.core.resources.IResourceDelta;
+import org.eclipse.core.resources.IWorkspace;
+import org.eclipse.core.resources.IncrementalProjectBuilder;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.junit.Test;
+
+public class IncrementalBuildTest extends CompilationParticipantTest {
+
+	@Override
+	protected String getTestProjectName() {
+		return "ds.annotations.test1";
+	}
+
+	@Test
+	public void unchangedComponentsNotRewritten() throws Exception {
+		IWorkspace workspace = ResourcesPlugin.getWorkspace();
+		// let the project files settle
+		testProject.build(IncrementalProjectBuilder.FULL_BUILD, null);
+
+		List<String> changed = Collections.synchronizedList(new ArrayList<>());
+		IResourceChangeListener listener = event -> {
+			try {
+				event.getDelta().accept(delta -> {
+					if (delta.getResource().getType() == IResource.FILE && (delta.getFlags() & IResourceDelta.CONTENT) != 0) {
+						changed.add(delta.getResource().getProjectRelativePath().toString());
+					}
+
+					return true;
+				});
+			} catch (CoreException e) {
+				throw new RuntimeException(e);
+			}
+		};
+
+		workspace.addResourceChangeListener(listener, IResourceChangeEvent.POST_CHANGE);
+		try {
+			// touch every component source without changing it
+			IResource[] sources = testProject.getFolder("src/ds/annotations/test1").members();
+			for (IResource source : sources) {
+				IFile file = (IFile) source;
+				byte[] content;
+				try (InputStream in = file.getContents()) {
+					content = in.readAllBytes();
+				}
+
+				file.setContents(content, true, false, null);
+			}
+
+			testProject.build(IncrementalProjectBuilder.INCREMENTAL_BUILD, null);
+		} finally {
+			workspace.removeResourceChangeListener(listener);
+		}
+
+		List<String> generated = changed.stream().filter(path -> !path.startsWith("src/") && !path.startsWith("bin/")).toList();
+		assertTrue(sources(changed) > 0);
+		assertEquals(List.of(), generated);
+	}
+
+	private static long sources(List<String> changed) {
+		return changed.stream().filter(path -> path.startsWith("src/")).count();
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2017, 2018 Ecliptical Software Inc. and others.
+ * Copyright (c) 2017, 2026 Ecliptical Software Inc. and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -426,7 +426,13 @@ public class AnnotationVisitor extends ASTVisitor {
 					return new TextEdit[0];
 				}
 
+				// setting attributes to their current values also fires events;
+				// only touch the file if the generated content really differs
 				String text = dsModel.getContents();
+				if (text.equals(document.get())) {
+					return new TextEdit[0];
+				}
+
 				ReplaceEdit edit = new ReplaceEdit(0, document.getLength(), text);
 				return new TextEdit[] { edit };
 			}
@@ -441,6 +447,10 @@ public class AnnotationVisitor extends ASTVisitor {
 			processComponent(dsModel, type, typeBinding, annotation, annotationBinding, params, name, implClass);
 
 			TextEdit[] edits = dsModel.getLastTextChangeListener().getTextOperations();
+			if (edits.length == 0 && debug.isDebugging()) {
+				debug.trace(String.format("Model unchanged: %s", file.getFullPath())); //$NON-NLS-1$
+			}
+
 			if (edits.length > 0) {
 				if (debug.isDebugging()) {
 					debug.trace(String.format("Saving model: %s", file.getFullPath())); //$NON-NLS-1$
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2021 Ecliptical Software Inc. and others.
+ * Copyright (c) 2012, 2026 Ecliptical Software Inc. and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -19,14 +19,19 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.lang.ref.SoftReference;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.HexFormat;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.Map;
@@ -58,12 +63,14 @@ import org.eclipse.jdt.core.IClasspathEntry;
 import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.IJavaElement;
 import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IMember;
 import org.eclipse.jdt.core.IPackageFragment;
 import org.eclipse.jdt.core.IPackageFragmentRoot;
 import org.eclipse.jdt.core.IType;
 import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.core.JavaModelException;
 import org.eclipse.jdt.core.compiler.BuildContext;
+import org.eclipse.jdt.core.compiler.CharOperation;
 import org.eclipse.jdt.core.compiler.CompilationParticipant;
 import org.eclipse.jdt.core.dom.AST;
 import org.eclipse.jdt.core.dom.ASTParser;
@@ -106,6 +113,12 @@ public class DSAnnotationCompilationParticipant extends CompilationParticipant {
 
 	private static final Debug debug = Debug.getDebug("ds-annotation-builder"); //$NON-NLS-1$
 
+	private static final char[] COMPONENT_NAME = "Component".toCharArray(); //$NON-NLS-1$
+
+	private static final char[] UNICODE_ESCAPE = "\\u".toCharArray(); //$NON-NLS-1$
+
+	private static volatile boolean fastProcessing = !"false".equals(System.getProperty("org.eclipse.pde.ds.annotations.fastProcessing")); //$NON-NLS-1$ //$NON-NLS-2$
+
 	private final Map<IJavaProject, ProjectContext> processingContext = Collections.synchronizedMap(new HashMap<IJavaProject, ProjectContext>());
 
 	@Override
@@ -377,14 +390,6 @@ public class DSAnnotationCompilationParticipant extends CompilationParticipant {
 				Activator.log(e);
 			}
 
-			if (projectContext.isChanged()) {
-				try {
-					saveState(project.getProject(), state);
-				} catch (IOException e) {
-					Activator.log(Status.error("Error saving file mappings.", e)); //$NON-NLS-1$
-				}
-			}
-
 			// delete all abandoned files
 			ArrayList<IStatus> deleteStatuses = new ArrayList<>(2);
 			for (String dsKey : abandoned) {
@@ -409,7 +414,25 @@ public class DSAnnotationCompilationParticipant extends CompilationParticipant {
 			}
 
 			if (!retained.isEmpty() || !abandoned.isEmpty()) {
-				updateProject(project.getProject(), retained, abandoned);
+				// skip opening the manifest and build.properties models if neither
+				// they nor the generated files changed since they were last updated
+				String hash = abandoned.isEmpty() ? hashProjectFiles(project.getProject(), retained) : null;
+				if (hash != null && hash.equals(state.getProjectFilesHash())) {
+					if (debug.isDebugging()) {
+						debug.trace(String.format("Manifest and build.properties up to date for project: %s", project.getElementName())); //$NON-NLS-1$
+					}
+				} else {
+					updateProject(project.getProject(), retained, abandoned);
+					state.setProjectFilesHash(hashProjectFiles(project.getProject(), retained));
+				}
+			}
+
+			if (projectContext.isChanged()) {
+				try {
+					saveState(project.getProject(), state);
+				} catch (IOException e) {
+					Activator.log(Status.error("Error saving file mappings.", e)); //$NON-NLS-1$
+				}
 			}
 		}
 
@@ -454,6 +477,45 @@ public class DSAnnotationCompilationParticipant extends CompilationParticipant {
 		}
 	}
 
+	/**
+	 * Hashes the paths of the generated files together with the content of the
+	 * project files that reference them.
+	 *
+	 * @return the hash, or <code>null</code> if the files could not be read
+	 */
+	private static String hashProjectFiles(IProject project, Collection<String> retained) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256"); //$NON-NLS-1$
+			Iterator<String> iterator = retained.stream().sorted().iterator();
+			while (iterator.hasNext()) {
+				digest.update(iterator.next().getBytes(StandardCharsets.UTF_8));
+				digest.update((byte) 0);
+			}
+
+			boolean generateBAPL = Platform.getPreferencesService().getBoolean(Activator.PLUGIN_ID,
+					Activator.PREF_GENERATE_BAPL, true,
+					new IScopeContext[] { new ProjectScope(project), InstanceScope.INSTANCE });
+			digest.update((byte) (generateBAPL ? 1 : 0));
+
+			for (IFile file : new IFile[] { PDEProject.getManifest(project), PDEProject.getBuildProperties(project) }) {
+				digest.update((byte) 0);
+				if (file.exists()) {
+					try (InputStream in = file.getContents(true)) {
+						digest.update(in.readAllBytes());
+					}
+				}
+			}
+
+			return HexFormat.of().formatHex(digest.digest());
+		} catch (NoSuchAlgorithmException | CoreException | IOException e) {
+			if (debug.isDebugging()) {
+				debug.trace(String.format("Unable to hash project files of %s", project.getName()), e); //$NON-NLS-1$
+			}
+
+			return null;
+		}
+	}
+
 	private void updateProject(IProject project, final Collection<String> retained, final Collection<String> abandoned) {
 		PDEModelUtility.modifyModel(new ModelModification(project) {
 			@Override
@@ -641,7 +703,7 @@ public class DSAnnotationCompilationParticipant extends CompilationParticipant {
 				continue;
 			}
 
-			if (canSkipFile(cu)) {
+			if ((fastProcessing && !mayContainComponent(file.getContents())) || canSkipFile(cu)) {
 				markAsAbandoned(cu);
 				continue;
 			}
@@ -665,6 +727,19 @@ public class DSAnnotationCompilationParticipant extends CompilationParticipant {
 		}
 	}
 
+	/**
+	 * Checks the source of a compilation unit for the name of the component
+	 * annotation, which is much cheaper than looking for the annotation in the
+	 * Java model.
+	 */
+	private static boolean mayContainComponent(char[] contents) {
+		if (contents == null || contents.length == 0) {
+			return true;
+		}
+
+		return CharOperation.indexOf(COMPONENT_NAME, contents, true) >= 0 || CharOperation.indexOf(UNICODE_ESCAPE, contents, true) >= 0;
+	}
+
 	public boolean canSkipFile(ICompilationUnit cu) {
 		IType primaryType = cu.findPrimaryType();
 		if (primaryType == null) {
@@ -679,17 +754,54 @@ public class DSAnnotationCompilationParticipant extends CompilationParticipant {
 	}
 
 	private boolean containsComponent(IType type) throws JavaModelException {
+		if (hasComponentAnnotation(type)) {
+			return true;
+		}
 
+		for (IJavaElement child : type.getChildren()) {
+			if ((child instanceof IType) && containsComponent((IType) child)) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	private boolean hasComponentAnnotation(IType type) {
 		IAnnotation annotationWithImport = type.getAnnotation("Component"); //$NON-NLS-1$
 		IAnnotation fullyQualifiedAnnotation = type.getAnnotation(COMPONENT_ANNOTATION);
 
-		boolean hasComponentAnnotation = annotationWithImport.exists() || fullyQualifiedAnnotation.exists();
-		if (hasComponentAnnotation) {
+		return annotationWithImport.exists() || fullyQualifiedAnnotation.exists();
+	}
+
+	/**
+	 * Method bodies are only visited to report component annotations on types
+	 * declared in them, i.e. local types and the member types of local or
+	 * anonymous types. The Java model of the compilation unit is already open
+	 * at this point and lists these types.
+	 */
+	private boolean needsMethodBodies(ICompilationUnit cu) {
+		try {
+			for (IType type : cu.getTypes()) {
+				if (containsLocalComponent(type, false)) {
+					return true;
+				}
+			}
+
+			return false;
+		} catch (JavaModelException e) {
+			return true;
+		}
+	}
+
+	private boolean containsLocalComponent(IMember member, boolean local) throws JavaModelException {
+		if (local && member instanceof IType type && hasComponentAnnotation(type)) {
 			return true;
 		}
 
-		for (IJavaElement child : type.getChildren()) {
-			if ((child instanceof IType) && containsComponent((IType) child)) {
+		for (IJavaElement child : member.getChildren()) {
+			if (child instanceof IMember childMember
+					&& containsLocalComponent(childMember, local || !(member instanceof IType) || !(child instanceof IType))) {
 				return true;
 			}
 		}
@@ -697,6 +809,26 @@ public class DSAnnotationCompilationParticipant extends CompilationParticipant {
 		return false;
 	}
 
+	/**
+	 * Enables or disables the faster processing path, which skips compilation
+	 * units whose source does not mention the component annotation without
+	 * opening their Java model and does not parse method bodies unless
+	 * components may be declared in them. Both paths generate the same
+	 * component descriptors and problems. Enabled by default, it can be
+	 * disabled by setting the system property
+	 * <code>org.eclipse.pde.ds.annotations.fastProcessing</code> to
+	 * <code>false</code>.
+	 *
+	 * @param enabled whether to use the faster processing path
+	 */
+	public static void setFastProcessing(boolean enabled) {
+		fastProcessing = enabled;
+	}
+
+	public static boolean isFastProcessing() {
+		return fastProcessing;
+	}
+
 	public void markAsAbandoned(ICompilationUnit cu) {
 		ProjectContext projectContext = processingContext.get(cu.getJavaProject());
 
@@ -712,19 +844,44 @@ public class DSAnnotationCompilationParticipant extends CompilationParticipant {
 	}
 
 	private void processAnnotations(IJavaProject javaProject, Map<ICompilationUnit, BuildContext> fileMap) {
+		ProjectContext projectContext = processingContext.get(javaProject);
+		ProjectState state = projectContext.getState();
+		AnnotationProcessor processor = new AnnotationProcessor(projectContext, fileMap);
+
+		boolean ignoreErrors = state.getErrorLevel() == ValidationErrorLevel.ignore;
+		if (!fastProcessing || ignoreErrors) {
+			createASTs(javaProject, fileMap.keySet(), ignoreErrors, processor);
+			return;
+		}
+
+		ArrayList<ICompilationUnit> declarations = new ArrayList<>(fileMap.size());
+		ArrayList<ICompilationUnit> bodies = new ArrayList<>();
+		for (ICompilationUnit cu : fileMap.keySet()) {
+			(needsMethodBodies(cu) ? bodies : declarations).add(cu);
+		}
+
+		if (debug.isDebugging()) {
+			debug.trace(String.format("Parsing %d compilation units without and %d with method bodies.", declarations.size(), bodies.size())); //$NON-NLS-1$
+		}
+
+		createASTs(javaProject, declarations, true, processor);
+		createASTs(javaProject, bodies, false, processor);
+	}
+
+	private void createASTs(IJavaProject javaProject, Collection<ICompilationUnit> cus, boolean ignoreMethodBodies, AnnotationProcessor processor) {
+		if (cus.isEmpty()) {
+			return;
+		}
+
 		ASTParser parser = ASTParser.newParser(AST.getJLSLatest());
 		parser.setResolveBindings(true);
 		parser.setBindingsRecovery(true);
 		parser.setProject(javaProject);
 		parser.setKind(ASTParser.K_COMPILATION_UNIT);
+		parser.setIgnoreMethodBodies(ignoreMethodBodies);
 
-		ProjectContext projectContext = processingContext.get(javaProject);
-		ProjectState state = projectContext.getState();
-
-		parser.setIgnoreMethodBodies(state.getErrorLevel() == ValidationErrorLevel.ignore);
-
-		ICompilationUnit[] cuArr = fileMap.keySet().toArray(new ICompilationUnit[fileMap.size()]);
-		parser.createASTs(cuArr, new String[0], new AnnotationProcessor(projectContext, fileMap), null);
+		ICompilationUnit[] cuArr = cus.toArray(new ICompilationUnit[cus.size()]);
+		parser.createASTs(cuArr, new String[0], processor, null);
 	}
 
 	public static boolean isManaged(IProject project) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2017 Ecliptical Software Inc. and others.
+ * Copyright (c) 2012, 2026 Ecliptical Software Inc. and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -48,6 +48,9 @@ public class ProjectState implements Serializable, Cloneable {
 	// fully-qualified component type to plugin-root-relative (portable) path of corresponding generated DS file
 	private Map<String, String> files;
 
+	// hash of the generated DS file paths and the manifest and build.properties content they were last registered in
+	private String projectFilesHash;
+
 	// (de)serialized state file format version
 	private int formatVersion = FORMAT_VERSION;
 
@@ -133,6 +136,14 @@ public class ProjectState implements Serializable, Cloneable {
 		return oldDSKeys;
 	}
 
+	public String getProjectFilesHash() {
+		return projectFilesHash;
+	}
+
+	public void setProjectFilesHash(String projectFilesHash) {
+		this.projectFilesHash = projectFilesHash;
+	}
+
 	public String getPath() {
 		return path;
 	}
@@ -227,7 +238,8 @@ public class ProjectState implements Serializable, Cloneable {
 				&& missingUnbindMethodLevel == o.missingUnbindMethodLevel
 				&& mappings.equals(o.mappings)
 				&& (files == null ? o.files == null : files.equals(o.files))
-				&& (types == null ? o.types == null : types.equals(o.types));
+				&& (types == null ? o.types == null : types.equals(o.types))
+				&& (projectFilesHash == null ? o.projectFilesHash == null : projectFilesHash.equals(o.projectFilesHash));
 	}
 
 	@Override
@@ -236,7 +248,8 @@ public class ProjectState implements Serializable, Cloneable {
 		buf.append(path).append(";mappings="); //$NON-NLS-1$
 		buf.append(mappings).append(";types="); //$NON-NLS-1$
 		buf.append(types).append(";files="); //$NON-NLS-1$
-		buf.append(files).append(";errorLevel="); //$NON-NLS-1$
+		buf.append(files).append(";projectFilesHash="); //$NON-NLS-1$
+		buf.append(projectFilesHash).append(";errorLevel="); //$NON-NLS-1$
 		buf.append(specVersion).append(";specVersion="); //$NON-NLS-1$
 		buf.append(errorLevel).append(";missingUnbindMethodLevel="); //$NON-NLS-1$
 		buf.append(missingUnbindMethodLevel).append(";formatVersion="); //$NON-NLS-1$
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2022 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,10 +13,17 @@
  *******************************************************************************/
 package org.eclipse.pde.internal.core;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Dictionary;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
 import java.util.Set;
 
 import org.eclipse.core.resources.IWorkspaceRunnable;
@@ -26,7 +33,9 @@ import org.eclipse.core.runtime.MultiStatus;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.osgi.service.resolver.BundleDescription;
+import org.eclipse.osgi.service.resolver.HostSpecification;
 import org.eclipse.osgi.service.resolver.State;
+import org.eclipse.osgi.service.resolver.StateDelta;
 import org.eclipse.osgi.service.resolver.StateObjectFactory;
 import org.eclipse.osgi.util.NLS;
 import org.eclipse.pde.core.plugin.IPluginModelBase;
@@ -36,10 +45,43 @@ public class BundleValidationOperation implements IWorkspaceRunnable {
 
 	private static StateObjectFactory FACTORY;
 
+	/**
+	 * The state of the last validation and the copies of the bundle
+	 * descriptions it was created from, keyed by bundle id. The cache is only
+	 * valid for the generation of the PDE state it was created in: bundle ids
+	 * are stable within a generation, and a new generation starts whenever the
+	 * PDE state changes.
+	 */
+	private static final class ValidationCache {
+		final Dictionary<String, String>[] properties;
+		final int generation;
+		final State state;
+		final Map<Long, BundleDescription> copies = new HashMap<>();
+
+		ValidationCache(Dictionary<String, String>[] properties, int generation, State state) {
+			this.properties = properties;
+			this.generation = generation;
+			this.state = state;
+		}
+	}
+
+	private static ValidationCache fgCache;
+
+	/**
+	 * Increased whenever the PDE state changes, guarded by the class
+	 */
+	private static int fgGeneration;
+
+	private static IStateDeltaListener fgStateListener;
+
 	private final Set<IPluginModelBase> fModels;
 	private final Dictionary<String, String>[] fProperties;
 	private State fState;
 
+	// results of this validation, computed while holding the cache
+	private Map<Object, Object[]> fResolverErrors = Map.of();
+	private Set<String> fSymbolicNames = Set.of();
+
 	@SuppressWarnings("unchecked")
 	public BundleValidationOperation(Set<IPluginModelBase> models) {
 		this(models, new Dictionary[] { TargetPlatformHelper.getTargetEnvironment() });
@@ -50,34 +92,160 @@ public class BundleValidationOperation implements IWorkspaceRunnable {
 		fProperties = properties;
 	}
 
+	/**
+	 * Resolves the bundles of the models. The state of the last validation is
+	 * reused if it was resolved with the same platform properties and the PDE
+	 * state did not change since: only the bundles added to or removed from
+	 * the selection are resolved again. The results are recorded before the
+	 * state is released to the next validation.
+	 */
 	@Override
 	public void run(IProgressMonitor monitor) throws CoreException {
 		if (FACTORY == null) {
 			FACTORY = BundleHelper.getPlatformAdmin().getFactory();
 		}
 		SubMonitor subMonitor = SubMonitor.convert(monitor, fModels.size() + 1);
-		fState = FACTORY.createState(true);
+		Map<Long, BundleDescription> originals = new LinkedHashMap<>();
 		for (IPluginModelBase fModel : fModels) {
 			BundleDescription bundle = fModel.getBundleDescription();
 			if (bundle != null) {
-				fState.addBundle(FACTORY.createBundleDescription(bundle));
+				originals.put(bundle.getBundleId(), bundle);
+			}
+		}
+		synchronized (BundleValidationOperation.class) {
+			addStateListener();
+			ValidationCache cache = fgCache;
+			if (cache == null || cache.generation != fgGeneration || !Arrays.equals(cache.properties, fProperties)) {
+				cache = new ValidationCache(fProperties, fgGeneration, FACTORY.createState(true));
+				for (BundleDescription bundle : originals.values()) {
+					cache.copies.put(bundle.getBundleId(), addCopy(cache.state, bundle));
+					subMonitor.split(1);
+				}
+				cache.state.setPlatformProperties(fProperties);
+				cache.state.resolve(false);
+				fgCache = cache;
+			} else {
+				update(cache, originals, subMonitor);
+			}
+			fState = cache.state;
+			fResolverErrors = computeResolverErrors(fState);
+			fSymbolicNames = new HashSet<>();
+			for (BundleDescription bundle : fState.getBundles()) {
+				fSymbolicNames.add(bundle.getSymbolicName());
 			}
-			subMonitor.split(1);
 		}
-		fState.setPlatformProperties(fProperties);
-		fState.resolve(false);
 		subMonitor.split(1);
 	}
 
-	public Map<Object, Object[]> getResolverErrors() {
+	/**
+	 * Brings the state of the cache in line with the given bundles and
+	 * resolves the delta.
+	 */
+	private static void update(ValidationCache cache, Map<Long, BundleDescription> bundles, SubMonitor subMonitor) {
+		State state = cache.state;
+		boolean removed = false;
+		for (Iterator<Entry<Long, BundleDescription>> iterator = cache.copies.entrySet().iterator(); iterator.hasNext();) {
+			Entry<Long, BundleDescription> entry = iterator.next();
+			if (!isCopyOf(entry.getValue(), bundles.get(entry.getKey()))) {
+				state.removeBundle(entry.getValue());
+				iterator.remove();
+				removed = true;
+			}
+		}
+		List<BundleDescription> reResolve = new ArrayList<>();
+		for (BundleDescription bundle : bundles.values()) {
+			if (!cache.copies.containsKey(bundle.getBundleId())) {
+				BundleDescription copy = addCopy(state, bundle);
+				cache.copies.put(bundle.getBundleId(), copy);
+				reResolve.add(copy);
+			}
+			subMonitor.split(1);
+		}
+		if (!removed && reResolve.isEmpty()) {
+			return;
+		}
+		// added bundles may compete with resolved singletons of the same name
+		// or attach to resolved hosts, so those are resolved again as well
+		Set<String> names = new HashSet<>();
+		for (BundleDescription copy : reResolve) {
+			names.add(copy.getSymbolicName());
+			HostSpecification host = copy.getHost();
+			if (host != null) {
+				names.add(host.getName());
+			}
+		}
+		for (BundleDescription copy : state.getBundles()) {
+			if (copy.isResolved() && names.contains(copy.getSymbolicName())) {
+				reResolve.add(copy);
+			}
+		}
+		state.resolve(reResolve.toArray(new BundleDescription[reResolve.size()]));
+	}
+
+	private static boolean isCopyOf(BundleDescription copy, BundleDescription original) {
+		return original != null && Objects.equals(copy.getSymbolicName(), original.getSymbolicName())
+				&& Objects.equals(copy.getVersion(), original.getVersion())
+				&& Objects.equals(copy.getLocation(), original.getLocation());
+	}
+
+	private static BundleDescription addCopy(State state, BundleDescription bundle) {
+		BundleDescription copy = FACTORY.createBundleDescription(bundle);
+		state.addBundle(copy);
+		return copy;
+	}
+
+	/**
+	 * Starts a new generation whenever the PDE state changes, must be called
+	 * while holding the class lock
+	 */
+	private static void addStateListener() {
+		if (fgStateListener != null) {
+			return;
+		}
+		fgStateListener = new IStateDeltaListener() {
+			@Override
+			public void stateResolved(StateDelta delta) {
+				clearCache();
+			}
+
+			@Override
+			public void stateChanged(State newState) {
+				clearCache();
+			}
+		};
+		PDECore.getDefault().getModelManager().addStateDeltaListener(fgStateListener);
+	}
+
+	/**
+	 * Discards the state of the last validation so the next one resolves all
+	 * bundles from scratch.
+	 */
+	public static synchronized void clearCache() {
+		fgCache = null;
+		fgGeneration++;
+	}
+
+	/**
+	 * Unregisters the state listener and discards the state of the last
+	 * validation. Called when PDE Core is stopped.
+	 */
+	public static synchronized void shutdown() {
+		if (fgStateListener != null) {
+			PDECore.getDefault().getModelManager().removeStateDeltaListener(fgStateListener);
+			fgStateListener = null;
+		}
+		clearCache();
+	}
+
+	private static Map<Object, Object[]> computeResolverErrors(State state) {
 		Set<String> alreadyDuplicated = new HashSet<>();
 		Map<Object, Object[]> map = new LinkedHashMap<>();
-		BundleDescription[] bundles = fState.getBundles();
+		BundleDescription[] bundles = state.getBundles();
 		for (BundleDescription bundle : bundles) {
 			if (!bundle.isResolved()) {
-				map.put(bundle, fState.getResolverErrors(bundle));
+				map.put(bundle, state.getResolverErrors(bundle));
 			} else if (bundle.isSingleton() && !alreadyDuplicated.contains(bundle.getSymbolicName())) {
-				BundleDescription[] dups = fState.getBundles(bundle.getSymbolicName());
+				BundleDescription[] dups = state.getBundles(bundle.getSymbolicName());
 				if (dups.length > 1) {
 					// more than 1 singleton present
 					alreadyDuplicated.add(bundle.getSymbolicName());
@@ -92,26 +260,38 @@ public class BundleValidationOperation implements IWorkspaceRunnable {
 		return map;
 	}
 
+	public Map<Object, Object[]> getResolverErrors() {
+		return new LinkedHashMap<>(fResolverErrors);
+	}
+
+	/**
+	 * Returns the state the bundles were resolved in. The state is shared with
+	 * later validations which may change it, use {@link #getResolverErrors()},
+	 * {@link #hasErrors()}, {@link #hasBundle(String)} and {@link #isEmpty()}
+	 * for the results of this validation.
+	 *
+	 * @return the resolved state
+	 */
 	public State getState() {
 		return fState;
 	}
 
 	public boolean hasErrors() {
-		if (fState.getHighestBundleId() > -1) {
-			BundleDescription[] bundles = fState.getBundles();
-			for (BundleDescription bundle : bundles) {
-				if (!bundle.isResolved()) {
-					return true;
-				} else if (bundle.isSingleton()) {
-					BundleDescription[] dups = fState.getBundles(bundle.getSymbolicName());
-					if (dups.length > 1) {
-						// more than one singleton
-						return true;
-					}
-				}
-			}
-		}
-		return false;
+		return !fResolverErrors.isEmpty();
+	}
+
+	/**
+	 * @return whether a bundle with the given symbolic name was validated
+	 */
+	public boolean hasBundle(String symbolicName) {
+		return fSymbolicNames.contains(symbolicName);
+	}
+
+	/**
+	 * @return whether no bundles were validated
+	 */
+	public boolean isEmpty() {
+		return fSymbolicNames.isEmpty();
 	}
 
 }
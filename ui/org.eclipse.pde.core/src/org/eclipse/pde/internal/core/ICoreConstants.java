@@ -352,6 +352,12 @@ public interface ICoreConstants {
 	 * build as background job
 	 */
 	String RUN_API_ANALYSIS_AS_JOB = "Preferences.MainPage.runAPIAnalysisAsJob";//$NON-NLS-1$
+	/**
+	 * Integer preference for the maximum number of projects analyzed at the
+	 * same time when API analysis runs as background job. A value
+	 * <code>&lt;= 0</code> uses the number of available processors.
+	 */
+	String API_ANALYSIS_PARALLELISM = "Preferences.MainPage.apiAnalysisParallelism";//$NON-NLS-1$
 	/**
 	 * Boolean preference whether add
 	 * '-Dorg.eclipse.swt.graphics.Resource.reportNonDisposed=true' to VM
@@ -359,6 +365,16 @@ public interface ICoreConstants {
 	 */
 	String ADD_SWT_NON_DISPOSAL_REPORTING = "Preferences.MainPage.addSwtNonDisposalReporting ";//$NON-NLS-1$
 
+	/**
+	 * Integer preference for the maximum number of threads used to read the
+	 * bundle manifests when the target platform state is created. A value
+	 * <code>&lt;= 0</code> uses the number of available processors, a value of
+	 * <code>1</code> reads all manifests in the calling thread. The loader
+	 * threads are shared by all target states and never exceed the number of
+	 * available processors.
+	 */
+	String TARGET_LOAD_PARALLELISM = "Preferences.MainPage.targetLoadParallelism";//$NON-NLS-1$
+
 	/**
 	 * Explicit preference value for {@link #WORKSPACE_TARGET_HANDLE} when the user chooses no
 	 * target for the workspace (no external bundles).
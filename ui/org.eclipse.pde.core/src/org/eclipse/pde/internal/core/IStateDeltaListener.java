@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2007, 2008 IBM Corporation and others.
+ *  Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -13,6 +13,8 @@
  *******************************************************************************/
 package org.eclipse.pde.internal.core;
 
+import java.util.Set;
+
 import org.eclipse.osgi.service.resolver.State;
 import org.eclipse.osgi.service.resolver.StateDelta;
 
@@ -20,4 +22,17 @@ public interface IStateDeltaListener {
 	public void stateResolved(StateDelta delta);
 
 	public void stateChanged(State newState);
+
+	/**
+	 * Called instead of {@link #stateChanged(State)} when the target platform
+	 * changed but only the given workspace projects are wired differently in
+	 * the new state. Listeners that don't care about the projects get the
+	 * general notification.
+	 *
+	 * @param newState the new state
+	 * @param rewiredProjects names of the projects whose resolved wiring changed
+	 */
+	public default void stateChanged(State newState, Set<String> rewiredProjects) {
+		stateChanged(newState);
+	}
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2025 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -47,8 +47,10 @@ import org.eclipse.pde.internal.core.builders.FeatureRebuilder;
 import org.eclipse.pde.internal.core.builders.PluginRebuilder;
 import org.eclipse.pde.internal.core.project.BundleProjectService;
 import org.eclipse.pde.internal.core.schema.SchemaRegistry;
+import org.eclipse.pde.internal.core.search.PluginSearchIndex;
 import org.eclipse.pde.internal.core.target.P2TargetUtils;
 import org.eclipse.pde.internal.core.target.TargetPlatformService;
+import org.eclipse.pde.internal.core.util.ZipFilePool;
 import org.osgi.framework.BundleContext;
 import org.osgi.framework.Constants;
 import org.osgi.framework.FrameworkUtil;
@@ -178,6 +180,7 @@ public class PDECore extends Plugin implements DebugOptionsListener {
 	private SourceLocationManager fSourceLocationManager;
 	private JavadocLocationManager fJavadocLocationManager;
 	private SearchablePluginsManager fSearchablePluginsManager;
+	private PluginSearchIndex fPluginSearchIndex;
 	private ClasspathContainerResolverManager fClasspathContainerResolverManager;
 
 	// Tracing options manager
@@ -304,7 +307,7 @@ public class PDECore extends Plugin implements DebugOptionsListener {
 
 	public synchronized TracingOptionsManager getTracingOptionsManager() {
 		if (fTracingOptionsManager == null) {
-			fTracingOptionsManager = new TracingOptionsManager();
+			fTracingOptionsManager = new TracingOptionsManager(getStateLocation().append(".tracingOptions").toFile()); //$NON-NLS-1$
 		}
 		return fTracingOptionsManager;
 	}
@@ -316,6 +319,14 @@ public class PDECore extends Plugin implements DebugOptionsListener {
 		return fSearchablePluginsManager;
 	}
 
+	public synchronized PluginSearchIndex getPluginSearchIndex() {
+		if (fPluginSearchIndex == null) {
+			fPluginSearchIndex = new PluginSearchIndex(getStateLocation().append(".pluginSearchIndex").toFile()); //$NON-NLS-1$
+			getModelManager().addPluginModelListener(fPluginSearchIndex);
+		}
+		return fPluginSearchIndex;
+	}
+
 	public boolean areModelsInitialized() {
 		return getModelManager().isInitialized();
 	}
@@ -399,6 +410,16 @@ public class PDECore extends Plugin implements DebugOptionsListener {
 			fSearchablePluginsManager.shutdown();
 			fSearchablePluginsManager = null;
 		}
+		if (fPluginSearchIndex != null) {
+			getModelManager().removePluginModelListener(fPluginSearchIndex);
+			fPluginSearchIndex.save();
+			fPluginSearchIndex = null;
+		}
+		if (fTracingOptionsManager != null) {
+			fTracingOptionsManager.saveCache();
+		}
+		ZipFilePool.getDefault().clear();
+		BundleValidationOperation.shutdown();
 		if (fFeatureModelManager != null) {
 			fFeatureModelManager.shutdown();
 			fFeatureModelManager = null;
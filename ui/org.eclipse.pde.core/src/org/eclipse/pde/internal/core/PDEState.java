@@ -21,7 +21,14 @@ import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 
 import org.eclipse.core.filesystem.URIUtil;
@@ -30,6 +37,7 @@ import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.osgi.service.resolver.BaseDescription;
 import org.eclipse.osgi.service.resolver.BundleDescription;
@@ -46,6 +54,11 @@ import org.osgi.framework.Version;
 
 public class PDEState extends MinimalState {
 
+	/**
+	 * Threads reading the manifests of target locations, shared by all states
+	 */
+	private static final ThreadPoolExecutor LOADER = createLoader();
+
 	private final PDEAuxiliaryState fAuxiliaryState;
 	private final ArrayList<IPluginModelBase> fTargetModels = new ArrayList<>();
 
@@ -61,8 +74,11 @@ public class PDEState extends MinimalState {
 		long start = System.currentTimeMillis();
 		fAuxiliaryState = new PDEAuxiliaryState();
 
-		// We no longer try and restore from a cached state as it had no performance benefit
-		createNewTargetState(addResolver, target, monitor);
+		// The resolver state itself is always created from scratch, but the
+		// manifests of unchanged bundles are restored from the snapshot
+		TargetStateSnapshot snapshot = TargetStateSnapshot.load();
+		createNewTargetState(addResolver, target, snapshot, monitor);
+		snapshot.save();
 
 		if (removeDuplicates) {
 			removeDuplicatesFromState(fState);
@@ -74,10 +90,13 @@ public class PDEState extends MinimalState {
 
 		if (PDECore.DEBUG_MODEL) {
 			System.out.println("Time to create state: " + (System.currentTimeMillis() - start) + " ms"); //$NON-NLS-1$ //$NON-NLS-2$
+			System.out.println("Manifests restored from snapshot: " + snapshot.getHitCount() + ", read from disk: " //$NON-NLS-1$ //$NON-NLS-2$
+					+ snapshot.getMissCount());
 		}
 	}
 
-	private void createNewTargetState(boolean resolve, URI[] uris, IProgressMonitor monitor) {
+	private void createNewTargetState(boolean resolve, URI[] uris, TargetStateSnapshot snapshot,
+			IProgressMonitor monitor) {
 		fState = BundleHelper.getPlatformAdmin().getFactory().createState(resolve);
 		if (resolve) {
 			final String systemBSN = getSystemBundle();
@@ -88,23 +107,115 @@ public class PDEState extends MinimalState {
 		}
 		SubMonitor subMonitor = SubMonitor.convert(monitor, PDECoreMessages.PDEState_CreatingTargetModelState,
 				uris.length);
+		List<File> files = new ArrayList<>(uris.length);
 		for (URI uri : uris) {
 			File file = toFile(uri);
-			if (file == null) {
-				continue;
+			if (file != null) {
+				files.add(file);
+			}
+		}
+		subMonitor.setWorkRemaining(files.size());
+
+		// Reading and parsing the manifests is independent per bundle and is
+		// fanned out, while the bundles are added to the state in the order of
+		// the given URIs so that bundle ids are assigned deterministically
+		int parallelism = Math.min(getTargetLoadParallelism(), files.size());
+		List<CompletableFuture<LoadedManifest>> loaded = new ArrayList<>(files.size());
+		AtomicInteger next = new AtomicInteger();
+		try {
+			if (parallelism > 1) {
+				for (int i = 0; i < files.size(); i++) {
+					loaded.add(new CompletableFuture<>());
+				}
+				// the workers take the next file until all are taken, so no
+				// more than the given number of loader threads are used
+				Runnable worker = () -> {
+					int i;
+					while ((i = next.getAndIncrement()) < files.size()) {
+						try {
+							loaded.get(i).complete(loadManifest(files.get(i), snapshot));
+						} catch (RuntimeException | Error e) {
+							loaded.get(i).completeExceptionally(e);
+						}
+					}
+				};
+				for (int i = 0; i < parallelism; i++) {
+					LOADER.execute(worker);
+				}
 			}
-			try {
+			for (int i = 0; i < files.size(); i++) {
+				File file = files.get(i);
 				subMonitor.subTask(file.getName());
-				addBundle(file, -1);
-			} catch (CoreException e) {
-				if (e.getStatus().getCode() != ManifestUtils.STATUS_CODE_NOT_A_BUNDLE_MANIFEST) {
-					PDECore.log(e);
+				LoadedManifest manifest = parallelism > 1 ? getLoaded(loaded.get(i)) : loadManifest(file, snapshot);
+				try {
+					if (manifest.error() != null) {
+						throw manifest.error();
+					}
+					addBundle(file, -1, manifest.headers());
+				} catch (CoreException e) {
+					if (e.getStatus().getCode() != ManifestUtils.STATUS_CODE_NOT_A_BUNDLE_MANIFEST) {
+						PDECore.log(e);
+					}
 				}
+				subMonitor.split(1);
 			}
-			subMonitor.split(1);
+		} finally {
+			// stops the workers if the load was canceled
+			next.set(files.size());
 		}
 	}
 
+	/**
+	 * Result of reading the manifest of one target location, either the
+	 * headers or the error that occurred
+	 */
+	private record LoadedManifest(Map<String, String> headers, CoreException error) {
+	}
+
+	private static LoadedManifest loadManifest(File file, TargetStateSnapshot snapshot) {
+		try {
+			return new LoadedManifest(snapshot.loadManifest(file), null);
+		} catch (CoreException e) {
+			return new LoadedManifest(null, e);
+		}
+	}
+
+	private static LoadedManifest getLoaded(CompletableFuture<LoadedManifest> future) {
+		try {
+			return future.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new OperationCanceledException();
+		} catch (ExecutionException e) {
+			// a programming error of the loader, as if read in this thread
+			if (e.getCause() instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			throw (Error) e.getCause();
+		}
+	}
+
+	/**
+	 * Creates the loader threads shared by all target states, bounded by the
+	 * number of processors. Idle threads are discarded.
+	 */
+	private static ThreadPoolExecutor createLoader() {
+		int threads = Runtime.getRuntime().availableProcessors();
+		ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 30, TimeUnit.SECONDS,
+				new LinkedBlockingQueue<>(), r -> {
+					Thread thread = new Thread(r, "PDE Target State Loader"); //$NON-NLS-1$
+					thread.setDaemon(true);
+					return thread;
+				});
+		executor.allowCoreThreadTimeOut(true);
+		return executor;
+	}
+
+	private static int getTargetLoadParallelism() {
+		int parallelism = PDECore.getDefault().getPreferencesManager().getInt(ICoreConstants.TARGET_LOAD_PARALLELISM);
+		return parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+	}
+
 	private Comparator<BaseDescription> systemBundlesFirst(String systemBSN) {
 		Function<BaseDescription, Boolean> isSystemBundle = b -> systemBSN.equals(b.getSupplier().getSymbolicName());
 		return Comparator.comparing(isSystemBundle).reversed(); // false<true
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2024 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -202,6 +202,7 @@ public class PluginModelManager implements IModelProviderListener {
 
 	private ArrayList<IPluginModelListener> fListeners; // a list of listeners interested in changes to the plug-in models
 	private ArrayList<IStateDeltaListener> fStateListeners; // a list of listeners interested in changes to the PDE/resolver State
+	private WorkspaceWiringSnapshot fWiringSnapshot; // the wiring of the workspace plug-ins on the last target change or shutdown
 	private boolean fCancelled = false;
 
 	/**
@@ -418,6 +419,22 @@ public class PluginModelManager implements IModelProviderListener {
 		}
 	}
 
+	/**
+	 * Notify all interested listeners the cached PDEState has changed and only
+	 * the given workspace projects are wired differently
+	 *
+	 * @param newState	the new PDEState.
+	 * @param rewiredProjects the names of the projects whose wiring changed
+	 */
+	private void fireStateChanged(PDEState newState, Set<String> rewiredProjects) {
+		if (fStateListeners != null) {
+			ListIterator<IStateDeltaListener> li = fStateListeners.listIterator();
+			while (li.hasNext()) {
+				li.next().stateChanged(newState.getState(), rewiredProjects);
+			}
+		}
+	}
+
 	/**
 	 * Add a listener to the model manager
 	 *
@@ -620,11 +637,23 @@ public class PluginModelManager implements IModelProviderListener {
 			updateAffectedEntries(null);
 		}
 
-		// Fire a state change event to touch all projects if the target content has changed since last model init
+		// Fire a state change event to touch the affected projects if the target content has changed since last model init
 		if (externalPluginsChanged) {
-			fireStateChanged(fState);
-			if (PDECore.DEBUG_MODEL) {
-				System.out.println("Loaded target models differ from saved list, PDE builder will run on all projects."); //$NON-NLS-1$
+			// only the projects whose wiring differs from the one recorded on
+			// the last model init or shutdown are affected
+			WorkspaceWiringSnapshot wiringSnapshot = getWiringSnapshot();
+			Set<String> rewiredProjects = wiringSnapshot.update(fState.getState(), models);
+			wiringSnapshot.save();
+			if (rewiredProjects == null) {
+				fireStateChanged(fState);
+				if (PDECore.DEBUG_MODEL) {
+					System.out.println("Loaded target models differ from saved list, PDE builder will run on all projects."); //$NON-NLS-1$
+				}
+			} else {
+				fireStateChanged(fState, rewiredProjects);
+				if (PDECore.DEBUG_MODEL) {
+					System.out.println("Loaded target models differ from saved list, PDE builder will run on " + rewiredProjects.size() + " rewired projects."); //$NON-NLS-1$ //$NON-NLS-2$
+				}
 			}
 		}
 
@@ -1218,10 +1247,27 @@ public class PluginModelManager implements IModelProviderListener {
 		return getState().getSystemBundle();
 	}
 
+	/**
+	 * @return the wiring of the workspace plug-ins recorded on the last target
+	 *         change or shutdown, loaded on first access
+	 */
+	private WorkspaceWiringSnapshot getWiringSnapshot() {
+		if (fWiringSnapshot == null) {
+			fWiringSnapshot = WorkspaceWiringSnapshot.load();
+		}
+		return fWiringSnapshot;
+	}
+
 	/**
 	 * Perform cleanup upon shutting down
 	 */
 	protected void shutdown() {
+		if (fState != null) {
+			// record the wiring the workspace was last built against
+			WorkspaceWiringSnapshot wiringSnapshot = getWiringSnapshot();
+			wiringSnapshot.update(fState.getState(), fWorkspaceManager.getPluginModels());
+			wiringSnapshot.save();
+		}
 		fWorkspaceManager.shutdown();
 		fExternalManager.shutdown();
 
@@ -0,0 +1,373 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - persistent snapshot of the target platform state
+ *******************************************************************************/
+package org.eclipse.pde.internal.core;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.jar.JarFile;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.osgi.util.NLS;
+import org.eclipse.pde.internal.core.util.FileStamp;
+import org.eclipse.pde.internal.core.util.ManifestUtils;
+import org.eclipse.pde.internal.core.util.UtilMessages;
+
+/**
+ * Persistent snapshot of the bundle manifests that make up the target
+ * platform state.
+ * <p>
+ * Every entry is keyed by the absolute path of a bundle location and stamped
+ * with the size and modification time of the file that carries the manifest
+ * (the archive itself for jarred bundles, <code>META-INF/MANIFEST.MF</code>
+ * for directory bundles). On startup the {@link PDEState} asks the snapshot
+ * for the manifest of each target location; only locations whose stamp
+ * differs from the stored one are read from disk again. Locations that are
+ * known not to be bundles are remembered as well so that they are not opened
+ * on every start.
+ * </p>
+ * <p>
+ * Since the {@link PDEAuxiliaryState} is derived from the very same manifest
+ * headers, restoring the manifests also restores the auxiliary data without
+ * touching the bundles.
+ * </p>
+ * <p>
+ * Entries of locations that are not part of the current target are kept, so
+ * switching back and forth between targets does not read all bundles again.
+ * They are dropped once they have not been requested for
+ * {@link #MAX_UNUSED_AGE} or when the snapshot grows beyond
+ * {@link #MAX_ENTRIES}, least recently used first.
+ * </p>
+ * <p>
+ * The snapshot is safe for concurrent lookups.
+ * </p>
+ */
+public class TargetStateSnapshot {
+
+	/**
+	 * Name of the snapshot file in the PDE state location
+	 */
+	static final String SNAPSHOT_FILE_NAME = ".target_state.snapshot"; //$NON-NLS-1$
+
+	/**
+	 * Magic number identifying a snapshot file
+	 */
+	private static final int MAGIC = 0x50444553; // 'PDES'
+
+	/**
+	 * Version of the snapshot format, must be increased whenever the format or
+	 * the semantic of the stored manifests changes
+	 */
+	private static final int VERSION = 2;
+
+	/**
+	 * Time after which an entry that was not requested anymore is dropped
+	 */
+	static final long MAX_UNUSED_AGE = TimeUnit.DAYS.toMillis(30);
+
+	/**
+	 * Maximum number of entries kept across all targets
+	 */
+	static final int MAX_ENTRIES = 20000;
+
+	/**
+	 * Granularity of the last use time, a snapshot that only had hits is
+	 * written at most once per interval to record the use of its entries
+	 */
+	private static final long LAST_USED_RESOLUTION = TimeUnit.DAYS.toMillis(1);
+
+	/**
+	 * Stored information for one bundle location
+	 *
+	 * @param stamp stamp of the file carrying the manifest
+	 * @param lastUsed time the location was last requested
+	 * @param manifest the bundle manifest or <code>null</code> if the
+	 *            location is not a bundle
+	 */
+	private record Location(FileStamp stamp, long lastUsed, Map<String, String> manifest) {
+	}
+
+	private final File fFile;
+	private final Map<String, Location> fEntries = new ConcurrentHashMap<>();
+	private final Set<String> fUsed = ConcurrentHashMap.newKeySet();
+	private volatile boolean fDirty;
+	private final AtomicInteger fHits = new AtomicInteger();
+	private final AtomicInteger fMisses = new AtomicInteger();
+
+	private TargetStateSnapshot(File file) {
+		fFile = file;
+	}
+
+	/**
+	 * Returns the snapshot stored in the PDE state location. If no snapshot
+	 * exists or it cannot be read an empty snapshot is returned.
+	 *
+	 * @return the snapshot, never <code>null</code>
+	 */
+	public static TargetStateSnapshot load() {
+		File dir = PDECore.getDefault().getStateLocation().toFile();
+		return load(new File(dir, SNAPSHOT_FILE_NAME));
+	}
+
+	/**
+	 * Returns the snapshot stored in the given file. If the file does not
+	 * exist, was written in another format version or cannot be read an empty
+	 * snapshot is returned.
+	 *
+	 * @param file the snapshot file
+	 * @return the snapshot, never <code>null</code>
+	 */
+	public static TargetStateSnapshot load(File file) {
+		TargetStateSnapshot snapshot = new TargetStateSnapshot(file);
+		if (file.isFile()) {
+			try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+				snapshot.read(in);
+			} catch (IOException e) {
+				// corrupt or truncated, start over with an empty snapshot
+				snapshot.fEntries.clear();
+				snapshot.fDirty = true;
+				if (PDECore.DEBUG_MODEL) {
+					System.out.println("Discarding unreadable target state snapshot: " + e.getMessage()); //$NON-NLS-1$
+				}
+			}
+		}
+		return snapshot;
+	}
+
+	/**
+	 * Returns the manifest headers of the bundle at the given location. The
+	 * headers are taken from the snapshot if the location has not changed since
+	 * it was recorded, otherwise they are loaded through
+	 * {@link ManifestUtils#loadManifest(File)} and recorded.
+	 * <p>
+	 * The returned map is a private copy that may be modified by the caller.
+	 * </p>
+	 *
+	 * @param bundleLocation root location of the bundle, may be an archive file
+	 *            or directory
+	 * @return map of bundle manifest headers
+	 * @throws CoreException if the manifest cannot be read or the location is
+	 *             not a bundle, see {@link ManifestUtils#loadManifest(File)}
+	 */
+	public Map<String, String> loadManifest(File bundleLocation) throws CoreException {
+		String key = bundleLocation.getAbsolutePath();
+		fUsed.add(key);
+		File stampFile = bundleLocation.isDirectory() ? new File(bundleLocation, JarFile.MANIFEST_NAME) : bundleLocation;
+		FileStamp stamp = FileStamp.of(stampFile);
+
+		Location entry = fEntries.get(key);
+		if (entry != null && entry.stamp().equals(stamp)) {
+			fHits.incrementAndGet();
+			if (entry.manifest() == null) {
+				throw new CoreException(new Status(IStatus.ERROR, PDECore.PLUGIN_ID,
+						ManifestUtils.STATUS_CODE_NOT_A_BUNDLE_MANIFEST,
+						NLS.bind(UtilMessages.ErrorReadingManifest, key), null));
+			}
+			return new HashMap<>(entry.manifest());
+		}
+
+		fMisses.incrementAndGet();
+		try {
+			Map<String, String> manifest = ManifestUtils.loadManifest(bundleLocation);
+			fEntries.put(key, new Location(stamp, System.currentTimeMillis(), new HashMap<>(manifest)));
+			fDirty = true;
+			return manifest;
+		} catch (CoreException e) {
+			if (e.getStatus().getCode() == ManifestUtils.STATUS_CODE_NOT_A_BUNDLE_MANIFEST) {
+				fEntries.put(key, new Location(stamp, System.currentTimeMillis(), null));
+			} else {
+				fEntries.remove(key);
+			}
+			fDirty = true;
+			throw e;
+		}
+	}
+
+	/**
+	 * Writes the snapshot back to its file if any entry changed. Entries of
+	 * other targets are kept until they exceed {@link #MAX_UNUSED_AGE} or
+	 * {@link #MAX_ENTRIES}.
+	 */
+	public synchronized void save() {
+		prune(System.currentTimeMillis());
+		if (!fDirty) {
+			return;
+		}
+		Path parent = fFile.getAbsoluteFile().toPath().getParent();
+		Path tmp = null;
+		try {
+			Files.createDirectories(parent);
+			tmp = Files.createTempFile(parent, fFile.getName(), ".tmp"); //$NON-NLS-1$
+			fDirty = false;
+			try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+				write(out);
+			}
+			Files.move(tmp, fFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		} catch (IOException e) {
+			fDirty = true;
+			PDECore.log(Status.warning("Unable to write target state snapshot " + fFile, e)); //$NON-NLS-1$
+		} finally {
+			if (tmp != null) {
+				try {
+					Files.deleteIfExists(tmp);
+				} catch (IOException e) {
+					// ignore, only a leftover temporary file
+				}
+			}
+		}
+	}
+
+	/**
+	 * Records the use of the requested locations and drops the entries that
+	 * were not used for too long or exceed the maximum size.
+	 *
+	 * @param now the current time
+	 */
+	private void prune(long now) {
+		for (String key : fUsed) {
+			Location entry = fEntries.get(key);
+			if (entry != null && now - entry.lastUsed() >= LAST_USED_RESOLUTION) {
+				fEntries.put(key, new Location(entry.stamp(), now, entry.manifest()));
+				fDirty = true;
+			}
+		}
+		if (fEntries.entrySet().removeIf(e -> !fUsed.contains(e.getKey()) && now - e.getValue().lastUsed() > MAX_UNUSED_AGE)) {
+			fDirty = true;
+		}
+		int excess = fEntries.size() - MAX_ENTRIES;
+		if (excess > 0) {
+			List<Entry<String, Location>> unused = new ArrayList<>();
+			for (Entry<String, Location> e : fEntries.entrySet()) {
+				if (!fUsed.contains(e.getKey())) {
+					unused.add(e);
+				}
+			}
+			unused.sort(Comparator.comparingLong(e -> e.getValue().lastUsed()));
+			for (int i = 0; i < excess && i < unused.size(); i++) {
+				fEntries.remove(unused.get(i).getKey());
+			}
+			fDirty = true;
+		}
+	}
+
+	/**
+	 * @return number of locations served from the snapshot since it was loaded
+	 */
+	public int getHitCount() {
+		return fHits.get();
+	}
+
+	/**
+	 * @return number of locations that had to be read from disk since the
+	 *         snapshot was loaded
+	 */
+	public int getMissCount() {
+		return fMisses.get();
+	}
+
+	private void read(DataInputStream in) throws IOException {
+		if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+			fDirty = true;
+			return;
+		}
+		String[] strings = new String[in.readInt()];
+		for (int i = 0; i < strings.length; i++) {
+			byte[] bytes = new byte[in.readInt()];
+			in.readFully(bytes);
+			strings[i] = new String(bytes, StandardCharsets.UTF_8);
+		}
+		int size = in.readInt();
+		for (int i = 0; i < size; i++) {
+			String location = strings[in.readInt()];
+			FileStamp stamp = FileStamp.read(in);
+			long lastUsed = in.readLong();
+			int headers = in.readInt();
+			Map<String, String> manifest = null;
+			if (headers >= 0) {
+				manifest = new HashMap<>(headers * 4 / 3 + 1);
+				for (int j = 0; j < headers; j++) {
+					manifest.put(strings[in.readInt()], strings[in.readInt()]);
+				}
+			}
+			fEntries.put(location, new Location(stamp, lastUsed, manifest));
+		}
+	}
+
+	private void write(DataOutputStream out) throws IOException {
+		Map<String, Location> entries = new HashMap<>(fEntries);
+		// header names and many values (versions, vendors, ...) repeat across
+		// bundles, store every distinct string once
+		Map<String, Integer> pool = new HashMap<>();
+		for (Entry<String, Location> e : entries.entrySet()) {
+			pool.putIfAbsent(e.getKey(), pool.size());
+			Map<String, String> manifest = e.getValue().manifest();
+			if (manifest != null) {
+				for (Entry<String, String> header : manifest.entrySet()) {
+					pool.putIfAbsent(header.getKey(), pool.size());
+					pool.putIfAbsent(header.getValue(), pool.size());
+				}
+			}
+		}
+		String[] strings = new String[pool.size()];
+		pool.forEach((s, i) -> strings[i] = s);
+
+		out.writeInt(MAGIC);
+		out.writeInt(VERSION);
+		out.writeInt(strings.length);
+		for (String s : strings) {
+			// Export-Package headers can easily exceed the writeUTF() limit
+			byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+			out.writeInt(bytes.length);
+			out.write(bytes);
+		}
+		out.writeInt(entries.size());
+		for (Entry<String, Location> e : entries.entrySet()) {
+			Location entry = e.getValue();
+			out.writeInt(pool.get(e.getKey()));
+			entry.stamp().write(out);
+			out.writeLong(entry.lastUsed());
+			Map<String, String> manifest = entry.manifest();
+			if (manifest == null) {
+				out.writeInt(-1);
+			} else {
+				out.writeInt(manifest.size());
+				for (Entry<String, String> header : manifest.entrySet()) {
+					out.writeInt(pool.get(header.getKey()));
+					out.writeInt(pool.get(header.getValue()));
+				}
+			}
+		}
+	}
+
+}
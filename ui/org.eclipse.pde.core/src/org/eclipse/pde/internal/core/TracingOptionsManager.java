@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2000, 2016 IBM Corporation and others.
+ *  Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -14,7 +14,11 @@
  *******************************************************************************/
 package org.eclipse.pde.internal.core;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.BufferedReader;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
@@ -24,24 +28,67 @@ import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
 
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
 import org.eclipse.core.runtime.SubMonitor;
+import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.pde.core.plugin.IPluginModelBase;
 import org.eclipse.pde.core.plugin.PluginRegistry;
+import org.eclipse.pde.internal.core.util.FileStamp;
+import org.eclipse.pde.internal.core.util.ZipFilePool;
 
 public class TracingOptionsManager {
+
+	private static final int CACHE_FORMAT = 2;
+
+	/**
+	 * Delay before options read from the plug-ins are saved in the background
+	 */
+	private static final long SAVE_DELAY = 10000;
+
+	/**
+	 * The options of a plug-in, or <code>null</code> if it has none, and the
+	 * stamp of the file they were read from
+	 */
+	private record CachedOptions(FileStamp stamp, Map<String, String> options) {
+	}
+
 	private Map<String, String> template;
 
+	private final File fCacheFile;
+	private final Map<String, CachedOptions> fOptionsCache = new ConcurrentHashMap<>();
+	private volatile boolean fCacheDirty = false;
+	private final Job fSaveJob = Job.createSystem("Save tracing options cache", monitor -> saveCache()); //$NON-NLS-1$
+
 	public TracingOptionsManager() {
-		super();
+		this(null);
+	}
+
+	/**
+	 * Creates a manager that keeps the options read from each plug-in in the
+	 * given file, so they don't have to be read again after a restart.
+	 *
+	 * @param cacheFile
+	 *            the file the options of the plug-ins are cached in, or
+	 *            <code>null</code> if they are only cached in memory
+	 */
+	public TracingOptionsManager(File cacheFile) {
+		fCacheFile = cacheFile;
+		if (cacheFile != null && cacheFile.isFile()) {
+			loadCache();
+		}
 	}
 
 	public Map<String, String> getTemplateTable(String pluginId, IProgressMonitor monitor) {
@@ -84,46 +131,95 @@ public class TracingOptionsManager {
 		}
 
 		Map<String, String> temp = new HashMap<>();
-		IPluginModelBase[] models = PluginRegistry.getAllModels();
-		SubMonitor subMonitor = SubMonitor.convert(monitor, models.length);
-
-		for (IPluginModelBase model : models) {
-			subMonitor.split(1);
-			Properties options = TracingOptionsManager.getOptions(model);
+		// read the plug-ins in parallel, but merge their options in model order
+		for (Map<String, String> options : scan(PluginRegistry.getAllModels(), monitor)) {
 			if (options != null) {
-				@SuppressWarnings({ "rawtypes", "unchecked" })
-				Map<String, String> entries = (Map) options;
-				temp.putAll(entries); // All entries are of String/String
+				temp.putAll(options);
 			}
 		}
 		template = temp;
+		scheduleSave();
 		return template;
 	}
 
+	/**
+	 * Reads the options of the given models in parallel. Options of plug-ins
+	 * that did not change since they were last read are taken from the cache.
+	 *
+	 * @return the options of each model, <code>null</code> for models without
+	 *         options
+	 */
+	private List<Map<String, String>> scan(IPluginModelBase[] models, IProgressMonitor monitor) {
+		SubMonitor subMonitor = SubMonitor.convert(monitor, models.length);
+		return Arrays.stream(models).parallel().map(model -> {
+			synchronized (subMonitor) {
+				if (subMonitor.isCanceled()) {
+					throw new OperationCanceledException();
+				}
+				subMonitor.worked(1);
+			}
+			return getCachedOptions(model);
+		}).toList();
+	}
+
+	/**
+	 * Returns the models among the given ones that provide tracing options.
+	 * The models are read in parallel and the result is cached.
+	 */
+	public IPluginModelBase[] getTraceableModels(IPluginModelBase[] models, IProgressMonitor monitor) {
+		List<Map<String, String>> options = scan(models, monitor);
+		IPluginModelBase[] traceable = new IPluginModelBase[models.length];
+		int count = 0;
+		for (int i = 0; i < models.length; i++) {
+			if (options.get(i) != null) {
+				traceable[count++] = models[i];
+			}
+		}
+		scheduleSave();
+		return Arrays.copyOf(traceable, count);
+	}
+
 	public static boolean isTraceable(IPluginModelBase model) {
+		return PDECore.getDefault().getTracingOptionsManager().getCachedOptions(model) != null;
+	}
+
+	public synchronized void reset() {
+		template = null;
+	}
+
+	private Map<String, String> getCachedOptions(IPluginModelBase model) {
 		String location = model.getInstallLocation();
 		if (location == null) {
-			return false;
+			return null;
 		}
-
 		File pluginLocation = new File(location);
-		if (pluginLocation.isDirectory()) {
-			return new File(pluginLocation, ICoreConstants.OPTIONS_FILENAME).exists();
+		// for a directory the options file can change without touching the
+		// directory itself
+		FileStamp stamp = FileStamp.ofBundle(pluginLocation, ICoreConstants.OPTIONS_FILENAME).get(0);
+		CachedOptions cached = fOptionsCache.get(location);
+		if (cached != null && cached.stamp().equals(stamp)) {
+			return cached.options();
 		}
-		try (ZipFile jarFile = new ZipFile(pluginLocation, ZipFile.OPEN_READ)) {
-			ZipEntry manifestEntry = jarFile.getEntry(ICoreConstants.OPTIONS_FILENAME);
-			if (manifestEntry != null) {
-				try (InputStream stream = jarFile.getInputStream(manifestEntry)) {
-					return stream != null;
-				}
-			}
+		try {
+			Map<String, String> options = getOptions(pluginLocation);
+			fOptionsCache.put(location, new CachedOptions(stamp, options));
+			fCacheDirty = true;
+			return options;
 		} catch (IOException e) {
+			PDECore.logException(e);
+			return null;
 		}
-		return false;
 	}
 
-	public synchronized void reset() {
-		template = null;
+	/**
+	 * Saves the cache in the background if options were read from plug-ins,
+	 * so callers on the UI thread don't write it. The cache is also saved
+	 * when PDE Core is stopped.
+	 */
+	private void scheduleSave() {
+		if (fCacheFile != null && fCacheDirty) {
+			fSaveJob.schedule(SAVE_DELAY);
+		}
 	}
 
 	private void saveOptions(Path file, Map<String, String> entries) {
@@ -149,43 +245,115 @@ public class TracingOptionsManager {
 		saveOptions(file, getTracingOptions(map, null));
 	}
 
-	private static Properties getOptions(IPluginModelBase model) {
-		String location = model.getInstallLocation();
-		if (location == null) {
-			return null;
-		}
-		try {
-			File pluginLocation = new File(location);
-			Properties modelOptions = new Properties();
-			if (pluginLocation.isDirectory()) {
-				File file = new File(pluginLocation, ICoreConstants.OPTIONS_FILENAME);
-				if (file.exists()) {
-					try (InputStream stream = new FileInputStream(file)) {
+	private static Map<String, String> getOptions(File pluginLocation) throws IOException {
+		Properties modelOptions = new Properties();
+		if (pluginLocation.isDirectory()) {
+			File file = new File(pluginLocation, ICoreConstants.OPTIONS_FILENAME);
+			if (file.exists()) {
+				try (InputStream stream = new FileInputStream(file)) {
+					modelOptions.load(stream);
+				}
+				try (InputStream stream = new FileInputStream(file)) {
+					loadComments(stream, modelOptions);
+				}
+				return toMap(modelOptions);
+			}
+		} else if (pluginLocation.isFile()) {
+			try (ZipFilePool.Handle handle = ZipFilePool.getDefault().acquire(pluginLocation)) {
+				ZipFile jarFile = handle.getZipFile();
+				ZipEntry manifestEntry = jarFile.getEntry(ICoreConstants.OPTIONS_FILENAME);
+				if (manifestEntry != null) {
+					try (InputStream stream = jarFile.getInputStream(manifestEntry)) {
 						modelOptions.load(stream);
 					}
-					try (InputStream stream = new FileInputStream(file)) {
+					try (InputStream stream = jarFile.getInputStream(manifestEntry)) {
 						loadComments(stream, modelOptions);
 					}
-					return modelOptions;
+					return toMap(modelOptions);
 				}
-			} else {
-				try (ZipFile jarFile = new ZipFile(pluginLocation, ZipFile.OPEN_READ)) {
-					ZipEntry manifestEntry = jarFile.getEntry(ICoreConstants.OPTIONS_FILENAME);
-					if (manifestEntry != null) {
-						try (InputStream stream = jarFile.getInputStream(manifestEntry)) {
-							modelOptions.load(stream);
-						}
-						try (InputStream stream = jarFile.getInputStream(manifestEntry)) {
-							loadComments(stream, modelOptions);
+			}
+		}
+		return null;
+	}
+
+	private static Map<String, String> toMap(Properties properties) {
+		@SuppressWarnings({ "rawtypes", "unchecked" })
+		Map<String, String> entries = (Map) properties;
+		return Map.copyOf(entries); // All entries are of String/String
+	}
+
+	private void loadCache() {
+		try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(fCacheFile.toPath())))) {
+			if (input.readInt() != CACHE_FORMAT) {
+				return;
+			}
+			for (int entries = input.readInt(); entries > 0; entries--) {
+				String location = input.readUTF();
+				FileStamp stamp = FileStamp.read(input);
+				int size = input.readInt();
+				Map<String, String> options = null;
+				if (size >= 0) {
+					options = new HashMap<>(size);
+					for (int i = 0; i < size; i++) {
+						options.put(input.readUTF(), input.readUTF());
+					}
+					options = Map.copyOf(options);
+				}
+				fOptionsCache.put(location, new CachedOptions(stamp, options));
+			}
+		} catch (IOException e) {
+			// corrupt or truncated, start over
+			fOptionsCache.clear();
+		}
+	}
+
+	/**
+	 * Saves the options read from the plug-ins if they changed since the
+	 * cache was loaded. Entries of plug-ins that no longer exist are dropped.
+	 */
+	public synchronized void saveCache() {
+		if (fCacheFile == null) {
+			return;
+		}
+		// saved now, a pending background save is not needed any more
+		fSaveJob.cancel();
+		fCacheDirty |= fOptionsCache.keySet().removeIf(location -> !new File(location).exists());
+		if (!fCacheDirty) {
+			return;
+		}
+		fCacheDirty = false;
+		try {
+			File temp = File.createTempFile(fCacheFile.getName(), null, fCacheFile.getParentFile());
+			try {
+				try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp.toPath())))) {
+					Map<String, CachedOptions> entries = new HashMap<>(fOptionsCache);
+					// the length of strings written with writeUTF is limited,
+					// options that are too long are read from the plug-in again
+					entries.values().removeIf(entry -> entry.options() != null && entry.options().entrySet().stream()
+							.anyMatch(option -> option.getKey().length() > 0x3FFF || option.getValue().length() > 0x3FFF));
+					output.writeInt(CACHE_FORMAT);
+					output.writeInt(entries.size());
+					for (Map.Entry<String, CachedOptions> entry : entries.entrySet()) {
+						output.writeUTF(entry.getKey());
+						entry.getValue().stamp().write(output);
+						Map<String, String> options = entry.getValue().options();
+						output.writeInt(options == null ? -1 : options.size());
+						if (options != null) {
+							for (Map.Entry<String, String> option : options.entrySet()) {
+								output.writeUTF(option.getKey());
+								output.writeUTF(option.getValue());
+							}
 						}
-						return modelOptions;
 					}
 				}
+				Files.move(temp.toPath(), fCacheFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			} finally {
+				temp.delete();
 			}
 		} catch (IOException e) {
-			PDECore.logException(e);
+			fCacheDirty = true;
+			PDECore.log(e);
 		}
-		return null;
 	}
 
 	/**
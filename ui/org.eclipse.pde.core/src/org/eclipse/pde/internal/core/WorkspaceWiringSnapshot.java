@@ -0,0 +1,245 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - incremental classpath updates on target changes
+ *******************************************************************************/
+package org.eclipse.pde.internal.core;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.osgi.service.resolver.BundleDescription;
+import org.eclipse.osgi.service.resolver.BundleSpecification;
+import org.eclipse.osgi.service.resolver.ExportPackageDescription;
+import org.eclipse.osgi.service.resolver.HostSpecification;
+import org.eclipse.osgi.service.resolver.State;
+import org.eclipse.pde.core.plugin.IPluginModelBase;
+
+/**
+ * Persistent snapshot of the resolved wiring of the workspace plug-ins.
+ * <p>
+ * The wiring of a workspace plug-in consists of its resolution status, its
+ * host, the bundles it requires and every package visible to it together with
+ * the bundle that exports it. Only a digest of the wiring is stored per
+ * project. When the target platform changes, comparing the digests computed
+ * from the new state with the stored ones tells which projects are affected
+ * by the change and have to be rebuilt.
+ * </p>
+ */
+public class WorkspaceWiringSnapshot {
+
+	/**
+	 * Name of the snapshot file in the PDE state location
+	 */
+	static final String SNAPSHOT_FILE_NAME = ".workspace_wiring.snapshot"; //$NON-NLS-1$
+
+	/**
+	 * Magic number identifying a snapshot file
+	 */
+	private static final int MAGIC = 0x50444557; // 'PDEW'
+
+	/**
+	 * Version of the snapshot format, must be increased whenever the format or
+	 * the content of the digests changes
+	 */
+	private static final int VERSION = 1;
+
+	private final File fFile;
+	private Map<String, String> fWirings = null;
+	private boolean fDirty;
+
+	private WorkspaceWiringSnapshot(File file) {
+		fFile = file;
+	}
+
+	/**
+	 * Returns the snapshot stored in the PDE state location.
+	 *
+	 * @return the snapshot, never <code>null</code>
+	 */
+	public static WorkspaceWiringSnapshot load() {
+		File dir = PDECore.getDefault().getStateLocation().toFile();
+		return load(new File(dir, SNAPSHOT_FILE_NAME));
+	}
+
+	/**
+	 * Returns the snapshot stored in the given file. If the file does not
+	 * exist, was written in another format version or cannot be read the
+	 * snapshot is empty and {@link #update(State, IPluginModelBase[])} reports
+	 * every project as changed.
+	 *
+	 * @param file the snapshot file
+	 * @return the snapshot, never <code>null</code>
+	 */
+	public static WorkspaceWiringSnapshot load(File file) {
+		WorkspaceWiringSnapshot snapshot = new WorkspaceWiringSnapshot(file);
+		if (file.isFile()) {
+			try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+				snapshot.read(in);
+			} catch (IOException e) {
+				snapshot.fWirings = null;
+				if (PDECore.DEBUG_MODEL) {
+					System.out.println("Discarding unreadable workspace wiring snapshot: " + e.getMessage()); //$NON-NLS-1$
+				}
+			}
+		}
+		return snapshot;
+	}
+
+	/**
+	 * Records the wiring of the given workspace models in the given resolved
+	 * state and returns the projects whose wiring differs from the recorded
+	 * one. Projects that were added or removed since are included.
+	 *
+	 * @param state the resolved state
+	 * @param models the workspace models
+	 * @return the names of the rewired projects, or <code>null</code> if there
+	 *         was no recorded wiring to compare with
+	 */
+	public Set<String> update(State state, IPluginModelBase[] models) {
+		Map<String, String> wirings = new HashMap<>();
+		for (IPluginModelBase model : models) {
+			IResource resource = model.getUnderlyingResource();
+			BundleDescription description = model.getBundleDescription();
+			if (resource != null && description != null) {
+				wirings.put(resource.getProject().getName(), getWiring(state, description));
+			}
+		}
+
+		Map<String, String> previous = fWirings;
+		fWirings = wirings;
+		if (previous == null) {
+			fDirty = true;
+			return null;
+		}
+		Set<String> changed = new HashSet<>();
+		for (Entry<String, String> entry : wirings.entrySet()) {
+			if (!entry.getValue().equals(previous.get(entry.getKey()))) {
+				changed.add(entry.getKey());
+			}
+		}
+		for (String project : previous.keySet()) {
+			if (!wirings.containsKey(project)) {
+				changed.add(project);
+			}
+		}
+		fDirty |= !changed.isEmpty();
+		return changed;
+	}
+
+	/**
+	 * Computes a digest of the wiring of the given bundle
+	 */
+	static String getWiring(State state, BundleDescription description) {
+		List<String> wires = new ArrayList<>();
+		wires.add(description.isResolved() ? "resolved" : "unresolved"); //$NON-NLS-1$ //$NON-NLS-2$
+		HostSpecification host = description.getHost();
+		if (host != null) {
+			wires.add("host " + describe(host.getSupplier())); //$NON-NLS-1$
+		}
+		for (BundleSpecification required : description.getRequiredBundles()) {
+			wires.add("bundle " + describe(required.getSupplier())); //$NON-NLS-1$
+		}
+		if (description.isResolved()) {
+			for (ExportPackageDescription visible : state.getStateHelper().getVisiblePackages(description)) {
+				wires.add("package " + visible.getName() + ';' + visible.getVersion() + ' ' + describe(visible.getExporter())); //$NON-NLS-1$
+			}
+		}
+		wires.sort(null);
+
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256"); //$NON-NLS-1$
+			for (String wire : wires) {
+				digest.update(wire.getBytes(StandardCharsets.UTF_8));
+				digest.update((byte) '\n');
+			}
+			return HexFormat.of().formatHex(digest.digest());
+		} catch (NoSuchAlgorithmException e) {
+			return String.join("\n", wires); //$NON-NLS-1$
+		}
+	}
+
+	private static String describe(Object supplier) {
+		if (supplier instanceof BundleDescription bundle) {
+			return bundle.getSymbolicName() + '_' + bundle.getVersion() + '@' + bundle.getLocation();
+		}
+		return "<unresolved>"; //$NON-NLS-1$
+	}
+
+	/**
+	 * Writes the snapshot back to its file if it changed.
+	 */
+	public void save() {
+		if (!fDirty || fWirings == null) {
+			return;
+		}
+		Path tmp = null;
+		try {
+			Path parent = fFile.getAbsoluteFile().toPath().getParent();
+			Files.createDirectories(parent);
+			tmp = Files.createTempFile(parent, fFile.getName(), ".tmp"); //$NON-NLS-1$
+			try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+				out.writeInt(MAGIC);
+				out.writeInt(VERSION);
+				out.writeInt(fWirings.size());
+				for (Entry<String, String> entry : fWirings.entrySet()) {
+					out.writeUTF(entry.getKey());
+					out.writeUTF(entry.getValue());
+				}
+			}
+			Files.move(tmp, fFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			fDirty = false;
+		} catch (IOException e) {
+			PDECore.log(Status.warning("Unable to write workspace wiring snapshot " + fFile, e)); //$NON-NLS-1$
+		} finally {
+			if (tmp != null) {
+				try {
+					Files.deleteIfExists(tmp);
+				} catch (IOException e) {
+					// nothing to do
+				}
+			}
+		}
+	}
+
+	private void read(DataInputStream in) throws IOException {
+		if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+			return;
+		}
+		int size = in.readInt();
+		Map<String, String> wirings = new HashMap<>(size);
+		for (int i = 0; i < size; i++) {
+			wirings.put(in.readUTF(), in.readUTF());
+		}
+		fWirings = wirings;
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2000, 2012 IBM Corporation and others.
+ *  Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -91,6 +91,12 @@ public class PluginRebuilder implements IStateDeltaListener, IResourceChangeList
 		fProjectNames.clear();
 	}
 
+	@Override
+	public void stateChanged(State newState, Set<String> rewiredProjects) {
+		// only the rewired projects have to be validated again
+		fProjectNames.addAll(rewiredProjects);
+	}
+
 	@Override
 	public void stateResolved(StateDelta delta) {
 		if (delta == null) {
@@ -0,0 +1,321 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - persistent plug-in search index
+ *******************************************************************************/
+package org.eclipse.pde.internal.core.search;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import org.eclipse.pde.core.plugin.IFragment;
+import org.eclipse.pde.core.plugin.IPluginBase;
+import org.eclipse.pde.core.plugin.IPluginExtension;
+import org.eclipse.pde.core.plugin.IPluginExtensionPoint;
+import org.eclipse.pde.core.plugin.IPluginImport;
+import org.eclipse.pde.core.plugin.IPluginModelBase;
+import org.eclipse.pde.core.plugin.ModelEntry;
+import org.eclipse.pde.internal.core.ICoreConstants;
+import org.eclipse.pde.internal.core.IPluginModelListener;
+import org.eclipse.pde.internal.core.PDECore;
+import org.eclipse.pde.internal.core.PluginModelDelta;
+import org.eclipse.pde.internal.core.util.FileStamp;
+
+/**
+ * Inverted index of the ids plug-in searches match against: plug-in ids,
+ * required plug-ins and fragment hosts, declared extension points and the
+ * extension points extended by each plug-in. A search looks up the plug-ins
+ * whose ids match its pattern and only visits those, so the extensions of all
+ * other plug-ins don't have to be loaded.
+ * <p>
+ * Plug-ins are indexed the first time a search visits them. Entries are keyed
+ * by install location and invalidated when the plug-in model changes or the
+ * files the model is read from are modified. The index is saved in the state
+ * location of PDE Core so it survives restarts.
+ * </p>
+ */
+public class PluginSearchIndex implements IPluginModelListener {
+
+	private static final int FORMAT = 2;
+
+	// the kinds of ids in the index
+	private static final int DECLARATION = 0;
+	private static final int PLUGIN_REFERENCE = 1;
+	private static final int EXTENSION_POINT_DECLARATION = 2;
+	private static final int EXTENSION_POINT_REFERENCE = 3;
+	private static final int KINDS = 4;
+
+	private record Entry(List<FileStamp> stamps, List<Set<String>> ids) {
+	}
+
+	private final File fFile;
+	private final Map<String, Entry> fEntries = new HashMap<>();
+	private final List<Map<String, Set<String>>> fLocations = new ArrayList<>(KINDS);
+	private boolean fDirty = false;
+
+	/**
+	 * Creates an index stored in the given file and loads its content if the
+	 * file exists.
+	 *
+	 * @param file
+	 *            the file the index is stored in, or <code>null</code> for an
+	 *            index that is not saved
+	 */
+	public PluginSearchIndex(File file) {
+		fFile = file;
+		for (int i = 0; i < KINDS; i++) {
+			fLocations.add(new HashMap<>());
+		}
+		if (file != null && file.isFile()) {
+			load();
+		}
+	}
+
+	/**
+	 * Returns the install locations of the indexed plug-ins that may contain
+	 * matches for the given search. Plug-ins that are not indexed are not
+	 * returned and have to be visited.
+	 *
+	 * @param element
+	 *            one of the <code>PluginSearchInput.ELEMENT_*</code> constants
+	 * @param limit
+	 *            one of the <code>PluginSearchInput.LIMIT_*</code> constants
+	 * @param pattern
+	 *            the pattern to match the ids against
+	 * @return the install locations of the candidate plug-ins
+	 */
+	public synchronized Set<String> findCandidates(int element, int limit, Pattern pattern) {
+		Set<String> result = new HashSet<>();
+		switch (element) {
+			case PluginSearchInput.ELEMENT_PLUGIN :
+				if (limit != PluginSearchInput.LIMIT_REFERENCES) {
+					addCandidates(DECLARATION, pattern, result);
+				}
+				if (limit != PluginSearchInput.LIMIT_DECLARATIONS) {
+					addCandidates(PLUGIN_REFERENCE, pattern, result);
+				}
+				break;
+			case PluginSearchInput.ELEMENT_FRAGMENT :
+				addCandidates(DECLARATION, pattern, result);
+				break;
+			case PluginSearchInput.ELEMENT_EXTENSION_POINT :
+				if (limit != PluginSearchInput.LIMIT_REFERENCES) {
+					addCandidates(EXTENSION_POINT_DECLARATION, pattern, result);
+				}
+				if (limit != PluginSearchInput.LIMIT_DECLARATIONS) {
+					addCandidates(EXTENSION_POINT_REFERENCE, pattern, result);
+				}
+				break;
+		}
+		return result;
+	}
+
+	private void addCandidates(int kind, Pattern pattern, Set<String> result) {
+		for (Map.Entry<String, Set<String>> entry : fLocations.get(kind).entrySet()) {
+			if (pattern.matcher(entry.getKey()).matches()) {
+				result.addAll(entry.getValue());
+			}
+		}
+	}
+
+	/**
+	 * @return whether the given model is indexed and did not change since
+	 */
+	public synchronized boolean isIndexed(IPluginModelBase model) {
+		String location = model.getInstallLocation();
+		if (location == null) {
+			return false;
+		}
+		Entry entry = fEntries.get(location);
+		return entry != null && entry.stamps().equals(getStamps(location));
+	}
+
+	/**
+	 * Adds the given model to the index, replacing the previous entry for its
+	 * install location. This loads the extensions of the model.
+	 */
+	public void index(IPluginModelBase model) {
+		String location = model.getInstallLocation();
+		IPluginBase pluginBase = model.getPluginBase();
+		if (location == null || pluginBase == null) {
+			return;
+		}
+		List<Set<String>> ids = new ArrayList<>(KINDS);
+		for (int i = 0; i < KINDS; i++) {
+			ids.add(new HashSet<>());
+		}
+		addId(ids.get(DECLARATION), pluginBase.getId());
+		if (pluginBase instanceof IFragment fragment) {
+			addId(ids.get(PLUGIN_REFERENCE), fragment.getPluginId());
+		}
+		for (IPluginImport pluginImport : pluginBase.getImports()) {
+			addId(ids.get(PLUGIN_REFERENCE), pluginImport.getId());
+		}
+		for (IPluginExtensionPoint extensionPoint : pluginBase.getExtensionPoints()) {
+			addId(ids.get(EXTENSION_POINT_DECLARATION), extensionPoint.getFullId());
+		}
+		for (IPluginExtension extension : pluginBase.getExtensions()) {
+			addId(ids.get(EXTENSION_POINT_REFERENCE), extension.getPoint());
+		}
+		List<FileStamp> stamps = getStamps(location);
+		synchronized (this) {
+			remove(location);
+			add(location, new Entry(stamps, ids));
+			fDirty = true;
+		}
+	}
+
+	private static void addId(Set<String> ids, String id) {
+		if (id != null) {
+			ids.add(id);
+		}
+	}
+
+	private void add(String location, Entry entry) {
+		fEntries.put(location, entry);
+		for (int kind = 0; kind < KINDS; kind++) {
+			Map<String, Set<String>> locations = fLocations.get(kind);
+			for (String id : entry.ids().get(kind)) {
+				locations.computeIfAbsent(id, k -> new HashSet<>()).add(location);
+			}
+		}
+	}
+
+	private boolean remove(String location) {
+		Entry entry = fEntries.remove(location);
+		if (entry == null) {
+			return false;
+		}
+		for (int kind = 0; kind < KINDS; kind++) {
+			Map<String, Set<String>> locations = fLocations.get(kind);
+			for (String id : entry.ids().get(kind)) {
+				Set<String> idLocations = locations.get(id);
+				if (idLocations != null && idLocations.remove(location) && idLocations.isEmpty()) {
+					locations.remove(id);
+				}
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * The stamps of the files the model of a plug-in is read from.
+	 */
+	private static List<FileStamp> getStamps(String location) {
+		return FileStamp.ofBundle(new File(location), ICoreConstants.BUNDLE_FILENAME_DESCRIPTOR,
+				ICoreConstants.PLUGIN_FILENAME_DESCRIPTOR, ICoreConstants.FRAGMENT_FILENAME_DESCRIPTOR);
+	}
+
+	@Override
+	public void modelsChanged(PluginModelDelta delta) {
+		synchronized (this) {
+			for (ModelEntry[] entries : new ModelEntry[][] {delta.getChangedEntries(), delta.getRemovedEntries()}) {
+				for (ModelEntry entry : entries) {
+					for (IPluginModelBase model : entry.getWorkspaceModels()) {
+						fDirty |= model.getInstallLocation() != null && remove(model.getInstallLocation());
+					}
+					for (IPluginModelBase model : entry.getExternalModels()) {
+						fDirty |= model.getInstallLocation() != null && remove(model.getInstallLocation());
+					}
+				}
+			}
+		}
+	}
+
+	private void load() {
+		try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(fFile.toPath())))) {
+			if (input.readInt() != FORMAT) {
+				return;
+			}
+			for (int entries = input.readInt(); entries > 0; entries--) {
+				String location = input.readUTF();
+				List<FileStamp> stamps = FileStamp.readAll(input);
+				List<Set<String>> ids = new ArrayList<>(KINDS);
+				for (int kind = 0; kind < KINDS; kind++) {
+					int count = input.readInt();
+					Set<String> kindIds = new HashSet<>(count);
+					for (int i = 0; i < count; i++) {
+						kindIds.add(input.readUTF());
+					}
+					ids.add(kindIds);
+				}
+				add(location, new Entry(stamps, ids));
+			}
+		} catch (IOException e) {
+			// corrupt or truncated, start over
+			fEntries.clear();
+			fLocations.forEach(Map::clear);
+		}
+	}
+
+	/**
+	 * Saves the index if it changed since it was loaded. Entries of plug-ins
+	 * that no longer exist are dropped.
+	 */
+	public synchronized void save() {
+		if (fFile == null) {
+			return;
+		}
+		for (String location : new ArrayList<>(fEntries.keySet())) {
+			if (!new File(location).exists()) {
+				fDirty |= remove(location);
+			}
+		}
+		if (!fDirty) {
+			return;
+		}
+		try {
+			File temp = File.createTempFile(fFile.getName(), null, fFile.getParentFile());
+			try {
+				try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp.toPath())))) {
+					output.writeInt(FORMAT);
+					output.writeInt(fEntries.size());
+					for (Map.Entry<String, Entry> entry : fEntries.entrySet()) {
+						output.writeUTF(entry.getKey());
+						FileStamp.writeAll(output, entry.getValue().stamps());
+						for (Set<String> ids : entry.getValue().ids()) {
+							output.writeInt(ids.size());
+							for (String id : ids) {
+								output.writeUTF(id);
+							}
+						}
+					}
+				}
+				Files.move(temp.toPath(), fFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+				fDirty = false;
+			} finally {
+				temp.delete();
+			}
+		} catch (IOException e) {
+			PDECore.log(e);
+		}
+	}
+
+	/**
+	 * @return the number of indexed plug-ins
+	 */
+	public synchronized int size() {
+		return fEntries.size();
+	}
+}
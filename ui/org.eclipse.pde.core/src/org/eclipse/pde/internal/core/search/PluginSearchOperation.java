@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,6 +16,7 @@ package org.eclipse.pde.internal.core.search;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 import java.util.regex.Pattern;
 
 import org.eclipse.core.runtime.IProgressMonitor;
@@ -28,6 +29,7 @@ import org.eclipse.pde.core.plugin.IPluginExtension;
 import org.eclipse.pde.core.plugin.IPluginExtensionPoint;
 import org.eclipse.pde.core.plugin.IPluginImport;
 import org.eclipse.pde.core.plugin.IPluginModelBase;
+import org.eclipse.pde.internal.core.PDECore;
 import org.eclipse.pde.internal.core.ifeature.IFeatureModel;
 import org.eclipse.pde.internal.core.ifeature.IFeaturePlugin;
 import org.eclipse.pde.internal.core.util.PatternConstructor;
@@ -36,11 +38,22 @@ public class PluginSearchOperation {
 	protected PluginSearchInput fInput;
 	private final ISearchResultCollector fCollector;
 	private final Pattern fPattern;
+	private final PluginSearchIndex fIndex;
 
 	public PluginSearchOperation(PluginSearchInput input, ISearchResultCollector collector) {
+		this(input, collector, PDECore.getDefault().getPluginSearchIndex());
+	}
+
+	/**
+	 * @param index
+	 *            the index to look up the plug-ins that may match, or
+	 *            <code>null</code> to visit every plug-in in scope
+	 */
+	public PluginSearchOperation(PluginSearchInput input, ISearchResultCollector collector, PluginSearchIndex index) {
 		this.fInput = input;
 		this.fCollector = collector;
 		this.fPattern = PatternConstructor.createPattern(input.getSearchString(), input.isCaseSensitive());
+		this.fIndex = index;
 	}
 
 	public void execute(IProgressMonitor monitor) {
@@ -48,8 +61,22 @@ public class PluginSearchOperation {
 		IFeatureModel[] features = fInput.getSearchScope().getMatchingFeatureModels();
 		SubMonitor subMonitor = SubMonitor.convert(monitor, plugins.length + features.length);
 
+		Set<String> candidates = fIndex != null
+				? fIndex.findCandidates(fInput.getSearchElement(), fInput.getSearchLimit(), fPattern)
+				: null;
 		for (IPluginModelBase candidate : plugins) {
-			visit(candidate);
+			if (candidates == null) {
+				visit(candidate);
+			} else if (!fIndex.isIndexed(candidate)) {
+				visit(candidate);
+				if (fInput.getSearchElement() == PluginSearchInput.ELEMENT_EXTENSION_POINT) {
+					// the extensions are loaded by now, index them for the
+					// next search
+					fIndex.index(candidate);
+				}
+			} else if (candidates.contains(candidate.getInstallLocation())) {
+				visit(candidate);
+			}
 			subMonitor.split(1);
 		}
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2017 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -214,6 +214,18 @@ public abstract class AbstractBundleContainer extends PlatformObject implements
 	@Override
 	public abstract String getLocation(boolean resolve) throws CoreException;
 
+	/**
+	 * Returns whether this container can be resolved concurrently with other
+	 * containers of the same target. Only containers whose resolution does not
+	 * share any state with other containers may answer <code>true</code>, all
+	 * others are resolved one after the other.
+	 *
+	 * @return whether this container is safe to resolve concurrently
+	 */
+	protected boolean isConcurrentResolutionSafe() {
+		return false;
+	}
+
 	/**
 	 * Sets the resolution status to null.  This container will be considered unresolved.
 	 */
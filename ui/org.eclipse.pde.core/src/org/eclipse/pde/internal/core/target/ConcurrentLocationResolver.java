@@ -0,0 +1,212 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - concurrent resolution of target locations
+ *******************************************************************************/
+package org.eclipse.pde.internal.core.target;
+
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.SubMonitor;
+import org.eclipse.pde.core.target.ITargetDefinition;
+import org.eclipse.pde.core.target.ITargetLocation;
+
+/**
+ * Resolves a set of independent target locations concurrently.
+ * <p>
+ * Only locations that declare themselves safe through
+ * {@link AbstractBundleContainer#isConcurrentResolutionSafe()} are resolved
+ * in tasks of their own, every other location, including all locations
+ * contributed by other plug-ins, is resolved on the calling thread one after
+ * the other while the tasks run.
+ * </p>
+ * <p>
+ * Every task gets a private progress monitor that reports cancellation of
+ * the caller's monitor. The calling thread aggregates the progress of all
+ * tasks into the given monitor whenever a task completes.
+ * </p>
+ */
+class ConcurrentLocationResolver {
+
+	/**
+	 * Ticks each location contributes to the overall progress
+	 */
+	static final int TICKS_PER_LOCATION = 100;
+
+	/**
+	 * Resolving a location mostly waits for the file system or the network, so
+	 * locations are resolved concurrently even on a single processor
+	 */
+	private static final int MIN_THREADS = 2;
+
+	private final ITargetDefinition fDefinition;
+
+	ConcurrentLocationResolver(ITargetDefinition definition) {
+		fDefinition = definition;
+	}
+
+	/**
+	 * Resolves the given locations and returns their resolution status in the
+	 * order of the given list, independent of the order in which they
+	 * finished.
+	 *
+	 * @param locations locations to resolve
+	 * @param monitor monitor to report progress to, must have
+	 *            {@link #TICKS_PER_LOCATION} ticks remaining per location
+	 * @return the status of each location, in the order of the locations
+	 * @throws OperationCanceledException if the monitor was canceled
+	 */
+	IStatus[] resolve(List<ITargetLocation> locations, SubMonitor monitor) {
+		IStatus[] result = new IStatus[locations.size()];
+		int concurrent = 0;
+		for (ITargetLocation location : locations) {
+			if (isConcurrent(location)) {
+				concurrent++;
+			}
+		}
+		if (concurrent < 2) {
+			for (int i = 0; i < locations.size(); i++) {
+				result[i] = locations.get(i).resolve(fDefinition, monitor.split(TICKS_PER_LOCATION));
+			}
+			return result;
+		}
+		int threads = Math.min(concurrent, Math.max(MIN_THREADS, Runtime.getRuntime().availableProcessors()));
+		ExecutorService executor = Executors.newFixedThreadPool(threads, r -> {
+			Thread thread = new Thread(r, "Target Location Resolver"); //$NON-NLS-1$
+			thread.setDaemon(true);
+			return thread;
+		});
+		AtomicInteger ticks = new AtomicInteger();
+		@SuppressWarnings("unchecked")
+		Future<IStatus>[] futures = new Future[locations.size()];
+		try {
+			for (int i = 0; i < locations.size(); i++) {
+				ITargetLocation location = locations.get(i);
+				if (isConcurrent(location)) {
+					LocationMonitor locationMonitor = new LocationMonitor(monitor, ticks);
+					futures[i] = executor.submit(() -> location.resolve(fDefinition, locationMonitor));
+				}
+			}
+			for (int i = 0; i < locations.size(); i++) {
+				if (futures[i] == null) {
+					result[i] = locations.get(i).resolve(fDefinition, monitor.split(TICKS_PER_LOCATION));
+				}
+			}
+			int reported = 0;
+			for (int i = 0; i < futures.length; i++) {
+				if (futures[i] != null) {
+					result[i] = await(futures[i]);
+					int done = ticks.get();
+					monitor.worked(done - reported);
+					reported = done;
+				}
+			}
+			monitor.checkCanceled();
+			return result;
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private static boolean isConcurrent(ITargetLocation location) {
+		return location instanceof AbstractBundleContainer container && container.isConcurrentResolutionSafe();
+	}
+
+	/**
+	 * Waits for the given resolution task. Exceptions thrown by the location
+	 * are rethrown on the calling thread.
+	 */
+	private static IStatus await(Future<IStatus> future) {
+		try {
+			IStatus status = future.get();
+			return status != null ? status : Status.OK_STATUS;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new OperationCanceledException();
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			if (cause instanceof Error error) {
+				throw error;
+			}
+			throw new IllegalStateException(cause);
+		}
+	}
+
+	/**
+	 * Progress monitor handed to a single location. Scales the work reported
+	 * by the location to {@link ConcurrentLocationResolver#TICKS_PER_LOCATION}
+	 * ticks and adds them to a counter shared by all locations. Cancellation is
+	 * read from the monitor of the caller.
+	 */
+	private static final class LocationMonitor extends NullProgressMonitor {
+
+		private final IProgressMonitor fParent;
+		private final AtomicInteger fTicks;
+		private int fTotalWork;
+		private double fWorked;
+		private int fReported;
+
+		LocationMonitor(IProgressMonitor parent, AtomicInteger ticks) {
+			fParent = parent;
+			fTicks = ticks;
+		}
+
+		@Override
+		public boolean isCanceled() {
+			return super.isCanceled() || fParent.isCanceled();
+		}
+
+		@Override
+		public synchronized void beginTask(String name, int totalWork) {
+			fTotalWork = totalWork;
+		}
+
+		@Override
+		public void worked(int work) {
+			internalWorked(work);
+		}
+
+		@Override
+		public synchronized void internalWorked(double work) {
+			if (fTotalWork <= 0) {
+				return;
+			}
+			fWorked += work;
+			int ticks = (int) Math.min(TICKS_PER_LOCATION, fWorked * TICKS_PER_LOCATION / fTotalWork);
+			if (ticks > fReported) {
+				fTicks.addAndGet(ticks - fReported);
+				fReported = ticks;
+			}
+		}
+
+		@Override
+		public synchronized void done() {
+			if (fReported < TICKS_PER_LOCATION) {
+				fTicks.addAndGet(TICKS_PER_LOCATION - fReported);
+				fReported = TICKS_PER_LOCATION;
+			}
+		}
+	}
+
+}
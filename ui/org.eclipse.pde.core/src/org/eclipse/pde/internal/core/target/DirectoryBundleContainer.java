@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2020 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -47,6 +47,12 @@ public class DirectoryBundleContainer extends AbstractBundleContainer {
 	 */
 	private final String fPath;
 
+	/**
+	 * Index of the bundles found by the last scan, avoids opening unchanged
+	 * bundles again
+	 */
+	private DirectoryBundleIndex fIndex;
+
 	/**
 	 * Constructs a directory bundle container at the given location.
 	 *
@@ -69,6 +75,12 @@ public class DirectoryBundleContainer extends AbstractBundleContainer {
 		return TYPE;
 	}
 
+	@Override
+	protected boolean isConcurrentResolutionSafe() {
+		// only reads its own files
+		return true;
+	}
+
 	@Override
 	protected TargetBundle[] resolveBundles(ITargetDefinition definition, IProgressMonitor monitor) throws CoreException {
 		File dir = getDirectory();
@@ -76,17 +88,15 @@ public class DirectoryBundleContainer extends AbstractBundleContainer {
 			File site = getSite(dir);
 			File[] files = site.listFiles();
 			SubMonitor localMonitor = SubMonitor.convert(monitor, Messages.DirectoryBundleContainer_0, files.length);
-			return Arrays.stream(files).parallel() //
+			DirectoryBundleIndex index = getIndex(site);
+			TargetBundle[] bundles = Arrays.stream(files).parallel() //
 					.map(file -> {
 						localMonitor.split(1);
-						try {
-							return new TargetBundle(file);
-						} catch (CoreException e) {
-							// Ignore non-bundle files
-							return null;
-						}
+						return index.getBundle(file);
 					}).filter(Objects::nonNull) //
 					.toArray(TargetBundle[]::new);
+			index.save();
+			return bundles;
 		}
 		throw new CoreException(Status.error(NLS.bind(Messages.DirectoryBundleContainer_1, dir.toString())));
 	}
@@ -111,6 +121,20 @@ public class DirectoryBundleContainer extends AbstractBundleContainer {
 		throw new CoreException(Status.error(NLS.bind(Messages.DirectoryBundleContainer_1, dir.toString())));
 	}
 
+	/**
+	 * Returns the bundle index for the given plug-ins directory, loading it from
+	 * the PDE state location on first access.
+	 *
+	 * @param site the plug-ins directory of this container
+	 * @return the index of the directory
+	 */
+	private synchronized DirectoryBundleIndex getIndex(File site) {
+		if (fIndex == null || !fIndex.getSite().equals(site)) {
+			fIndex = DirectoryBundleIndex.load(site);
+		}
+		return fIndex;
+	}
+
 	/**
 	 * Returns the directory to search for bundles in.
 	 *
@@ -0,0 +1,285 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - persistent index of directory target locations
+ *******************************************************************************/
+package org.eclipse.pde.internal.core.target;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.jar.JarFile;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.equinox.frameworkadmin.BundleInfo;
+import org.eclipse.pde.core.target.TargetBundle;
+import org.eclipse.pde.internal.core.ICoreConstants;
+import org.eclipse.pde.internal.core.PDECore;
+import org.eclipse.pde.internal.core.util.FileStamp;
+
+/**
+ * Index of the bundles found in the plug-ins directory of a
+ * {@link DirectoryBundleContainer}.
+ * <p>
+ * For every file of the directory the index records its name, size and
+ * modification time (of the manifest, plugin.xml and fragment.xml for bundles
+ * in directory form) together with the information of the {@link TargetBundle}
+ * created for it, or the fact that it is not a bundle.
+ * When the directory is scanned again only files that were added or modified
+ * since they were recorded are opened, all others are restored from the
+ * index. The index is persisted in the PDE state location.
+ * </p>
+ * <p>
+ * Lookups may be performed concurrently.
+ * </p>
+ */
+public class DirectoryBundleIndex {
+
+	private static final int MAGIC = 0x50444449; // 'PDDI'
+
+	/**
+	 * Version of the index format, must be increased whenever the format or
+	 * the information recorded for a bundle changes
+	 */
+	private static final int VERSION = 3;
+
+	/**
+	 * Files of a bundle in directory form that are read when creating its
+	 * {@link TargetBundle} and can change without touching the directory itself
+	 */
+	private static final String[] DIRECTORY_STAMP_FILES = { JarFile.MANIFEST_NAME,
+			ICoreConstants.PLUGIN_FILENAME_DESCRIPTOR, ICoreConstants.FRAGMENT_FILENAME_DESCRIPTOR };
+
+	/**
+	 * Recorded information for one file of the directory
+	 *
+	 * @param stamps stamps of the file or of the descriptors of a directory
+	 * @param bundle the bundle restored or created for the file, or
+	 *            <code>null</code> if the file is not a bundle
+	 */
+	private record IndexEntry(List<FileStamp> stamps, TargetBundle bundle) {
+	}
+
+	private final File fSite;
+	private final File fFile;
+	private final Map<String, IndexEntry> fEntries = new ConcurrentHashMap<>();
+	private volatile boolean fDirty;
+
+	private DirectoryBundleIndex(File site, File file) {
+		fSite = site;
+		fFile = file;
+	}
+
+	/**
+	 * Returns the persisted index of the given directory. If there is no index
+	 * or it cannot be read an empty index is returned.
+	 *
+	 * @param site the directory containing the bundles
+	 * @return the index, never <code>null</code>
+	 */
+	static DirectoryBundleIndex load(File site) {
+		IPath location = PDECore.getDefault().getStateLocation().append(".directory_index"); //$NON-NLS-1$
+		String name = Integer.toHexString(site.getAbsolutePath().hashCode()) + ".index"; //$NON-NLS-1$
+		return load(site, location.append(name).toFile());
+	}
+
+	/**
+	 * Returns the index of the given directory persisted in the given file. If
+	 * the file does not exist or cannot be read an empty index is returned.
+	 *
+	 * @param site the directory containing the bundles
+	 * @param file the file the index is read from and written to
+	 * @return the index, never <code>null</code>
+	 */
+	public static DirectoryBundleIndex load(File site, File file) {
+		DirectoryBundleIndex index = new DirectoryBundleIndex(site, file);
+		if (file.isFile()) {
+			try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+				index.read(in, site.getAbsolutePath());
+			} catch (IOException e) {
+				index.fEntries.clear();
+				index.fDirty = true;
+			}
+		}
+		return index;
+	}
+
+	/**
+	 * @return the directory this index describes
+	 */
+	File getSite() {
+		return fSite;
+	}
+
+	/**
+	 * Returns the target bundle for the given file of the indexed directory,
+	 * restored from the index if the file has not changed since it was
+	 * recorded.
+	 *
+	 * @param file a file in the indexed directory
+	 * @return the target bundle or <code>null</code> if the file is not a
+	 *         bundle
+	 */
+	public TargetBundle getBundle(File file) {
+		String name = file.getName();
+		List<FileStamp> stamps = FileStamp.ofBundle(file, DIRECTORY_STAMP_FILES);
+		IndexEntry entry = fEntries.get(name);
+		if (entry != null && entry.stamps().equals(stamps)) {
+			return entry.bundle();
+		}
+		TargetBundle bundle;
+		try {
+			bundle = new TargetBundle(file);
+		} catch (CoreException e) {
+			// Ignore non-bundle files
+			bundle = null;
+		}
+		fEntries.put(name, new IndexEntry(stamps, bundle));
+		fDirty = true;
+		return bundle;
+	}
+
+	/**
+	 * Writes the index if it changed. Entries of files that no longer exist in
+	 * the directory are dropped, entries of files that were not requested since
+	 * the index was loaded are kept.
+	 */
+	public synchronized void save() {
+		if (fEntries.keySet().removeIf(name -> !new File(fSite, name).exists())) {
+			fDirty = true;
+		}
+		if (!fDirty) {
+			return;
+		}
+		// cleared before writing so entries added meanwhile mark the index
+		// dirty again
+		fDirty = false;
+		Path tmp = null;
+		try {
+			Path parent = fFile.toPath().getParent();
+			Files.createDirectories(parent);
+			tmp = Files.createTempFile(parent, fFile.getName(), ".tmp"); //$NON-NLS-1$
+			try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+				write(out);
+			}
+			Files.move(tmp, fFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		} catch (IOException e) {
+			fDirty = true;
+			PDECore.log(Status.warning("Unable to write bundle index for " + fSite, e)); //$NON-NLS-1$
+		} finally {
+			if (tmp != null) {
+				try {
+					Files.deleteIfExists(tmp);
+				} catch (IOException e) {
+					// nothing to do
+				}
+			}
+		}
+	}
+
+	private void read(DataInputStream in, String path) throws IOException {
+		if (in.readInt() != MAGIC || in.readInt() != VERSION || !path.equals(readString(in))) {
+			// another format or a hash collision with another directory
+			fDirty = true;
+			return;
+		}
+		int size = in.readInt();
+		for (int i = 0; i < size; i++) {
+			String name = readString(in);
+			List<FileStamp> stamps = FileStamp.readAll(in);
+			TargetBundle bundle = null;
+			if (in.readBoolean()) {
+				BundleInfo info = new BundleInfo(new File(fSite, name).toURI());
+				info.setSymbolicName(readString(in));
+				info.setVersion(readString(in));
+				info.setManifest(readString(in));
+				boolean isFragment = in.readBoolean();
+				BundleInfo sourceTarget = null;
+				if (in.readBoolean()) {
+					String location = readString(in);
+					sourceTarget = new BundleInfo(readString(in), readString(in),
+							location != null ? URI.create(location) : null, BundleInfo.NO_LEVEL, false);
+				}
+				bundle = new RestoredTargetBundle(info, isFragment, sourceTarget, readString(in));
+			}
+			fEntries.put(name, new IndexEntry(stamps, bundle));
+		}
+	}
+
+	private void write(DataOutputStream out) throws IOException {
+		out.writeInt(MAGIC);
+		out.writeInt(VERSION);
+		writeString(out, fSite.getAbsolutePath());
+		// entries may be added concurrently
+		Map<String, IndexEntry> entries = new HashMap<>(fEntries);
+		out.writeInt(entries.size());
+		for (Map.Entry<String, IndexEntry> e : entries.entrySet()) {
+			IndexEntry entry = e.getValue();
+			writeString(out, e.getKey());
+			FileStamp.writeAll(out, entry.stamps());
+			TargetBundle bundle = entry.bundle();
+			out.writeBoolean(bundle != null);
+			if (bundle != null) {
+				BundleInfo info = bundle.getBundleInfo();
+				writeString(out, info.getSymbolicName());
+				writeString(out, info.getVersion());
+				writeString(out, info.getManifest());
+				out.writeBoolean(bundle.isFragment());
+				BundleInfo sourceTarget = bundle.getSourceTarget();
+				out.writeBoolean(sourceTarget != null);
+				if (sourceTarget != null) {
+					URI location = sourceTarget.getLocation();
+					writeString(out, location != null ? location.toString() : null);
+					writeString(out, sourceTarget.getSymbolicName());
+					writeString(out, sourceTarget.getVersion());
+				}
+				writeString(out, bundle.getSourcePath());
+			}
+		}
+	}
+
+	private static String readString(DataInputStream in) throws IOException {
+		int length = in.readInt();
+		if (length < 0) {
+			return null;
+		}
+		byte[] bytes = new byte[length];
+		in.readFully(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	private static void writeString(DataOutputStream out, String s) throws IOException {
+		if (s == null) {
+			out.writeInt(-1);
+			return;
+		}
+		// manifests easily exceed the writeUTF() limit
+		byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+		out.writeInt(bytes.length);
+		out.write(bytes);
+	}
+
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2022 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -92,6 +92,12 @@ public class FeatureBundleContainer extends AbstractBundleContainer {
 		return TYPE;
 	}
 
+	@Override
+	protected boolean isConcurrentResolutionSafe() {
+		// only reads its own files
+		return true;
+	}
+
 	/**
 	 * Returns the symbolic name of the feature this bundle container resolves from
 	 *
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2020 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -101,6 +101,12 @@ public class ProfileBundleContainer extends AbstractBundleContainer {
 		return TYPE;
 	}
 
+	@Override
+	protected boolean isConcurrentResolutionSafe() {
+		// only reads its own files
+		return true;
+	}
+
 	/**
 	 * Returns the configuration area for this container if one was specified during creation.
 	 *
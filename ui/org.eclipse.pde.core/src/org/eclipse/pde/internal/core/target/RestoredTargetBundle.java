@@ -0,0 +1,43 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - persistent index of directory target locations
+ *******************************************************************************/
+package org.eclipse.pde.internal.core.target;
+
+import org.eclipse.equinox.frameworkadmin.BundleInfo;
+import org.eclipse.pde.core.target.TargetBundle;
+
+/**
+ * Target bundle restored from a {@link DirectoryBundleIndex} instead of being
+ * read from the bundle's manifest.
+ */
+class RestoredTargetBundle extends TargetBundle {
+
+	/**
+	 * Creates a target bundle from previously recorded information.
+	 *
+	 * @param bundleInfo bundle info containing symbolic name, version, location
+	 *            and manifest of the bundle
+	 * @param isFragment whether the bundle is a fragment
+	 * @param sourceTarget the bundle this bundle provides source for or
+	 *            <code>null</code>
+	 * @param sourcePath the source path of an old style source bundle or
+	 *            <code>null</code>
+	 */
+	RestoredTargetBundle(BundleInfo bundleInfo, boolean isFragment, BundleInfo sourceTarget, String sourcePath) {
+		fInfo = bundleInfo;
+		fIsFragment = isFragment;
+		fSourceTarget = sourceTarget;
+		fSourcePath = sourcePath;
+	}
+
+}
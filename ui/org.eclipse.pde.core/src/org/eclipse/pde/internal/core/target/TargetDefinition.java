@@ -363,28 +363,34 @@ public class TargetDefinition implements ITargetDefinition {
 			return fResolutionStatus = Status.OK_STATUS;
 		}
 		fResolutionStatus = null;
-		SubMonitor subMonitor = SubMonitor.convert(monitor, Messages.TargetDefinition_1, targetLocations.length * 100);
+		SubMonitor subMonitor = SubMonitor.convert(monitor, Messages.TargetDefinition_1,
+				targetLocations.length * ConcurrentLocationResolver.TICKS_PER_LOCATION);
 		try {
 			MultiStatus status = new MultiStatus(PDECore.PLUGIN_ID, 0, Messages.TargetDefinition_2);
 			Map<P2TargetUtils, List<ITargetLocation>> synchronizers = new HashMap<>();
 			// clear all previous maps
 			P2TargetUtils.fgTargetArtifactRepo.clear();
 			P2TargetUtils.fgArtifactKeyRepoFile.clear();
+			List<ITargetLocation> independentLocations = new ArrayList<>();
 			for (ITargetLocation location : targetLocations) {
-				subMonitor.checkCanceled();
-				subMonitor.subTask(Messages.TargetDefinition_4);
 				P2TargetUtils synchronizer = location.getAdapter(P2TargetUtils.class);
 				if (synchronizer == null) {
 					// a usual target definition location
-					IStatus s = location.resolve(this, subMonitor.split(100));
-					if (!s.isOK()) {
-						status.add(s);
-					}
+					independentLocations.add(location);
 				} else {
 					// has to be performed later on in a separate batch
 					synchronizers.computeIfAbsent(synchronizer, nil -> new ArrayList<>()).add(location);
 				}
 			}
+			// usual locations do not share any state and are resolved
+			// concurrently, the status is reported in definition order
+			subMonitor.checkCanceled();
+			subMonitor.subTask(Messages.TargetDefinition_4);
+			for (IStatus s : new ConcurrentLocationResolver(this).resolve(independentLocations, subMonitor)) {
+				if (!s.isOK()) {
+					status.add(s);
+				}
+			}
 			if (!synchronizers.isEmpty()) {
 				List<ITargetLocation> delayedLocations = synchronizers.values().stream().flatMap(Collection::stream)
 						.toList();
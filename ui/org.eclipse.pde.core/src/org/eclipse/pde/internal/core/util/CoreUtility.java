@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -148,8 +148,8 @@ public class CoreUtility {
 	}
 
 	public static boolean jarContainsResource(File file, String resource, boolean directory) {
-		try (ZipFile jarFile = new ZipFile(file, ZipFile.OPEN_READ);) {
-			ZipEntry resourceEntry = jarFile.getEntry(resource);
+		try (ZipFilePool.Handle handle = ZipFilePool.getDefault().acquire(file)) {
+			ZipEntry resourceEntry = handle.getZipFile().getEntry(resource);
 			if (resourceEntry != null) {
 				return directory ? resourceEntry.isDirectory() : true;
 			}
@@ -180,7 +180,8 @@ public class CoreUtility {
 		try {
 			String extension = IPath.fromOSString(bundleLocation.getName()).getFileExtension();
 			if ("jar".equals(extension) && bundleLocation.isFile()) { //$NON-NLS-1$
-				try (ZipFile jarFile = new ZipFile(bundleLocation, ZipFile.OPEN_READ)) {
+				try (ZipFilePool.Handle handle = ZipFilePool.getDefault().acquire(bundleLocation)) {
+					ZipFile jarFile = handle.getZipFile();
 					ZipEntry manifestEntry = jarFile.getEntry(path);
 					if (manifestEntry != null) {
 						InputStream stream = jarFile.getInputStream(manifestEntry);
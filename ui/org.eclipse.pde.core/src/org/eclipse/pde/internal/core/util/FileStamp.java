@@ -0,0 +1,97 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - stamp of the files recorded by the PDE caches
+ *******************************************************************************/
+package org.eclipse.pde.internal.core.util;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Size and modification time of a file, used by caches to detect whether a
+ * file changed since its content was recorded. A file that does not exist has
+ * size and modification time <code>0</code>.
+ * <p>
+ * Both values are kept separately so a change of one can never be cancelled
+ * out by a change of the other.
+ * </p>
+ *
+ * @param length size of the file
+ * @param lastModified modification time of the file
+ */
+public record FileStamp(long length, long lastModified) {
+
+	/**
+	 * @param file the file to stamp
+	 * @return the current stamp of the file
+	 */
+	public static FileStamp of(File file) {
+		return new FileStamp(file.length(), file.lastModified());
+	}
+
+	/**
+	 * Returns the stamps of the files a bundle is read from: the archive
+	 * itself, or the given descriptors of a bundle in directory form, which
+	 * can change without touching the directory itself.
+	 *
+	 * @param location the archive or directory of the bundle
+	 * @param descriptors paths of the descriptors relative to a directory
+	 * @return the stamps, one per descriptor for a directory
+	 */
+	public static List<FileStamp> ofBundle(File location, String... descriptors) {
+		if (!location.isDirectory()) {
+			return List.of(of(location));
+		}
+		List<FileStamp> stamps = new ArrayList<>(descriptors.length);
+		for (String descriptor : descriptors) {
+			stamps.add(of(new File(location, descriptor)));
+		}
+		return List.copyOf(stamps);
+	}
+
+	/**
+	 * @param file the file to compare with
+	 * @return whether the file still has this stamp
+	 */
+	public boolean matches(File file) {
+		return file.length() == length && file.lastModified() == lastModified;
+	}
+
+	public void write(DataOutput out) throws IOException {
+		out.writeLong(length);
+		out.writeLong(lastModified);
+	}
+
+	public static FileStamp read(DataInput in) throws IOException {
+		return new FileStamp(in.readLong(), in.readLong());
+	}
+
+	public static void writeAll(DataOutput out, List<FileStamp> stamps) throws IOException {
+		out.writeInt(stamps.size());
+		for (FileStamp stamp : stamps) {
+			stamp.write(out);
+		}
+	}
+
+	public static List<FileStamp> readAll(DataInput in) throws IOException {
+		int size = in.readInt();
+		List<FileStamp> stamps = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			stamps.add(read(in));
+		}
+		return List.copyOf(stamps);
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2024 IBM Corporation and others.
+ * Copyright (c) 2006, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -119,24 +119,21 @@ public class ManifestUtils {
 		// Check if the file is a archive or a directory
 		try {
 			if (bundleLocation.isFile()) {
-				ZipFile jarFile = null;
-				InputStream stream = null;
-				try {
-					jarFile = new ZipFile(bundleLocation, ZipFile.OPEN_READ);
+				try (ZipFilePool.Handle handle = ZipFilePool.getDefault().acquire(bundleLocation)) {
+					ZipFile jarFile = handle.getZipFile();
 					// Check the manifest.MF
 					ZipEntry manifestEntry = jarFile.getEntry(JarFile.MANIFEST_NAME);
 					if (manifestEntry != null) {
-						stream = jarFile.getInputStream(manifestEntry);
-						if (stream != null) {
-							Map<String, String> map = ManifestElement.parseBundleManifest(stream, null);
-							// Symbolic name is the only required manifest entry, this is an ok bundle
-							if (map != null && map.containsKey(Constants.BUNDLE_SYMBOLICNAME)) {
-								return map;
+						try (InputStream stream = jarFile.getInputStream(manifestEntry)) {
+							if (stream != null) {
+								Map<String, String> map = ManifestElement.parseBundleManifest(stream, null);
+								// Symbolic name is the only required manifest entry, this is an ok bundle
+								if (map != null && map.containsKey(Constants.BUNDLE_SYMBOLICNAME)) {
+									return map;
+								}
 							}
 						}
 					}
-				} finally {
-					closeZipFileAndStream(stream, jarFile);
 				}
 			} else {
 				// Check the manifest.MF
@@ -260,26 +257,6 @@ public class ManifestUtils {
 		return null;
 	}
 
-	/**
-	 * Closes the stream and file
-	 */
-	private static void closeZipFileAndStream(InputStream stream, ZipFile jarFile) {
-		try {
-			if (stream != null) {
-				stream.close();
-			}
-		} catch (IOException e) {
-			PDECore.log(e);
-		}
-		try {
-			if (jarFile != null) {
-				jarFile.close();
-			}
-		} catch (IOException e) {
-			PDECore.log(e);
-		}
-	}
-
 	private static void writeEntry(Writer out, String key, String value) throws IOException {
 		if (value != null && value.length() > 0) {
 			out.write(splitOnComma(key + ": " + value)); //$NON-NLS-1$
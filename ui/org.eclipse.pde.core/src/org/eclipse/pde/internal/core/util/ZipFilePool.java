@@ -0,0 +1,259 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - shared pool of open bundle archives
+ *******************************************************************************/
+package org.eclipse.pde.internal.core.util;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipFile;
+
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.pde.internal.core.PDECore;
+
+/**
+ * Shares open {@link ZipFile}s between the readers of bundle jars, so reading
+ * the manifest, the tracing options and the schemas of the same jar only parses
+ * its central directory once.
+ * <p>
+ * Handles are reference counted. At most a fixed number of jars is kept open
+ * while not in use, the least recently used ones are closed first. Jars that
+ * are not used for a while are closed so they are not locked on disk, and a
+ * jar that was modified since it was opened is opened again.
+ * </p>
+ */
+public class ZipFilePool {
+
+	/**
+	 * An acquired jar, must be closed to release it to the pool
+	 */
+	public static final class Handle implements AutoCloseable {
+		private final ZipFilePool fPool;
+		private final Entry fEntry;
+		private boolean fClosed;
+
+		Handle(ZipFilePool pool, Entry entry) {
+			fPool = pool;
+			fEntry = entry;
+		}
+
+		public ZipFile getZipFile() {
+			return fEntry.zipFile;
+		}
+
+		@Override
+		public void close() {
+			if (!fClosed) {
+				fClosed = true;
+				fPool.release(fEntry);
+			}
+		}
+	}
+
+	private static final class Entry {
+		final ZipFile zipFile;
+		final FileStamp stamp;
+		int references;
+		long lastUsed;
+		boolean retired;
+
+		Entry(ZipFile zipFile, FileStamp stamp) {
+			this.zipFile = zipFile;
+			this.stamp = stamp;
+		}
+	}
+
+	private static final int DEFAULT_CAPACITY = 64;
+
+	/**
+	 * Time in milliseconds after which a jar that is not used is closed
+	 */
+	private static final long IDLE_TIMEOUT = 5000;
+
+	private static final ZipFilePool DEFAULT = new ZipFilePool(DEFAULT_CAPACITY);
+
+	private final int fCapacity;
+	private final Map<String, Entry> fEntries = new LinkedHashMap<>(16, 0.75f, true);
+	private final Job fCloseIdleJob;
+	/**
+	 * Whether the close idle job is scheduled, guarded by the pool
+	 */
+	private boolean fCloseIdleScheduled;
+	private long fOpenCount;
+	private long fHitCount;
+
+	public ZipFilePool(int capacity) {
+		fCapacity = capacity;
+		fCloseIdleJob = Job.createSystem("Close idle jar files", monitor -> closeIdle()); //$NON-NLS-1$
+	}
+
+	/**
+	 * @return the pool shared by the readers in PDE Core
+	 */
+	public static ZipFilePool getDefault() {
+		return DEFAULT;
+	}
+
+	/**
+	 * Returns a handle to the given jar, opening it unless it is already open
+	 * and did not change since. The handle must be closed when the jar is no
+	 * longer read.
+	 *
+	 * @param file the jar
+	 * @return the handle to the open jar
+	 * @throws IOException if the jar cannot be opened
+	 */
+	public Handle acquire(File file) throws IOException {
+		String key = file.getAbsolutePath();
+		FileStamp stamp = FileStamp.of(file);
+		synchronized (this) {
+			Entry entry = fEntries.get(key);
+			if (entry != null && entry.stamp.equals(stamp)) {
+				fHitCount++;
+				entry.references++;
+				return new Handle(this, entry);
+			}
+		}
+		// open outside of the lock so jars can be opened in parallel
+		ZipFile zipFile = new ZipFile(file, ZipFile.OPEN_READ);
+		List<ZipFile> toClose = new ArrayList<>();
+		Entry entry;
+		synchronized (this) {
+			entry = fEntries.get(key);
+			if (entry != null && entry.stamp.equals(stamp)) {
+				// opened concurrently
+				toClose.add(zipFile);
+				fOpenCount++;
+				entry.references++;
+			} else {
+				if (entry != null) {
+					retire(entry, toClose);
+				}
+				entry = new Entry(zipFile, stamp);
+				entry.references++;
+				fEntries.put(key, entry);
+				fOpenCount++;
+				evict(toClose);
+			}
+		}
+		close(toClose);
+		return new Handle(this, entry);
+	}
+
+	private void release(Entry entry) {
+		List<ZipFile> toClose = new ArrayList<>();
+		boolean schedule;
+		synchronized (this) {
+			entry.references--;
+			entry.lastUsed = System.currentTimeMillis();
+			if (entry.retired && entry.references == 0) {
+				toClose.add(entry.zipFile);
+			}
+			// the job reschedules itself while jars are open
+			schedule = !fCloseIdleScheduled;
+			fCloseIdleScheduled = true;
+		}
+		close(toClose);
+		if (schedule) {
+			fCloseIdleJob.schedule(IDLE_TIMEOUT);
+		}
+	}
+
+	/**
+	 * Removes the least recently used jars until the pool is within its
+	 * capacity. Jars still in use are closed when they are released.
+	 */
+	private void evict(List<ZipFile> toClose) {
+		Iterator<Entry> iterator = fEntries.values().iterator();
+		while (fEntries.size() > fCapacity && iterator.hasNext()) {
+			Entry entry = iterator.next();
+			iterator.remove();
+			retire(entry, toClose);
+		}
+	}
+
+	private static void retire(Entry entry, List<ZipFile> toClose) {
+		entry.retired = true;
+		if (entry.references == 0) {
+			toClose.add(entry.zipFile);
+		}
+	}
+
+	private void closeIdle() {
+		List<ZipFile> toClose = new ArrayList<>();
+		long idleSince = System.currentTimeMillis() - IDLE_TIMEOUT;
+		boolean remaining;
+		synchronized (this) {
+			fEntries.values().removeIf(entry -> {
+				if (entry.references == 0 && entry.lastUsed <= idleSince) {
+					retire(entry, toClose);
+					return true;
+				}
+				return false;
+			});
+			remaining = !fEntries.isEmpty();
+			fCloseIdleScheduled = remaining;
+		}
+		close(toClose);
+		if (remaining) {
+			fCloseIdleJob.schedule(IDLE_TIMEOUT);
+		}
+	}
+
+	/**
+	 * Closes all jars that are not in use and reports the number of opened
+	 * jars and of reused handles since the pool was created.
+	 */
+	public void clear() {
+		fCloseIdleJob.cancel();
+		List<ZipFile> toClose = new ArrayList<>();
+		synchronized (this) {
+			fEntries.values().forEach(entry -> retire(entry, toClose));
+			fEntries.clear();
+			fCloseIdleScheduled = false;
+		}
+		close(toClose);
+		if (PDECore.DEBUG_MODEL) {
+			System.out.println("Jar file pool: " + getOpenCount() + " opened, " + getHitCount() + " reused"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		}
+	}
+
+	/**
+	 * @return the number of jars opened since the pool was created
+	 */
+	public synchronized long getOpenCount() {
+		return fOpenCount;
+	}
+
+	/**
+	 * @return the number of handles served from an already open jar since the
+	 *         pool was created
+	 */
+	public synchronized long getHitCount() {
+		return fHitCount;
+	}
+
+	private static void close(List<ZipFile> zipFiles) {
+		for (ZipFile zipFile : zipFiles) {
+			try {
+				zipFile.close();
+			} catch (IOException e) {
+				// nothing to do
+			}
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2007, 2023 IBM Corporation and others.
+ *  Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -139,11 +139,18 @@ public class LaunchValidationOperation implements IWorkspaceRunnable {
 	}
 
 	public boolean isEmpty() {
-		return fOperation.getState().getHighestBundleId() == -1;
+		return fOperation.isEmpty();
 	}
 
 	protected State getState() {
 		return fOperation.getState();
 	}
 
+	/**
+	 * @return whether a bundle with the given symbolic name was validated
+	 */
+	protected boolean hasBundle(String symbolicName) {
+		return fOperation.hasBundle(symbolicName);
+	}
+
 }
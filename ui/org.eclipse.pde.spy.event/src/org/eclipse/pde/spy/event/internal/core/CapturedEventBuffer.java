@@ -0,0 +1,74 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - bounded buffer of captured events
+ *******************************************************************************/
+package org.eclipse.pde.spy.event.internal.core;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.pde.spy.event.internal.model.CapturedEvent;
+
+/**
+ * Keeps the last captured events up to a fixed capacity. Adding an event to a
+ * full buffer drops the oldest one. Events are added on the publishing threads
+ * and read in batches on the UI thread.
+ */
+public class CapturedEventBuffer {
+	public static final int DEFAULT_CAPACITY = 10000;
+
+	private final CapturedEvent[] events;
+
+	private long count;
+
+	public CapturedEventBuffer(int capacity) {
+		events = new CapturedEvent[Math.max(capacity, 1)];
+	}
+
+	public synchronized void add(CapturedEvent event) {
+		events[(int) (count % events.length)] = event;
+		count++;
+	}
+
+	/**
+	 * @param sequence
+	 *            the number of events added when the buffer was last read
+	 * @return the events added since then that were not dropped yet, oldest
+	 *         first
+	 */
+	public synchronized List<CapturedEvent> getEventsSince(long sequence) {
+		long first = Math.max(sequence, count - events.length);
+		List<CapturedEvent> result = new ArrayList<>((int) Math.max(count - first, 0));
+		for (long i = first; i < count; i++) {
+			result.add(events[(int) (i % events.length)]);
+		}
+		return result;
+	}
+
+	/**
+	 * @return the number of events added since the buffer was created
+	 */
+	public synchronized long getCount() {
+		return count;
+	}
+
+	/**
+	 * @return the number of events dropped to make room for newer ones
+	 */
+	public synchronized long getDropped() {
+		return Math.max(count - events.length, 0);
+	}
+
+	public int getCapacity() {
+		return events.length;
+	}
+}
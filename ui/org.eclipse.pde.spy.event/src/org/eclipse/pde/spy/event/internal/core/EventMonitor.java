@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2013, 2022 IBM Corporation and others.
+ * Copyright (c) 2013, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,8 +13,9 @@
  *******************************************************************************/
 package org.eclipse.pde.spy.event.internal.core;
 
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Iterator;
+import java.util.List;
 import java.util.Set;
 
 import org.eclipse.e4.core.services.events.IEventBroker;
@@ -23,6 +24,7 @@ import org.eclipse.e4.ui.services.internal.events.EventBroker;
 import org.eclipse.e4.ui.workbench.UIEvents;
 import org.eclipse.pde.spy.event.internal.model.CapturedEvent;
 import org.eclipse.pde.spy.event.internal.model.CapturedEventFilter;
+import org.eclipse.pde.spy.event.internal.model.ItemToFilter;
 import org.osgi.service.event.EventHandler;
 
 @SuppressWarnings("restriction")
@@ -35,7 +37,14 @@ public class EventMonitor {
 	private static Set<Integer> EVENT_HELPER_CLASSES = Set.of(UIEvents.class.getName().hashCode(),
 			UIEventPublisher.class.getName().hashCode());
 
-	private Collection<CapturedEventFilter> filters;
+	private static final StackWalker STACK_WALKER = StackWalker.getInstance();
+
+	// filters are evaluated from the cheapest to the most expensive property
+	private final List<CapturedEventFilter> eventFilters = new ArrayList<>();
+
+	private final List<CapturedEventFilter> parameterFilters = new ArrayList<>();
+
+	private final List<CapturedEventFilter> publisherFilters = new ArrayList<>();
 
 	private final IEventBroker eventBroker;
 
@@ -50,17 +59,25 @@ public class EventMonitor {
 
 		CapturedEvent capturedEvent = new CapturedEvent();
 		capturedEvent.setTopic(event.getTopic());
-		capturedEvent.setPublisherClassName(getPublisherClassName());
+		Object element = event.getProperty(UIEvents.EventTags.ELEMENT);
+		if (element != null) {
+			capturedEvent.setChangedElementClassName(element.getClass().getName());
+		}
+		if (!matches(capturedEvent, eventFilters)) {
+			return;
+		}
 
 		for (String propertyName : event.getPropertyNames()) {
-			Object value = event.getProperty(propertyName);
-			capturedEvent.addParameter(propertyName, value);
-			if (value != null && UIEvents.EventTags.ELEMENT.equals(propertyName)) {
-				capturedEvent.setChangedElementClassName(value.getClass().getName());
-			}
+			capturedEvent.addParameter(propertyName, event.getProperty(propertyName));
+		}
+		if (!matches(capturedEvent, parameterFilters)) {
+			return;
 		}
 
-		if (shouldBeCaptured(capturedEvent)) {
+		// walking the stack is by far the most expensive part, only do it for
+		// events that passed the other filters
+		capturedEvent.setPublisherClassName(getPublisherClassName());
+		if (matches(capturedEvent, publisherFilters)) {
 			listener.newEvent(capturedEvent);
 		}
 	};
@@ -70,7 +87,14 @@ public class EventMonitor {
 	}
 
 	public void start(String baseTopic, Collection<CapturedEventFilter> filters) {
-		this.filters = filters;
+		eventFilters.clear();
+		parameterFilters.clear();
+		publisherFilters.clear();
+		if (filters != null) {
+			for (CapturedEventFilter filter : filters) {
+				getFilters(filter.getItemToFilter()).add(filter);
+			}
+		}
 		eventBroker.subscribe(baseTopic, eventHandler);
 	}
 
@@ -82,31 +106,34 @@ public class EventMonitor {
 		this.listener = listener;
 	}
 
-	private boolean shouldBeCaptured(CapturedEvent event) {
-		if (filters != null) {
-			Iterator<CapturedEventFilter> iter = filters.iterator();
-			while (iter.hasNext()) {
-				if (!getEventFilterMatcher().matches(event, iter.next())) {
-					return false;
-				}
+	private List<CapturedEventFilter> getFilters(ItemToFilter itemToFilter) {
+		return switch (itemToFilter) {
+		case ParameterName, ParameterValue, ParameterNameAndValue -> parameterFilters;
+		case Publisher -> publisherFilters;
+		default -> eventFilters;
+		};
+	}
+
+	private boolean matches(CapturedEvent event, List<CapturedEventFilter> filters) {
+		for (CapturedEventFilter filter : filters) {
+			if (!getEventFilterMatcher().matches(event, filter)) {
+				return false;
 			}
 		}
 		return true;
 	}
 
 	private String getPublisherClassName() {
-		StackTraceElement[] items = Thread.currentThread().getStackTrace();
-		boolean foundEventBroker = false;
-
-		for (int i = 0; i < items.length; i++) {
-			String clsName = items[i].getClassName();
-			if (!foundEventBroker && clsName.equals(EventBroker.class.getName())) {
-				foundEventBroker = true;
-			} else if (foundEventBroker && !EVENT_HELPER_CLASSES.contains(clsName.hashCode())) {
-				return String.format("%s (%s:%d)", clsName, items[i].getMethodName(), items[i].getLineNumber()); //$NON-NLS-1$
-			}
-		}
-		return ""; //$NON-NLS-1$
+		// unlike Thread.getStackTrace(), only the frames up to the publisher are
+		// materialized
+		return STACK_WALKER.walk(frames -> frames //
+				.dropWhile(frame -> !frame.getClassName().equals(EventBroker.class.getName())) //
+				.skip(1) //
+				.filter(frame -> !EVENT_HELPER_CLASSES.contains(frame.getClassName().hashCode())) //
+				.findFirst() //
+				.map(frame -> String.format("%s (%s:%d)", frame.getClassName(), frame.getMethodName(), //$NON-NLS-1$
+						frame.getLineNumber()))
+				.orElse("")); //$NON-NLS-1$
 	}
 
 	private CapturedEventFilterMatcher getEventFilterMatcher() {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2013, 2022 IBM Corporation and others.
+ * Copyright (c) 2013, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,6 +14,8 @@
 package org.eclipse.pde.spy.event.internal.ui;
 
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
 
 import org.eclipse.core.databinding.beans.typed.PojoProperties;
 import org.eclipse.core.databinding.observable.IObservable;
@@ -353,6 +355,21 @@ public class CapturedEventTree extends TreeViewer {
 		capturedEvents.add(event);
 	}
 
+	/**
+	 * Adds the given events and removes the oldest ones so that at most the
+	 * given number of events remains
+	 */
+	public void addEvents(List<CapturedEvent> events, int capacity) {
+		if (events.isEmpty()) {
+			return;
+		}
+		int excess = capturedEvents.size() + events.size() - capacity;
+		if (excess > 0) {
+			capturedEvents.removeAll(new HashSet<>(capturedEvents.subList(0, Math.min(excess, capturedEvents.size()))));
+		}
+		capturedEvents.addAll(events.size() > capacity ? events.subList(events.size() - capacity, events.size()) : events);
+	}
+
 	public void setListener(ICapturedEventTreeListener listener) {
 		this.listener = listener;
 	}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2013, 2022 IBM Corporation and others.
+ * Copyright (c) 2013, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -18,11 +18,14 @@
 package org.eclipse.pde.spy.event.internal.ui;
 
 import java.util.Collection;
+import java.util.List;
 
 import org.eclipse.e4.core.contexts.IEclipseContext;
 import org.eclipse.e4.core.di.annotations.Optional;
 import org.eclipse.e4.core.services.events.IEventBroker;
 import org.eclipse.e4.ui.model.application.MApplication;
+import org.eclipse.osgi.util.NLS;
+import org.eclipse.pde.spy.event.internal.core.CapturedEventBuffer;
 import org.eclipse.pde.spy.event.internal.core.EventMonitor;
 import org.eclipse.pde.spy.event.internal.model.CapturedEvent;
 import org.eclipse.pde.spy.event.internal.model.CapturedEventFilter;
@@ -34,6 +37,8 @@ import org.eclipse.swt.layout.GridLayout;
 import org.eclipse.swt.layout.RowData;
 import org.eclipse.swt.layout.RowLayout;
 import org.eclipse.swt.widgets.Composite;
+import org.eclipse.swt.widgets.Label;
+import org.eclipse.swt.widgets.Spinner;
 
 import jakarta.annotation.PostConstruct;
 import jakarta.annotation.PreDestroy;
@@ -53,6 +58,23 @@ public class EventSpyPart implements EventMonitor.NewEventListener {
 
 	private ToggleLink showFiltersLink;
 
+	private static final int REFRESH_INTERVAL = 500;
+
+	private Spinner capacitySpinner;
+
+	private Label statisticsLabel;
+
+	// events are captured on the publishing threads and shown in batches
+	private volatile CapturedEventBuffer capturedEventBuffer;
+
+	private boolean capturing;
+
+	private long shownCount;
+
+	private long lastRefreshTime;
+
+	private final Runnable refresher = this::refreshCapturedEvents;
+
 	@Inject
 	private LoggerWrapper logger;
 
@@ -89,6 +111,9 @@ public class EventSpyPart implements EventMonitor.NewEventListener {
 		outer.setLayoutData(new GridData(GridData.FILL_BOTH));
 
 		createActionBar(outer);
+		if (memento != null && memento.getCapacity() > 0) {
+			capacitySpinner.setSelection(memento.getCapacity());
+		}
 		createFilters(memento);
 		createCapturedEventTree(outer);
 	}
@@ -110,6 +135,12 @@ public class EventSpyPart implements EventMonitor.NewEventListener {
 			}
 			memento.setFilters(filters);
 		}
+		if (capacitySpinner.getSelection() != CapturedEventBuffer.DEFAULT_CAPACITY) {
+			if (memento == null) {
+				memento = new SpyPartMemento();
+			}
+			memento.setCapacity(capacitySpinner.getSelection());
+		}
 		if (memento != null) {
 			context.set(SpyPartMemento.class.getName(), memento);
 		} else if (context.containsKey(SpyPartMemento.class.getName())) {
@@ -141,6 +172,17 @@ public class EventSpyPart implements EventMonitor.NewEventListener {
 		showFiltersLink.setText(new String[] { SHOW_FILTER_LINK_TEXT[0], SHOW_FILTER_LINK_TEXT[1] });
 		showFiltersLink.getControl().setLayoutData(new RowData(130, SWT.DEFAULT));
 		showFiltersLink.setClickListener(this::showFilters);
+
+		Composite capacity = new Composite(actionBar, SWT.NONE);
+		RowLayout capacityLayout = new RowLayout(SWT.HORIZONTAL);
+		capacityLayout.center = true;
+		capacityLayout.marginTop = capacityLayout.marginBottom = 0;
+		capacity.setLayout(capacityLayout);
+		new Label(capacity, SWT.NONE).setText(Messages.EventSpyPart_Capacity);
+		capacitySpinner = new Spinner(capacity, SWT.BORDER);
+		capacitySpinner.setValues(CapturedEventBuffer.DEFAULT_CAPACITY, 100, 1000000, 0, 100, 1000);
+
+		statisticsLabel = new Label(actionBar, SWT.NONE);
 	}
 
 	private void createFilters(SpyPartMemento memento) {
@@ -166,11 +208,17 @@ public class EventSpyPart implements EventMonitor.NewEventListener {
 
 	public void captureEvents() {
 		capturedEventTree.removeAll();
+		capturedEventBuffer = new CapturedEventBuffer(capacitySpinner.getSelection());
+		shownCount = 0;
+		lastRefreshTime = System.nanoTime();
 		if (eventMonitor == null) {
 			eventMonitor = new EventMonitor(eventBroker);
 			eventMonitor.setNewEventListener(this);
 		}
 		eventMonitor.start(capturedEventFilters.getBaseTopic(), capturedEventFilters.getFilters());
+		capturing = true;
+		capacitySpinner.setEnabled(false);
+		outer.getDisplay().timerExec(REFRESH_INTERVAL, refresher);
 		// getShell().setText(DIALOG_TITLE + " - capturing...");
 	}
 
@@ -178,12 +226,43 @@ public class EventSpyPart implements EventMonitor.NewEventListener {
 		if (eventMonitor != null) {
 			eventMonitor.stop();
 		}
+		if (capturing) {
+			capturing = false;
+			refreshCapturedEvents();
+		}
 		// getShell().setText(DIALOG_TITLE);
 	}
 
 	@Override
 	public void newEvent(CapturedEvent event) {
-		capturedEventTree.addEvent(event);
+		CapturedEventBuffer buffer = capturedEventBuffer;
+		if (buffer != null) {
+			buffer.add(event);
+		}
+	}
+
+	private void refreshCapturedEvents() {
+		CapturedEventBuffer buffer = capturedEventBuffer;
+		if (buffer == null || outer.isDisposed()) {
+			return;
+		}
+
+		long count = buffer.getCount();
+		List<CapturedEvent> events = buffer.getEventsSince(shownCount);
+		capturedEventTree.addEvents(events, buffer.getCapacity());
+
+		long now = System.nanoTime();
+		long eventsPerSecond = (count - shownCount) * 1_000_000_000L / Math.max(now - lastRefreshTime, 1);
+		shownCount = count;
+		lastRefreshTime = now;
+		statisticsLabel.setText(NLS.bind(Messages.EventSpyPart_Statistics, eventsPerSecond, buffer.getDropped()));
+		statisticsLabel.getParent().layout();
+
+		if (capturing) {
+			outer.getDisplay().timerExec(REFRESH_INTERVAL, refresher);
+		} else {
+			capacitySpinner.setEnabled(true);
+		}
 	}
 
 	@SuppressWarnings("restriction")
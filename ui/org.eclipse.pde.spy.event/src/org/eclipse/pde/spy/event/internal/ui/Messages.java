@@ -22,9 +22,11 @@ public class Messages extends NLS {
 	public static String CapturedEventTree_Name;
 	public static String CapturedEventTree_Param1;
 	public static String CapturedEventTree_Param2;
+	public static String EventSpyPart_Capacity;
 	public static String EventSpyPart_HideFilters;
 	public static String EventSpyPart_ShowFilters;
 	public static String EventSpyPart_StartCapturingEvents;
+	public static String EventSpyPart_Statistics;
 	public static String EventSpyPart_StopCapturingEvents;
 	static {
 		// initialize resource bundle
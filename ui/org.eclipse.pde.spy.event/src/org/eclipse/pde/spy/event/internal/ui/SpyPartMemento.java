@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2013 IBM Corporation and others.
+ * Copyright (c) 2013, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -22,6 +22,8 @@ public class SpyPartMemento {
 
 	private Collection<CapturedEventFilter> filters;
 
+	private int capacity;
+
 	public void setBaseTopic(String baseTopic) {
 		this.baseTopic = baseTopic;
 	}
@@ -37,4 +39,12 @@ public class SpyPartMemento {
 	public Collection<CapturedEventFilter> getFilters() {
 		return filters;
 	}
+
+	public void setCapacity(int capacity) {
+		this.capacity = capacity;
+	}
+
+	public int getCapacity() {
+		return capacity;
+	}
 }
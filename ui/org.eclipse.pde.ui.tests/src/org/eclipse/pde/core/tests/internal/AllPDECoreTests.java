@@ -9,6 +9,12 @@ import org.junit.runners.Suite.SuiteClasses;
 	DependencyManagerTest.class, //
 	WorkspaceModelManagerTest.class, //
 	WorkspaceProductModelManagerTest.class, //
+	TargetStateSnapshotTest.class, //
+	PluginSearchIndexTest.class, //
+	WorkspaceWiringSnapshotTest.class, //
+	BundleValidationOperationTest.class, //
+	TracingOptionsManagerTest.class, //
+	DirectoryBundleIndexTest.class, //
 })
 public class AllPDECoreTests {
 }
@@ -0,0 +1,115 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - incremental bundle validation
+ *******************************************************************************/
+package org.eclipse.pde.core.tests.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.osgi.service.resolver.BundleDescription;
+import org.eclipse.pde.core.plugin.IPluginModelBase;
+import org.eclipse.pde.core.plugin.PluginRegistry;
+import org.eclipse.pde.internal.core.BundleValidationOperation;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class BundleValidationOperationTest {
+
+	@Before
+	@After
+	public void clearCache() {
+		BundleValidationOperation.clearCache();
+	}
+
+	@Test
+	public void testUnchangedSelectionReusesState() throws Exception {
+		Set<IPluginModelBase> models = Set.of(PluginRegistry.getExternalModels());
+		BundleValidationOperation first = validate(models);
+		BundleValidationOperation second = validate(models);
+		assertSame(first.getState(), second.getState());
+		assertEquals(getBundlesWithErrors(first), getBundlesWithErrors(second));
+	}
+
+	@Test
+	public void testIncrementalMatchesFullValidation() throws Exception {
+		IPluginModelBase[] external = PluginRegistry.getExternalModels();
+		Set<IPluginModelBase> all = new LinkedHashSet<>(Arrays.asList(external));
+		Set<IPluginModelBase> half = new LinkedHashSet<>(Arrays.asList(external).subList(0, external.length / 2));
+
+		validate(all);
+		BundleValidationOperation removed = validate(half);
+		Set<String> removedUnresolved = getBundlesWithErrors(removed);
+		BundleValidationOperation added = validate(all);
+		Set<String> addedUnresolved = getBundlesWithErrors(added);
+
+		BundleValidationOperation.clearCache();
+		assertEquals(getBundlesWithErrors(validate(half)), removedUnresolved);
+		BundleValidationOperation.clearCache();
+		BundleValidationOperation full = validate(all);
+		assertEquals(getBundlesWithErrors(full), addedUnresolved);
+		assertEquals(full.hasErrors(), added.hasErrors());
+	}
+
+	@Test
+	public void testResultsSurviveLaterValidation() throws Exception {
+		IPluginModelBase[] external = PluginRegistry.getExternalModels();
+		Set<IPluginModelBase> all = new LinkedHashSet<>(Arrays.asList(external));
+		BundleValidationOperation first = validate(all);
+		Set<String> unresolved = getBundlesWithErrors(first);
+		boolean hasErrors = first.hasErrors();
+		String name = external[0].getPluginBase().getId();
+
+		validate(Set.of(external[external.length - 1]));
+
+		assertEquals(unresolved, getBundlesWithErrors(first));
+		assertEquals(hasErrors, first.hasErrors());
+		assertTrue(first.hasBundle(name));
+		assertFalse(first.isEmpty());
+	}
+
+	@Test
+	public void testStateChangeClearsCache() throws Exception {
+		Set<IPluginModelBase> models = Set.of(PluginRegistry.getExternalModels());
+		BundleValidationOperation first = validate(models);
+		// what the model manager's state listener does when the target changes
+		BundleValidationOperation.clearCache();
+		BundleValidationOperation second = validate(models);
+		assertNotSame(first.getState(), second.getState());
+		assertEquals(getBundlesWithErrors(first), getBundlesWithErrors(second));
+	}
+
+	private static BundleValidationOperation validate(Set<IPluginModelBase> models) throws Exception {
+		BundleValidationOperation operation = new BundleValidationOperation(models);
+		operation.run(new NullProgressMonitor());
+		return operation;
+	}
+
+	private static Set<String> getBundlesWithErrors(BundleValidationOperation operation) {
+		Set<String> bundles = new TreeSet<>();
+		for (Object bundle : operation.getResolverErrors().keySet()) {
+			BundleDescription description = (BundleDescription) bundle;
+			bundles.add(description.getSymbolicName() + '_' + description.getVersion());
+		}
+		return bundles;
+	}
+}
@@ -0,0 +1,131 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - persistent index of directory target locations
+ *******************************************************************************/
+package org.eclipse.pde.core.tests.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.nio.file.Files;
+
+import org.eclipse.equinox.frameworkadmin.BundleInfo;
+import org.eclipse.pde.core.target.TargetBundle;
+import org.eclipse.pde.internal.core.ICoreConstants;
+import org.eclipse.pde.internal.core.target.DirectoryBundleIndex;
+import org.eclipse.pde.ui.tests.util.ProjectUtils;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class DirectoryBundleIndexTest {
+
+	@Rule
+	public final TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void testBundlesAreRestored() throws Exception {
+		File site = folder.newFolder("plugins");
+		File jar = ProjectUtils.createBundleJar(new File(site, "a_1.0.0.jar"),
+				ProjectUtils.bundleManifest("a", "1.0.0") + "Fragment-Host: b\n");
+		File dir = ProjectUtils.createBundleDirectory(new File(site, "b_2.0.0"), ProjectUtils.bundleManifest("b", "2.0.0"));
+		File text = new File(site, "readme.txt");
+		Files.writeString(text.toPath(), "not a bundle");
+		File indexFile = new File(folder.getRoot(), "index");
+
+		DirectoryBundleIndex index = DirectoryBundleIndex.load(site, indexFile);
+		TargetBundle[] created = { index.getBundle(jar), index.getBundle(dir) };
+		assertNull(index.getBundle(text));
+		index.save();
+		assertTrue(indexFile.isFile());
+
+		index = DirectoryBundleIndex.load(site, indexFile);
+		TargetBundle[] restored = { index.getBundle(jar), index.getBundle(dir) };
+		assertNull(index.getBundle(text));
+		for (int i = 0; i < created.length; i++) {
+			assertNotEquals(TargetBundle.class, restored[i].getClass());
+			BundleInfo expected = created[i].getBundleInfo();
+			BundleInfo actual = restored[i].getBundleInfo();
+			assertEquals(expected.getSymbolicName(), actual.getSymbolicName());
+			assertEquals(expected.getVersion(), actual.getVersion());
+			assertEquals(expected.getLocation(), actual.getLocation());
+			assertEquals(expected.getManifest(), actual.getManifest());
+			assertEquals(created[i].isFragment(), restored[i].isFragment());
+			assertNull(restored[i].getSourceTarget());
+		}
+		assertTrue(restored[0].isFragment());
+	}
+
+	@Test
+	public void testChangedBundlesAreReadAgain() throws Exception {
+		File site = folder.newFolder("plugins");
+		File jar = ProjectUtils.createBundleJar(new File(site, "a.jar"), ProjectUtils.bundleManifest("a", "1.0.0"));
+		File dir = ProjectUtils.createBundleDirectory(new File(site, "b"), ProjectUtils.bundleManifest("b", "1.0.0"));
+		File indexFile = new File(folder.getRoot(), "index");
+
+		DirectoryBundleIndex index = DirectoryBundleIndex.load(site, indexFile);
+		assertEquals("1.0.0", index.getBundle(jar).getBundleInfo().getVersion());
+		assertNull(index.getBundle(dir).getSourcePath());
+		index.save();
+
+		ProjectUtils.createBundleJar(new File(site, "a.jar"), ProjectUtils.bundleManifest("a", "1.0.1"));
+		jar.setLastModified(jar.lastModified() + 2000);
+		// an old style source bundle only declares its source path in plugin.xml
+		Files.writeString(new File(dir, ICoreConstants.PLUGIN_FILENAME_DESCRIPTOR).toPath(), """
+				<?xml version="1.0" encoding="UTF-8"?>
+				<plugin>
+				  <extension point="org.eclipse.pde.core.source">
+				    <location path="src"/>
+				  </extension>
+				</plugin>
+				""");
+
+		index = DirectoryBundleIndex.load(site, indexFile);
+		assertEquals("1.0.1", index.getBundle(jar).getBundleInfo().getVersion());
+		TargetBundle bundle = index.getBundle(dir);
+		assertNotNull(bundle.getSourceTarget());
+		assertEquals("src", bundle.getSourcePath());
+	}
+
+	@Test
+	public void testPartialScanKeepsEntries() throws Exception {
+		File site = folder.newFolder("plugins");
+		File a = ProjectUtils.createBundleJar(new File(site, "a.jar"), ProjectUtils.bundleManifest("a", "1.0.0"));
+		File b = ProjectUtils.createBundleJar(new File(site, "b.jar"), ProjectUtils.bundleManifest("b", "1.0.0"));
+		File c = ProjectUtils.createBundleJar(new File(site, "c.jar"), ProjectUtils.bundleManifest("c", "1.0.0"));
+		File indexFile = new File(folder.getRoot(), "index");
+
+		DirectoryBundleIndex index = DirectoryBundleIndex.load(site, indexFile);
+		for (File file : new File[] { a, b, c }) {
+			index.getBundle(file);
+		}
+		index.save();
+
+		// only one file was requested before saving and one was deleted
+		assertTrue(c.delete());
+		index = DirectoryBundleIndex.load(site, indexFile);
+		index.getBundle(a);
+		index.save();
+
+		index = DirectoryBundleIndex.load(site, indexFile);
+		assertNotEquals("The entry of the file not requested should have been kept", TargetBundle.class,
+				index.getBundle(b).getClass());
+		ProjectUtils.createBundleJar(new File(site, "c.jar"), ProjectUtils.bundleManifest("c", "1.0.0"));
+		assertEquals("The entry of the deleted file should have been dropped", TargetBundle.class,
+				index.getBundle(c).getClass());
+	}
+
+}
@@ -0,0 +1,90 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - persistent plug-in search index
+ *******************************************************************************/
+package org.eclipse.pde.core.tests.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.pde.internal.core.search.PluginSearchIndex;
+import org.eclipse.pde.internal.core.search.PluginSearchInput;
+import org.eclipse.pde.internal.core.search.PluginSearchOperation;
+import org.eclipse.pde.internal.core.search.PluginSearchScope;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class PluginSearchIndexTest {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void testExtensionPointReferences() throws Exception {
+		assertSameResults(PluginSearchInput.ELEMENT_EXTENSION_POINT, PluginSearchInput.LIMIT_REFERENCES,
+				"org.eclipse.core.runtime.preferences");
+	}
+
+	@Test
+	public void testExtensionPointPattern() throws Exception {
+		assertSameResults(PluginSearchInput.ELEMENT_EXTENSION_POINT, PluginSearchInput.LIMIT_ALL, "*.ui.*");
+	}
+
+	@Test
+	public void testPluginReferences() throws Exception {
+		assertSameResults(PluginSearchInput.ELEMENT_PLUGIN, PluginSearchInput.LIMIT_ALL, "org.eclipse.core.runtime");
+	}
+
+	private void assertSameResults(int element, int limit, String searchString) throws Exception {
+		PluginSearchInput input = createInput(element, limit, searchString);
+		List<Object> expected = search(input, null);
+		assertFalse(expected.isEmpty());
+
+		File file = new File(folder.getRoot(), "index");
+		PluginSearchIndex index = new PluginSearchIndex(file);
+		if (element != PluginSearchInput.ELEMENT_EXTENSION_POINT) {
+			// only extension point searches add plug-ins to the index
+			search(createInput(PluginSearchInput.ELEMENT_EXTENSION_POINT, PluginSearchInput.LIMIT_ALL, "*"), index);
+		}
+		assertEquals("index is built", expected, search(input, index));
+		assertTrue(index.size() > 0);
+		assertEquals("index is used", expected, search(input, index));
+
+		index.save();
+		PluginSearchIndex loaded = new PluginSearchIndex(file);
+		assertEquals(index.size(), loaded.size());
+		assertEquals("index is loaded", expected, search(input, loaded));
+	}
+
+	private static PluginSearchInput createInput(int element, int limit, String searchString) {
+		PluginSearchInput input = new PluginSearchInput();
+		input.setSearchElement(element);
+		input.setSearchLimit(limit);
+		input.setSearchString(searchString);
+		input.setSearchScope(new PluginSearchScope(PluginSearchScope.SCOPE_WORKSPACE,
+				PluginSearchScope.EXTERNAL_SCOPE_ALL, null));
+		return input;
+	}
+
+	private static List<Object> search(PluginSearchInput input, PluginSearchIndex index) {
+		List<Object> result = new ArrayList<>();
+		new PluginSearchOperation(input, result::add, index).execute(new NullProgressMonitor());
+		return result;
+	}
+}
@@ -0,0 +1,133 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - persistent snapshot of the target platform state
+ *******************************************************************************/
+package org.eclipse.pde.core.tests.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Map;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.pde.internal.core.TargetStateSnapshot;
+import org.eclipse.pde.internal.core.util.ManifestUtils;
+import org.eclipse.pde.ui.tests.util.ProjectUtils;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.osgi.framework.Constants;
+
+public class TargetStateSnapshotTest {
+
+	@Rule
+	public final TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void testUnchangedBundleIsRestored() throws Exception {
+		File jar = createBundle("a.jar", "bundle.a", "1.0.0");
+		File file = new File(folder.getRoot(), "snapshot");
+
+		TargetStateSnapshot snapshot = TargetStateSnapshot.load(file);
+		assertEquals("bundle.a", snapshot.loadManifest(jar).get(Constants.BUNDLE_SYMBOLICNAME));
+		assertEquals(1, snapshot.getMissCount());
+		snapshot.save();
+
+		snapshot = TargetStateSnapshot.load(file);
+		Map<String, String> manifest = snapshot.loadManifest(jar);
+		assertEquals("bundle.a", manifest.get(Constants.BUNDLE_SYMBOLICNAME));
+		assertEquals("1.0.0", manifest.get(Constants.BUNDLE_VERSION));
+		assertEquals(1, snapshot.getHitCount());
+		assertEquals(0, snapshot.getMissCount());
+	}
+
+	@Test
+	public void testChangedBundleIsReread() throws Exception {
+		File jar = createBundle("a.jar", "bundle.a", "1.0.0");
+		File file = new File(folder.getRoot(), "snapshot");
+
+		TargetStateSnapshot snapshot = TargetStateSnapshot.load(file);
+		snapshot.loadManifest(jar);
+		snapshot.save();
+
+		createBundle("a.jar", "bundle.a", "2.0.0.v20260101");
+		jar.setLastModified(jar.lastModified() + 10_000);
+
+		snapshot = TargetStateSnapshot.load(file);
+		assertEquals("2.0.0.v20260101", snapshot.loadManifest(jar).get(Constants.BUNDLE_VERSION));
+		assertEquals(0, snapshot.getHitCount());
+		assertEquals(1, snapshot.getMissCount());
+	}
+
+	@Test
+	public void testOtherTargetIsKept() throws Exception {
+		File a = createBundle("a.jar", "bundle.a", "1.0.0");
+		File b = createBundle("b.jar", "bundle.b", "1.0.0");
+		File file = new File(folder.getRoot(), "snapshot");
+
+		TargetStateSnapshot snapshot = TargetStateSnapshot.load(file);
+		snapshot.loadManifest(a);
+		snapshot.save();
+
+		// switch to a target that only contains b
+		snapshot = TargetStateSnapshot.load(file);
+		snapshot.loadManifest(b);
+		snapshot.save();
+
+		// and back to the first one
+		snapshot = TargetStateSnapshot.load(file);
+		assertEquals("bundle.a", snapshot.loadManifest(a).get(Constants.BUNDLE_SYMBOLICNAME));
+		assertEquals(1, snapshot.getHitCount());
+		assertEquals(0, snapshot.getMissCount());
+	}
+
+	@Test
+	public void testNonBundleIsRemembered() throws Exception {
+		File jar = ProjectUtils.createBundleJar(new File(folder.getRoot(), "plain.jar"), "Manifest-Version: 1.0\n");
+		File file = new File(folder.getRoot(), "snapshot");
+
+		TargetStateSnapshot snapshot = TargetStateSnapshot.load(file);
+		assertNotABundle(snapshot, jar);
+		snapshot.save();
+
+		snapshot = TargetStateSnapshot.load(file);
+		assertNotABundle(snapshot, jar);
+		assertEquals(1, snapshot.getHitCount());
+	}
+
+	@Test
+	public void testCorruptSnapshotIsIgnored() throws Exception {
+		File jar = createBundle("a.jar", "bundle.a", "1.0.0");
+		File file = folder.newFile("snapshot");
+		try (FileOutputStream out = new FileOutputStream(file)) {
+			out.write(new byte[] { 'P', 'D', 'E', 'S', 0, 0 });
+		}
+
+		TargetStateSnapshot snapshot = TargetStateSnapshot.load(file);
+		assertEquals("bundle.a", snapshot.loadManifest(jar).get(Constants.BUNDLE_SYMBOLICNAME));
+		assertEquals(1, snapshot.getMissCount());
+	}
+
+	private static void assertNotABundle(TargetStateSnapshot snapshot, File jar) {
+		CoreException e = assertThrows(CoreException.class, () -> snapshot.loadManifest(jar));
+		assertEquals(ManifestUtils.STATUS_CODE_NOT_A_BUNDLE_MANIFEST, e.getStatus().getCode());
+	}
+
+	private File createBundle(String name, String symbolicName, String version) throws IOException {
+		return ProjectUtils.createBundleJar(new File(folder.getRoot(), name),
+				ProjectUtils.bundleManifest(symbolicName, version));
+	}
+
+}
@@ -0,0 +1,89 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - cached tracing options of target bundles
+ *******************************************************************************/
+package org.eclipse.pde.core.tests.internal;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.Map;
+
+import org.eclipse.pde.core.plugin.IPluginModelBase;
+import org.eclipse.pde.internal.core.ICoreConstants;
+import org.eclipse.pde.internal.core.TracingOptionsManager;
+import org.eclipse.pde.internal.core.util.ZipFilePool;
+import org.eclipse.pde.ui.tests.util.ProjectUtils;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.Mockito;
+
+public class TracingOptionsManagerTest {
+
+	@Rule
+	public final TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void testTraceableModelsAreCached() throws Exception {
+		File traceable = folder.newFolder("traceable");
+		Files.writeString(new File(traceable, ICoreConstants.OPTIONS_FILENAME).toPath(), "traceable/debug=false\n");
+		File plain = folder.newFolder("plain");
+		File jar = createJar("traceable.jar", ICoreConstants.OPTIONS_FILENAME, "traceable.jar/debug=false\n");
+		IPluginModelBase[] models = { model(traceable), model(plain), model(jar) };
+		File cache = new File(folder.getRoot(), "cache");
+
+		TracingOptionsManager manager = new TracingOptionsManager(cache);
+		IPluginModelBase[] expected = { models[0], models[2] };
+		assertArrayEquals(expected, manager.getTraceableModels(models, null));
+		manager.saveCache();
+		assertTrue(cache.isFile());
+
+		// without options the jar would no longer be traceable, but it is not
+		// read again as its size and modification time did not change, the
+		// entries are stored so the size only depends on their names and content
+		long lastModified = jar.lastModified();
+		createJar("traceable.jar", ".optionz", "traceable.jar/debug=false\n");
+		assertTrue(jar.setLastModified(lastModified));
+		ZipFilePool.getDefault().clear();
+		manager = new TracingOptionsManager(cache);
+		assertArrayEquals(expected, manager.getTraceableModels(models, null));
+
+		Files.writeString(new File(plain, ICoreConstants.OPTIONS_FILENAME).toPath(), "plain/debug=false\n");
+		assertArrayEquals(models, manager.getTraceableModels(models, null));
+	}
+
+	@Test
+	public void testTemplateTable() {
+		TracingOptionsManager manager = new TracingOptionsManager(null);
+		Map<String, String> template = manager.getTracingTemplateCopy(null);
+		assertEquals("false", template.get("org.eclipse.pde.core/debug"));
+		assertEquals("false", template.get("org.eclipse.pde.api.tools/debug"));
+
+		Map<String, String> table = manager.getTemplateTable("org.eclipse.pde.core", null);
+		assertEquals("false", table.get("org.eclipse.pde.core/debug"));
+		assertTrue(table.keySet().stream().allMatch(key -> key.startsWith("org.eclipse.pde.core/")));
+	}
+
+	private File createJar(String name, String entryName, String content) throws Exception {
+		return ProjectUtils.createJar(new File(folder.getRoot(), name), Map.of(entryName, content));
+	}
+
+	private static IPluginModelBase model(File location) {
+		IPluginModelBase model = Mockito.mock(IPluginModelBase.class);
+		Mockito.when(model.getInstallLocation()).thenReturn(location.getAbsolutePath());
+		return model;
+	}
+}
@@ -0,0 +1,134 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - incremental classpath updates on target changes
+ *******************************************************************************/
+package org.eclipse.pde.core.tests.internal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.Dictionary;
+import java.util.Hashtable;
+import java.util.Set;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.osgi.service.resolver.BundleDescription;
+import org.eclipse.osgi.service.resolver.State;
+import org.eclipse.osgi.service.resolver.StateObjectFactory;
+import org.eclipse.pde.core.plugin.IPluginModelBase;
+import org.eclipse.pde.core.plugin.PluginRegistry;
+import org.eclipse.pde.internal.core.PDECore;
+import org.eclipse.pde.internal.core.WorkspaceWiringSnapshot;
+import org.eclipse.pde.ui.tests.util.ProjectUtils;
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.rules.TestRule;
+import org.mockito.Mockito;
+import org.osgi.framework.BundleException;
+import org.osgi.framework.Constants;
+
+public class WorkspaceWiringSnapshotTest {
+
+	@ClassRule
+	public static final TestRule CLEAR_WORKSPACE = ProjectUtils.DELETE_ALL_WORKSPACE_PROJECTS_BEFORE_AND_AFTER;
+
+	@Rule
+	public final TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void testRewiredProjects() throws Exception {
+		IProject project = ProjectUtils.createPluginProject("wiring.a", "wiring.a", "1.0.0");
+		IPluginModelBase model = PluginRegistry.findModel(project);
+		assertNotNull(model);
+		State state = PDECore.getDefault().getModelManager().getState().getState();
+		File file = new File(folder.getRoot(), "snapshot");
+
+		WorkspaceWiringSnapshot snapshot = WorkspaceWiringSnapshot.load(file);
+		assertNull("no previous wiring", snapshot.update(state, new IPluginModelBase[] { model }));
+		snapshot.save();
+
+		snapshot = WorkspaceWiringSnapshot.load(file);
+		assertEquals(Set.of(), snapshot.update(state, new IPluginModelBase[] { model }));
+		assertEquals(Set.of("wiring.a"), snapshot.update(state, new IPluginModelBase[0]));
+		assertEquals(Set.of("wiring.a"), snapshot.update(state, new IPluginModelBase[] { model }));
+	}
+
+	@Test
+	public void testOnlyRewiredProjectsAreReported() throws Exception {
+		File file = new File(folder.getRoot(), "snapshot");
+		WorkspaceWiringSnapshot snapshot = WorkspaceWiringSnapshot.load(file);
+		State state = createState("1.0.0", "1.0.0");
+		assertNull(snapshot.update(state, new IPluginModelBase[] { model(state, "wiring.c") }));
+
+		state = createState("1.0.0", "2.0.0");
+		assertEquals("A target bundle the project is not wired to changed", Set.of(),
+				snapshot.update(state, new IPluginModelBase[] { model(state, "wiring.c") }));
+
+		state = createState("2.0.0", "2.0.0");
+		assertEquals("The exporter of a package imported by the project changed", Set.of("wiring.c"),
+				snapshot.update(state, new IPluginModelBase[] { model(state, "wiring.c") }));
+	}
+
+	@Test
+	public void testCorruptSnapshotIsDiscarded() throws Exception {
+		IProject project = ProjectUtils.createPluginProject("wiring.b", "wiring.b", "1.0.0");
+		IPluginModelBase model = PluginRegistry.findModel(project);
+		State state = PDECore.getDefault().getModelManager().getState().getState();
+		File file = folder.newFile("snapshot");
+		Files.writeString(file.toPath(), "garbage");
+
+		WorkspaceWiringSnapshot snapshot = WorkspaceWiringSnapshot.load(file);
+		assertNull(snapshot.update(state, new IPluginModelBase[] { model }));
+	}
+
+	/**
+	 * Creates a resolved state with a project importing a package from the
+	 * target bundle <code>lib</code> and an unrelated target bundle
+	 * <code>other</code>
+	 */
+	private static State createState(String libVersion, String otherVersion) throws BundleException {
+		StateObjectFactory factory = PDECore.getDefault().getModelManager().getState().getState().getFactory();
+		State state = factory.createState(true);
+		state.addBundle(createBundle(factory, state, 1, "lib", libVersion, Constants.EXPORT_PACKAGE, "wiring.p"));
+		state.addBundle(createBundle(factory, state, 2, "other", otherVersion, Constants.EXPORT_PACKAGE, "wiring.q"));
+		state.addBundle(createBundle(factory, state, 3, "wiring.c", "1.0.0", Constants.IMPORT_PACKAGE, "wiring.p"));
+		state.resolve(false);
+		return state;
+	}
+
+	private static BundleDescription createBundle(StateObjectFactory factory, State state, long id, String name,
+			String version, String header, String value) throws BundleException {
+		Dictionary<String, String> manifest = new Hashtable<>();
+		manifest.put(Constants.BUNDLE_MANIFESTVERSION, "2");
+		manifest.put(Constants.BUNDLE_SYMBOLICNAME, name);
+		manifest.put(Constants.BUNDLE_VERSION, version);
+		manifest.put(header, value);
+		return factory.createBundleDescription(state, manifest, "/target/" + name + '_' + version, id);
+	}
+
+	private static IPluginModelBase model(State state, String projectName) {
+		IProject project = Mockito.mock(IProject.class);
+		Mockito.when(project.getName()).thenReturn(projectName);
+		IResource resource = Mockito.mock(IResource.class);
+		Mockito.when(resource.getProject()).thenReturn(project);
+		IPluginModelBase model = Mockito.mock(IPluginModelBase.class);
+		Mockito.when(model.getUnderlyingResource()).thenReturn(resource);
+		Mockito.when(model.getBundleDescription()).thenReturn(state.getBundle(projectName, null));
+		return model;
+	}
+}
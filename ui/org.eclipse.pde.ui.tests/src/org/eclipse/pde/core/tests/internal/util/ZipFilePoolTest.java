@@ -0,0 +1,106 @@
+/*******************************************************************************
+ * Copyright (c) 2026 Eclipse Foundation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     Eclipse Foundation - shared pool of open bundle archives
+ *******************************************************************************/
+package org.eclipse.pde.core.tests.internal.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+
+import java.io.File;
+import java.util.Map;
+import java.util.zip.ZipFile;
+
+import org.eclipse.pde.internal.core.util.ZipFilePool;
+import org.eclipse.pde.ui.tests.util.ProjectUtils;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class ZipFilePoolTest {
+
+	@Rule
+	public final TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void testOpenJarIsShared() throws Exception {
+		File jar = createJar("a.jar", "a.txt");
+		ZipFilePool pool = new ZipFilePool(4);
+		try (ZipFilePool.Handle first = pool.acquire(jar); ZipFilePool.Handle second = pool.acquire(jar)) {
+			assertSame(first.getZipFile(), second.getZipFile());
+			assertNotNull(second.getZipFile().getEntry("a.txt"));
+		}
+		try (ZipFilePool.Handle third = pool.acquire(jar)) {
+			assertNotNull(third.getZipFile().getEntry("a.txt"));
+		}
+		assertEquals(1, pool.getOpenCount());
+		assertEquals(2, pool.getHitCount());
+		pool.clear();
+	}
+
+	@Test
+	public void testLeastRecentlyUsedJarIsClosed() throws Exception {
+		File a = createJar("a.jar", "a.txt");
+		File b = createJar("b.jar", "b.txt");
+		ZipFilePool pool = new ZipFilePool(1);
+		ZipFile zipA;
+		try (ZipFilePool.Handle handle = pool.acquire(a)) {
+			zipA = handle.getZipFile();
+		}
+		try (ZipFilePool.Handle handle = pool.acquire(b)) {
+			assertNotNull(handle.getZipFile().getEntry("b.txt"));
+		}
+		assertThrows(IllegalStateException.class, () -> zipA.getEntry("a.txt"));
+		assertEquals(2, pool.getOpenCount());
+		pool.clear();
+	}
+
+	@Test
+	public void testJarInUseIsClosedOnRelease() throws Exception {
+		File a = createJar("a.jar", "a.txt");
+		File b = createJar("b.jar", "b.txt");
+		ZipFilePool pool = new ZipFilePool(1);
+		ZipFilePool.Handle handleA = pool.acquire(a);
+		try (ZipFilePool.Handle handleB = pool.acquire(b)) {
+			// evicted, but still usable while acquired
+			assertNotNull(handleA.getZipFile().getEntry("a.txt"));
+		}
+		handleA.close();
+		assertThrows(IllegalStateException.class, () -> handleA.getZipFile().getEntry("a.txt"));
+		pool.clear();
+	}
+
+	@Test
+	public void testModifiedJarIsReopened() throws Exception {
+		File jar = createJar("a.jar", "a.txt");
+		ZipFilePool pool = new ZipFilePool(4);
+		ZipFile previous;
+		try (ZipFilePool.Handle handle = pool.acquire(jar)) {
+			previous = handle.getZipFile();
+		}
+		createJar("a.jar", "b.txt");
+		jar.setLastModified(jar.lastModified() + 10_000);
+		try (ZipFilePool.Handle handle = pool.acquire(jar)) {
+			assertNotSame(previous, handle.getZipFile());
+			assertNotNull(handle.getZipFile().getEntry("b.txt"));
+		}
+		assertEquals(2, pool.getOpenCount());
+		pool.clear();
+	}
+
+	private File createJar(String name, String entry) throws Exception {
+		return ProjectUtils.createJar(new File(folder.getRoot(), name), Map.of(entry, name));
+	}
+}
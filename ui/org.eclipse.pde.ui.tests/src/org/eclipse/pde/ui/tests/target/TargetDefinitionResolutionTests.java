@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2023 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -17,13 +17,19 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
 import static org.junit.Assert.assertTrue;
 
 import java.io.File;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
 import org.eclipse.equinox.frameworkadmin.BundleInfo;
 import org.eclipse.equinox.p2.metadata.IInstallableUnit;
 import org.eclipse.jdt.launching.JavaRuntime;
@@ -33,6 +39,8 @@ import org.eclipse.pde.core.target.ITargetLocation;
 import org.eclipse.pde.core.target.ITargetPlatformService;
 import org.eclipse.pde.core.target.NameVersionDescriptor;
 import org.eclipse.pde.core.target.TargetBundle;
+import org.eclipse.pde.core.target.TargetFeature;
+import org.eclipse.pde.internal.core.target.AbstractBundleContainer;
 import org.eclipse.pde.internal.core.target.IUBundleContainer;
 import org.eclipse.pde.ui.tests.PDETestCase;
 import org.junit.Test;
@@ -471,4 +479,139 @@ public class TargetDefinitionResolutionTests extends AbstractTargetTest {
 	}
 
 
+	/**
+	 * Tests that independent locations are resolved concurrently, i.e. that
+	 * two locations that each wait until the other one has started can be
+	 * resolved, and that the resulting status keeps the order of the
+	 * locations.
+	 */
+	@Test
+	public void testIndependentLocationsResolveConcurrently() throws Exception {
+		ITargetDefinition definition = getNewTarget();
+		CountDownLatch firstStarted = new CountDownLatch(1);
+		CountDownLatch thirdStarted = new CountDownLatch(1);
+		definition.setTargetLocations(new ITargetLocation[] {
+				new OverlappingLocation("first", firstStarted, thirdStarted, true),
+				new OverlappingLocation("second", null, null, false),
+				new OverlappingLocation("third", thirdStarted, firstStarted, true),
+				new OverlappingLocation("fourth", null, null, false) });
+
+		IStatus status = definition.resolve(null);
+
+		IStatus[] children = status.getChildren();
+		assertEquals("Wrong number of children", 2, children.length);
+		assertEquals("first", children[0].getMessage());
+		assertEquals("third", children[1].getMessage());
+		for (ITargetLocation location : definition.getTargetLocations()) {
+			assertTrue(location.isResolved());
+		}
+	}
+
+	/**
+	 * Tests that locations which are not known to be safe are resolved on the
+	 * calling thread, and that programming errors of concurrently resolved
+	 * locations reach the caller.
+	 */
+	@Test
+	public void testUnknownLocationsResolveSerially() throws Exception {
+		ITargetDefinition definition = getNewTarget();
+		OverlappingLocation first = new SerialLocation("first");
+		OverlappingLocation second = new SerialLocation("second");
+		definition.setTargetLocations(new ITargetLocation[] { first,
+				new OverlappingLocation("third", null, null, false),
+				second,
+				new OverlappingLocation("fourth", null, null, false) });
+
+		assertTrue(definition.resolve(null).isOK());
+		assertEquals(Thread.currentThread(), first.fResolver);
+		assertEquals(Thread.currentThread(), second.fResolver);
+
+		definition.setTargetLocations(new ITargetLocation[] { new OverlappingLocation("failing", null, null, false) {
+			@Override
+			protected TargetBundle[] resolveBundles(ITargetDefinition target, IProgressMonitor monitor) {
+				throw new IllegalStateException(getLocation(false));
+			}
+		}, new OverlappingLocation("other", null, null, false) });
+		IllegalStateException e = assertThrows(IllegalStateException.class, () -> definition.resolve(null));
+		assertEquals("failing", e.getMessage());
+	}
+
+	private static class OverlappingLocation extends AbstractBundleContainer {
+
+		private final String fName;
+		private final CountDownLatch fStarted;
+		private final CountDownLatch fOtherStarted;
+		private final boolean fFail;
+		volatile Thread fResolver;
+
+		/**
+		 * @param name name of the location, used as message of its error
+		 * @param started latch to count down when resolution starts or
+		 *            <code>null</code>
+		 * @param otherStarted latch to wait for before resolution completes or
+		 *            <code>null</code>
+		 * @param fail whether resolution fails
+		 */
+		OverlappingLocation(String name, CountDownLatch started, CountDownLatch otherStarted, boolean fail) {
+			fName = name;
+			fStarted = started;
+			fOtherStarted = otherStarted;
+			fFail = fail;
+		}
+
+		@Override
+		protected TargetBundle[] resolveBundles(ITargetDefinition definition, IProgressMonitor monitor)
+				throws CoreException {
+			fResolver = Thread.currentThread();
+			if (fStarted != null) {
+				fStarted.countDown();
+			}
+			if (fOtherStarted != null) {
+				try {
+					if (!fOtherStarted.await(30, TimeUnit.SECONDS)) {
+						throw new CoreException(Status.error(fName + " was not resolved concurrently"));
+					}
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+			if (fFail) {
+				throw new CoreException(Status.error(fName));
+			}
+			return new TargetBundle[0];
+		}
+
+		@Override
+		protected TargetFeature[] resolveFeatures(ITargetDefinition definition, IProgressMonitor monitor) {
+			return new TargetFeature[0];
+		}
+
+		@Override
+		protected boolean isConcurrentResolutionSafe() {
+			return true;
+		}
+
+		@Override
+		public String getType() {
+			return "Overlapping";
+		}
+
+		@Override
+		public String getLocation(boolean resolve) {
+			return fName;
+		}
+	}
+
+	private static class SerialLocation extends OverlappingLocation {
+
+		SerialLocation(String name) {
+			super(name, null, null, false);
+		}
+
+		@Override
+		protected boolean isConcurrentResolutionSafe() {
+			return false;
+		}
+	}
+
 }
\ No newline at end of file
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2022 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,8 +14,12 @@
  *******************************************************************************/
 package org.eclipse.pde.ui.tests.util;
 
+import java.io.File;
+import java.io.FileOutputStream;
 import java.io.IOException;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -26,7 +30,11 @@ import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
+import java.util.jar.JarFile;
 import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
 
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IProject;
@@ -446,4 +454,64 @@ public class ProjectUtils {
 		return featurePlugin;
 	}
 
+	/**
+	 * Returns the text of a bundle manifest with the given symbolic name and
+	 * version.
+	 */
+	public static String bundleManifest(String symbolicName, String version) {
+		return "Manifest-Version: 1.0\nBundle-ManifestVersion: 2\nBundle-SymbolicName: " + symbolicName
+				+ "\nBundle-Version: " + version + "\n";
+	}
+
+	/**
+	 * Writes a jar with the given entries. The entries are stored uncompressed
+	 * and without time, so the size of the jar only depends on the names and
+	 * contents of its entries.
+	 *
+	 * @param file
+	 *            the jar to write, replaced if it exists
+	 * @param entries
+	 *            the content of each entry by entry name
+	 * @return the given file
+	 */
+	public static File createJar(File file, Map<String, String> entries) throws IOException {
+		try (ZipOutputStream out = new ZipOutputStream(new FileOutputStream(file))) {
+			for (Entry<String, String> e : entries.entrySet()) {
+				byte[] bytes = e.getValue().getBytes(StandardCharsets.UTF_8);
+				CRC32 crc = new CRC32();
+				crc.update(bytes);
+				ZipEntry entry = new ZipEntry(e.getKey());
+				entry.setMethod(ZipEntry.STORED);
+				entry.setSize(bytes.length);
+				entry.setCrc(crc.getValue());
+				entry.setTime(0);
+				out.putNextEntry(entry);
+				out.write(bytes);
+				out.closeEntry();
+			}
+		}
+		return file;
+	}
+
+	/**
+	 * Writes a jarred bundle with the given manifest.
+	 *
+	 * @return the given file
+	 */
+	public static File createBundleJar(File file, String manifest) throws IOException {
+		return createJar(file, Map.of(JarFile.MANIFEST_NAME, manifest));
+	}
+
+	/**
+	 * Creates a bundle in directory form with the given manifest.
+	 *
+	 * @return the given directory
+	 */
+	public static File createBundleDirectory(File directory, String manifest) throws IOException {
+		File file = new File(directory, JarFile.MANIFEST_NAME);
+		file.getParentFile().mkdirs();
+		Files.writeString(file.toPath(), manifest);
+		return directory;
+	}
+
 }
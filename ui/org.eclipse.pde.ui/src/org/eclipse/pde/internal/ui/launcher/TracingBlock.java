@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2017 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -19,7 +19,6 @@ package org.eclipse.pde.internal.ui.launcher;
 import static org.eclipse.swt.events.SelectionListener.widgetSelectedAdapter;
 
 import java.lang.reflect.InvocationTargetException;
-import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -454,13 +453,7 @@ public class TracingBlock {
 	private IPluginModelBase[] getTraceableModels() {
 		if (fTraceableModels == null) {
 			IPluginModelBase[] models = PluginRegistry.getActiveModels();
-			List<IPluginModelBase> result = new ArrayList<>();
-			for (IPluginModelBase model : models) {
-				if (TracingOptionsManager.isTraceable(model)) {
-					result.add(model);
-				}
-			}
-			fTraceableModels = result.toArray(new IPluginModelBase[result.size()]);
+			fTraceableModels = PDECore.getDefault().getTracingOptionsManager().getTraceableModels(models, null);
 		}
 		return fTraceableModels;
 	}